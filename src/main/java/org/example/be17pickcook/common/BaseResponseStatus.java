@@ -163,6 +163,7 @@ public enum BaseResponseStatus {
     INVALID_SORT_TYPE(false, 4902, "유효하지 않은 정렬 기준입니다."),
     INVALID_EXPIRATION_STATUS(false, 4903, "유효하지 않은 유통기한 상태입니다."),
     FILTER_PROCESSING_ERROR(false, 4904, "필터링 처리 중 오류가 발생했습니다."),
+    INVALID_CURSOR(false, 4905, "유효하지 않은 페이지 커서입니다."),
 
     // =================================================================
     // 41000번대: 리뷰 관련 오류
@@ -221,7 +222,8 @@ public enum BaseResponseStatus {
     // 60000번대: 서버 내부 오류
     // =================================================================
     EMAIL_SEND_FAILED(false, 60000, "인증 이메일 발송에 실패했습니다. 잠시 후 다시 시도해주세요."),
-    SERVER_ERROR(false, 60001, "서버와의 연결에 실패하였습니다.");
+    SERVER_ERROR(false, 60001, "서버와의 연결에 실패하였습니다."),
+    SEARCH_INDEX_NOT_READY(false, 60002, "검색 색인을 준비 중입니다. 잠시 후 다시 시도해주세요.");
 
     // =================================================================
     // 필드 및 생성자
@@ -0,0 +1,48 @@
+package org.example.be17pickcook.common;
+
+import org.example.be17pickcook.common.exception.BaseException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이지네이션용 커서 인코딩
+ * - "정렬 키:ID"를 URL-safe Base64로 감싼 불투명 문자열
+ * - 정렬 키 자체에 ':'가 들어갈 수 있으므로(날짜 등) 마지막 ':' 기준으로 분리
+ */
+public final class CursorCodec {
+
+    private CursorCodec() {
+    }
+
+    public static String encode(String sortKey, long id) {
+        String raw = (sortKey != null ? sortKey : "") + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return 빈 문자열이면 null (첫 페이지)
+     */
+    public static Cursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(':');
+            if (sep < 0) throw BaseException.from(BaseResponseStatus.INVALID_CURSOR);
+            return new Cursor(raw.substring(0, sep), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException e) {
+            throw BaseException.from(BaseResponseStatus.INVALID_CURSOR);
+        }
+    }
+
+    public record Cursor(String sortKey, long id) {
+
+        public long sortKeyAsLong() {
+            try {
+                return Long.parseLong(sortKey);
+            } catch (NumberFormatException e) {
+                throw BaseException.from(BaseResponseStatus.INVALID_CURSOR);
+            }
+        }
+    }
+}
@@ -10,13 +10,29 @@ public class PageResponse<T> {
     private final int totalPages;
     private final long totalElements;
     private final int size;
+    // 커서 방식 조회 시 다음 페이지 커서 (마지막 페이지거나 페이지 번호 방식이면 null)
+    private final String nextCursor;
 
     public PageResponse(List<T> content, int currentPage, int totalPages, long totalElements, int size) {
+        this(content, currentPage, totalPages, totalElements, size, null);
+    }
+
+    public PageResponse(List<T> content, int currentPage, int totalPages, long totalElements, int size, String nextCursor) {
         this.content = content;
         this.currentPage = currentPage;
         this.totalPages = totalPages;
         this.totalElements = totalElements;
         this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 커서 방식 응답 (페이지 번호 없음, 전체 개수를 세지 않았으면 totalElements/totalPages = -1)
+     */
+    public static <T> PageResponse<T> ofCursor(List<T> content, int size, String nextCursor, Long totalElements) {
+        long total = totalElements != null ? totalElements : -1;
+        int totalPages = totalElements != null ? (int) Math.ceil((double) totalElements / size) : -1;
+        return new PageResponse<>(content, -1, totalPages, total, size, nextCursor);
     }
 
     public static <T> PageResponse<T> from(org.springframework.data.domain.Page<T> page) {
@@ -0,0 +1,68 @@
+package org.example.be17pickcook.common.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 증감 누적 버퍼 (락 없음)
+ * - 키마다 LongAdder(내부적으로 셀 분산)에 누적 → 인기 키에 요청이 몰려도 경합이 작음
+ * - drain()으로 누적값을 꺼내고 0으로 되돌림 (셀 단위 getAndSet이라 누락 없음)
+ * - 한 번의 drain 동안 변화가 없던 키는 제거, 제거와 동시에 들어온 증감은 다시 버퍼에 넣음
+ */
+public class DeltaCounterBuffer<K> {
+
+    private final ConcurrentHashMap<K, LongAdder> adders = new ConcurrentHashMap<>();
+
+    public void add(K key, long delta) {
+        if (delta == 0) return;
+        LongAdder adder = adders.computeIfAbsent(key, k -> new LongAdder());
+        adder.add(delta);
+
+        // drain이 그 사이 이 adder를 제거했다면 방금 더한 값을 현재 adder로 옮김
+        if (adders.get(key) != adder) {
+            long late = adder.sumThenReset();
+            if (late != 0) add(key, late);
+        }
+    }
+
+    /** 아직 꺼내지 않은 누적값 */
+    public long pending(K key) {
+        LongAdder adder = adders.get(key);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 0이 아닌 누적값을 모두 꺼냄
+     */
+    public Map<K, Long> drain() {
+        Map<K, Long> drained = new HashMap<>();
+        for (Map.Entry<K, LongAdder> e : adders.entrySet()) {
+            K key = e.getKey();
+            LongAdder adder = e.getValue();
+
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                drained.merge(key, delta, Long::sum);
+                continue;
+            }
+
+            // 지난 주기 이후 변화 없는 키 제거 (제거 직전에 들어온 값은 다시 반영)
+            if (adders.remove(key, adder)) {
+                long late = adder.sumThenReset();
+                if (late != 0) add(key, late);
+            }
+        }
+        return drained;
+    }
+
+    /** 반영에 실패한 값을 되돌림 */
+    public void restore(Map<K, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    public int size() {
+        return adders.size();
+    }
+}
@@ -0,0 +1,97 @@
+package org.example.be17pickcook.common.counter;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 최근에 본 키 필터 (크기 고정, 확률적)
+ * - 블룸 필터 두 세대(current, previous)를 window마다 교대 → 키는 최소 window, 최대 2 * window 동안 기억
+ * - 메모리는 키 수와 무관하게 2 * bits 비트로 고정
+ * - 오탐(처음 보는 키를 본 적 있다고 판단)은 가능, 미탐은 없음
+ *   → 조회수 중복 제거에 쓰면 일부 조회가 덜 세어질 수 있지만 같은 사용자 반복 조회는 확실히 걸러짐
+ */
+public class RecentKeyFilter {
+
+    private static final int HASHES = 4;
+
+    private final int bits;
+    private final long windowMillis;
+    private final LongSupplier clock;
+
+    private volatile AtomicLongArray current;
+    private volatile AtomicLongArray previous;
+    private volatile long rotatedAt;
+
+    /**
+     * @param bits         세대별 비트 수 (2의 거듭제곱으로 올림)
+     * @param windowMillis 세대 교대 주기
+     */
+    public RecentKeyFilter(int bits, long windowMillis) {
+        this(bits, windowMillis, System::currentTimeMillis);
+    }
+
+    // 테스트에서 시각을 직접 지정
+    RecentKeyFilter(int bits, long windowMillis, LongSupplier clock) {
+        this.bits = Integer.highestOneBit(Math.max(bits - 1, 63)) << 1;
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+        this.current = new AtomicLongArray(this.bits >>> 6);
+        this.previous = new AtomicLongArray(this.bits >>> 6);
+        this.rotatedAt = clock.getAsLong();
+    }
+
+    /**
+     * 처음 보는 키면 기록하고 true, 최근에 본 키면 false
+     */
+    public boolean addIfAbsent(long key) {
+        rotateIfExpired();
+
+        long h1 = mix(key);
+        long h2 = mix(h1) | 1;
+        int mask = bits - 1;
+
+        AtomicLongArray cur = current;
+        AtomicLongArray prev = previous;
+        boolean seen = true;
+        for (int i = 0; i < HASHES; i++) {
+            int bit = (int) (h1 + i * h2) & mask;
+            int word = bit >>> 6;
+            long flag = 1L << (bit & 63);
+
+            if ((prev.get(word) & flag) == 0 && !setBit(cur, word, flag)) {
+                seen = false;
+            } else if ((cur.get(word) & flag) == 0) {
+                // 이전 세대에만 있던 비트도 현재 세대로 옮겨 기억 기간을 이어감
+                setBit(cur, word, flag);
+            }
+        }
+        return !seen;
+    }
+
+    // 이미 켜져 있었으면 true
+    private static boolean setBit(AtomicLongArray array, int word, long flag) {
+        while (true) {
+            long value = array.get(word);
+            if ((value & flag) != 0) return true;
+            if (array.compareAndSet(word, value, value | flag)) return false;
+        }
+    }
+
+    private void rotateIfExpired() {
+        if (clock.getAsLong() - rotatedAt < windowMillis) return;
+        synchronized (this) {
+            long now = clock.getAsLong();
+            if (now - rotatedAt < windowMillis) return;
+            previous = current;
+            current = new AtomicLongArray(bits >>> 6);
+            rotatedAt = now;
+        }
+    }
+
+    // splitmix64
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
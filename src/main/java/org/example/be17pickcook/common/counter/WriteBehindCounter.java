@@ -0,0 +1,168 @@
+package org.example.be17pickcook.common.counter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 반정규화 카운트 컬럼 지연 반영 (write-behind)
+ * - 증감은 메모리 버퍼에 누적하고, 주기적으로 대상 타입별
+ *   "UPDATE ... SET count = count + ?" 배치로 한 트랜잭션에 반영
+ * - 같은 행 UPDATE가 요청마다 줄 서지 않으므로 인기 게시물의 행 잠금 경합 제거
+ * - 조회 시 pending()을 더해 방금 누른 좋아요/스크랩도 바로 보이게 함
+ * - 카운트를 따로 들고 있는 캐시는 addFlushListener()로 DB에 반영된 증감을 받아 보정
+ *   (반영마다 세대 번호를 붙여 전달 → 캐시는 로딩 시점 세대 이하의 증감을 건너뜀)
+ *
+ * @param <T> 대상 타입 enum (RECIPE, POST ...)
+ */
+@Slf4j
+public abstract class WriteBehindCounter<T extends Enum<T>> {
+
+    private final DeltaCounterBuffer<Key<T>> buffer = new DeltaCounterBuffer<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+
+    // 꺼내서 DB에 반영 중인 값 (반영이 끝나기 전 조회에도 포함)
+    private volatile Map<Key<T>, Long> inFlight = Collections.emptyMap();
+
+    // DB 반영이 끝난 증감을 받는 쪽 (캐시된 카운트 보정)
+    private final List<FlushListener<T>> flushListeners = new CopyOnWriteArrayList<>();
+
+    // 시작된 반영 횟수 = 세대 번호, 마지막으로 끝난(리스너 호출까지) 세대 (flush()로 동기화, 읽기는 아무 때나)
+    private volatile long startedGeneration;
+    private volatile long finishedGeneration;
+
+    protected WriteBehindCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 대상 타입별 UPDATE 문 (파라미터 순서: delta, 대상 ID)
+     */
+    protected abstract String updateSql(T type);
+
+    /**
+     * 대상 타입별 현재 카운트 조회문 (파라미터: 대상 ID, 행이 없으면 결과 없음)
+     */
+    protected abstract String countSql(T type);
+
+    /**
+     * 증감 기록 (트랜잭션 안이면 커밋 후에 반영, 롤백되면 버림)
+     */
+    public void add(T type, Long targetId, long delta) {
+        Key<T> key = new Key<>(type, targetId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    buffer.add(key, delta);
+                }
+            });
+        } else {
+            buffer.add(key, delta);
+        }
+    }
+
+    /** DB에 아직 반영되지 않은 증감 */
+    public long pending(T type, Long targetId) {
+        Key<T> key = new Key<>(type, targetId);
+        return buffer.pending(key) + inFlight.getOrDefault(key, 0L);
+    }
+
+    /**
+     * DB 카운트 + 미반영 증감 (대상이 없으면 null)
+     * - PK로 카운트 컬럼 하나만 읽으므로 대상 존재 확인을 겸함
+     */
+    public Long currentCount(T type, Long targetId) {
+        List<Long> rows = jdbcTemplate.query(countSql(type), (rs, rowNum) -> rs.getLong(1), targetId);
+        if (rows.isEmpty()) return null;
+        return Math.max(rows.get(0) + pending(type, targetId), 0L);
+    }
+
+    /**
+     * DB 반영(커밋)이 끝난 증감을 전달받을 리스너 등록
+     */
+    public void addFlushListener(FlushListener<T> listener) {
+        flushListeners.add(listener);
+    }
+
+    /** 지금까지 시작된 반영의 세대 번호 (반영마다 1 증가) */
+    public long flushGeneration() {
+        return startedGeneration;
+    }
+
+    /** 반영(DB 커밋 ~ 리스너 호출)이 진행 중인지 */
+    public boolean isFlushing() {
+        return startedGeneration != finishedGeneration;
+    }
+
+    @Scheduled(fixedDelayString = "${counter.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        Map<Key<T>, Long> drained = buffer.drain();
+        if (drained.isEmpty()) return;
+        inFlight = drained;
+        long generation = ++startedGeneration;
+        try {
+            write(drained, generation);
+        } finally {
+            finishedGeneration = generation;
+        }
+    }
+
+    private void write(Map<Key<T>, Long> drained, long generation) {
+        // 타입별로 묶고 ID 순으로 정렬 (동시 트랜잭션 간 잠금 순서 고정)
+        Map<T, List<Object[]>> batches = new TreeMap<>();
+        drained.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getKey().targetId()))
+                .forEach(e -> batches.computeIfAbsent(e.getKey().type(), k -> new ArrayList<>())
+                        .add(new Object[]{e.getValue(), e.getKey().targetId()}));
+
+        try {
+            tx.executeWithoutResult(status ->
+                    batches.forEach((type, args) -> jdbcTemplate.batchUpdate(updateSql(type), args)));
+        } catch (RuntimeException e) {
+            inFlight = Collections.emptyMap();
+            buffer.restore(drained);
+            log.warn("{} 카운트 반영 실패, 다음 주기에 재시도: {}건, {}",
+                    getClass().getSimpleName(), drained.size(), e.getMessage());
+            return;
+        } finally {
+            inFlight = Collections.emptyMap();
+        }
+
+        // 커밋된 뒤에만 전달 (리스너 오류가 재반영으로 이어지지 않도록 따로 처리)
+        for (FlushListener<T> listener : flushListeners) {
+            try {
+                listener.flushed(generation, drained);
+            } catch (RuntimeException e) {
+                log.warn("{} 반영 리스너 실패: {}", getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public record Key<T>(T type, long targetId) {
+    }
+
+    @FunctionalInterface
+    public interface FlushListener<T> {
+        /**
+         * @param generation 이 반영의 세대 번호 (flushGeneration()과 같은 값)
+         * @param applied    DB에 커밋된 증감
+         */
+        void flushed(long generation, Map<Key<T>, Long> applied);
+    }
+}
@@ -26,7 +26,11 @@ public class GlobalExceptionHandler {
 
     // PickCook 상태코드 → HTTP 상태코드 변환
     private int httpStatusCodeMapper(int statusCode) {
-        if (statusCode >= 50000) {
+        if (statusCode == BaseResponseStatus.SEARCH_INDEX_NOT_READY.getCode()) {
+            return 503; // 일시적으로 처리 불가 (재시도 가능)
+        } else if (statusCode == BaseResponseStatus.INVALID_CURSOR.getCode()) {
+            return 400; // 잘못되거나 변조된 커서 (클라이언트 요청 오류)
+        } else if (statusCode >= 50000) {
             return 500; // 서버 오류 (DATABASE_ERROR, SERVER_ERROR)
         } else if (statusCode >= 40000) {
             return 500; // 응답 오류 (RESPONSE_ERROR, ORDERS_ERROR 등)
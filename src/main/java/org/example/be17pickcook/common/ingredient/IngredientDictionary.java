@@ -0,0 +1,296 @@
+package org.example.be17pickcook.common.ingredient;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.be17pickcook.common.search.AhoCorasick;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * 재료 동의어 / 정규화 사전
+ * - "대표 재료명 = 동의어, ... | 연관어, ..." 형식의 사전을 Aho–Corasick 오토마톤으로 컴파일
+ * - 재료명은 이름 전체가 동의어와 같을 때만 대표 재료명으로 바꿈 (계란 → 달걀, 토마토케첩은 그대로)
+ * - 상품명/검색어는 한 번 훑어 포함된 재료를 모두 찾음 (계란 30구 → 달걀)
+ * - 레시피 재료 색인, 냉장고 추천, 연관 상품 매칭, 레시피 검색이 같은 사전을 사용
+ * - ingredient.dictionary.path 파일이 있으면 그 파일을, 없으면 classpath 기본 사전을 사용
+ * - 파일이 바뀌면 주기적으로 감지해 다시 컴파일하고 IngredientDictionaryReloadedEvent 발행 (재기동 불필요)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngredientDictionary {
+
+    private static final String DEFAULT_RESOURCE = "ingredient-dictionary.txt";
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${ingredient.dictionary.path:./data/ingredient-dictionary.txt}")
+    private String dictionaryPath;
+
+    // 조회는 잠금 없이 현재 스냅샷을 읽고, 다시 읽을 때 통째로 교체
+    private volatile Compiled compiled = Compiled.parse(List.of());
+    private volatile long loadedModifiedAt = -1;
+
+    // =================================================================
+    // 로드 / 다시 읽기
+    // =================================================================
+
+    // 기동 시에는 색인들이 아직 구축 전이므로 이벤트 없이 로드만
+    @PostConstruct
+    public void init() {
+        load();
+    }
+
+    @Scheduled(fixedDelayString = "${ingredient.dictionary.reload-check-ms:30000}")
+    public void reloadIfChanged() {
+        Path path = Paths.get(dictionaryPath);
+        try {
+            long modifiedAt = Files.exists(path) ? Files.getLastModifiedTime(path).toMillis() : -1;
+            if (modifiedAt != loadedModifiedAt) reload();
+        } catch (IOException e) {
+            log.warn("재료 사전 변경 확인 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사전을 다시 읽어 내용이 바뀌었으면 교체 후 이벤트 발행
+     *
+     * @return 내용이 바뀌었는지 여부
+     */
+    public synchronized boolean reload() {
+        if (!load()) return false;
+        eventPublisher.publishEvent(new IngredientDictionaryReloadedEvent(compiled.checksum));
+        return true;
+    }
+
+    private synchronized boolean load() {
+        Path path = Paths.get(dictionaryPath);
+        List<String> lines;
+        long modifiedAt = -1;
+        try {
+            if (Files.exists(path)) {
+                modifiedAt = Files.getLastModifiedTime(path).toMillis();
+                lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+            } else {
+                try (InputStream in = new ClassPathResource(DEFAULT_RESOURCE).getInputStream()) {
+                    lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).lines().toList();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("재료 사전 로드 실패, 기존 사전을 유지합니다: {}", e.getMessage());
+            return false;
+        }
+        loadedModifiedAt = modifiedAt;
+
+        Compiled next = Compiled.parse(lines);
+        if (next.checksum == compiled.checksum) return false;
+
+        compiled = next;
+        log.info("재료 사전 로드: 대표 재료 {}개, 패턴 {}개, checksum {}",
+                next.canonicalNames.size(), next.patternCount, Long.toHexString(next.checksum));
+        return true;
+    }
+
+    // =================================================================
+    // 조회
+    // =================================================================
+
+    /**
+     * text에서 찾은 재료 (왼쪽부터, 겹치면 긴 것 우선, 서로 겹치지 않음)
+     */
+    public List<Match> matches(String text) {
+        return compiled.matches(text);
+    }
+
+    /**
+     * text에 등장하는 대표 재료 ID (등장 순서, 중복 제거)
+     */
+    public int[] canonicalIds(String text) {
+        return matches(text).stream().mapToInt(Match::canonicalId).distinct().toArray();
+    }
+
+    /**
+     * 재료명 → 대표 재료명 (레시피 재료/냉장고 재료 키)
+     * - 앞뒤 공백 제거 + 소문자로 바꾼 이름 전체가 사전의 재료명/동의어와 같을 때만 대표 재료명 (계란 → 달걀)
+     * - 사전 재료를 포함하기만 한 이름은 그대로 둠 (토마토케첩 ≠ 토마토, 다른 재료로 합쳐지지 않도록)
+     */
+    public String canonicalTerm(String name) {
+        if (name == null) return "";
+        Compiled current = compiled;
+        String normalized = normalize(name);
+        Integer id = current.idsByPattern.get(normalized);
+        return id != null ? current.canonicalNames.get(id) : normalized;
+    }
+
+    /**
+     * text의 동의어 구간을 대표 재료명으로 바꾼 소문자 문자열 (검색 색인/검색어 정규화용)
+     */
+    public String rewrite(String text) {
+        if (text == null || text.isEmpty()) return "";
+        Compiled current = compiled;
+        String lower = lowerChars(text);
+
+        StringBuilder sb = new StringBuilder(lower.length());
+        int pos = 0;
+        for (Match match : current.matches(text)) {
+            sb.append(lower, pos, match.start()).append(current.canonicalNames.get(match.canonicalId()));
+            pos = match.end();
+        }
+        return sb.append(lower, pos, lower.length()).toString();
+    }
+
+    /** 대표 재료 ID (사전에 없으면 -1) */
+    public int canonicalId(String canonicalTerm) {
+        return compiled.idsByName.getOrDefault(canonicalTerm, -1);
+    }
+
+    /** 대표 재료의 연관어 (연관 상품 매칭용) */
+    public List<String> relatedTerms(String canonicalTerm) {
+        Compiled current = compiled;
+        int id = current.idsByName.getOrDefault(canonicalTerm, -1);
+        return id >= 0 ? current.related.get(id) : List.of();
+    }
+
+    /** 사전 내용의 CRC32 (파생 색인/캐시가 어떤 사전으로 만들어졌는지 구분) */
+    public long checksum() {
+        return compiled.checksum;
+    }
+
+    public static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 인덱스가 어긋나지 않도록 문자 단위 소문자화
+    private static String lowerChars(String text) {
+        char[] chars = new char[text.length()];
+        for (int i = 0; i < chars.length; i++) chars[i] = Character.toLowerCase(text.charAt(i));
+        return new String(chars);
+    }
+
+    /**
+     * text[start, end) 구간이 대표 재료 canonicalId와 일치
+     */
+    public record Match(int start, int end, int canonicalId) {
+    }
+
+    // =================================================================
+    // 컴파일된 사전
+    // =================================================================
+
+    private static final class Compiled {
+        private final List<String> canonicalNames;
+        private final Map<String, Integer> idsByName;
+        // 대표 재료명/동의어 → 대표 재료 ID
+        private final Map<String, Integer> idsByPattern;
+        private final List<List<String>> related;
+        private final AhoCorasick automaton;
+        private final int patternCount;
+        private final long checksum;
+
+        private Compiled(List<String> canonicalNames, Map<String, Integer> idsByName, Map<String, Integer> idsByPattern,
+                         List<List<String>> related, AhoCorasick automaton, int patternCount, long checksum) {
+            this.canonicalNames = canonicalNames;
+            this.idsByName = idsByName;
+            this.idsByPattern = idsByPattern;
+            this.related = related;
+            this.automaton = automaton;
+            this.patternCount = patternCount;
+            this.checksum = checksum;
+        }
+
+        static Compiled parse(List<String> lines) {
+            List<String> canonicalNames = new ArrayList<>();
+            Map<String, Integer> idsByName = new HashMap<>();
+            List<List<String>> related = new ArrayList<>();
+            Map<String, Integer> patterns = new LinkedHashMap<>();
+            CRC32 crc = new CRC32();
+
+            for (String raw : lines) {
+                String line = raw.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                crc.update(line.getBytes(StandardCharsets.UTF_8));
+                crc.update('\n');
+
+                int eq = line.indexOf('=');
+                String canonical = normalize(eq >= 0 ? line.substring(0, eq) : line);
+                if (canonical.isEmpty()) continue;
+                String rest = eq >= 0 ? line.substring(eq + 1) : "";
+                int bar = rest.indexOf('|');
+
+                Integer id = idsByName.get(canonical);
+                if (id == null) {
+                    id = canonicalNames.size();
+                    canonicalNames.add(canonical);
+                    idsByName.put(canonical, id);
+                    related.add(new ArrayList<>());
+                }
+                // 대표 재료명 자체도 패턴 (다른 줄의 동의어로 먼저 등록됐으면 대표 재료가 우선)
+                patterns.put(canonical, id);
+                for (String synonym : split(bar >= 0 ? rest.substring(0, bar) : rest)) {
+                    patterns.putIfAbsent(synonym, id);
+                }
+                if (bar >= 0) related.get(id).addAll(split(rest.substring(bar + 1)));
+            }
+
+            return new Compiled(canonicalNames, idsByName, patterns, related.stream().map(List::copyOf).toList(),
+                    AhoCorasick.build(patterns), patterns.size(), crc.getValue());
+        }
+
+        private static List<String> split(String csv) {
+            List<String> values = new ArrayList<>();
+            for (String value : csv.split(",")) {
+                String term = normalize(value);
+                if (!term.isEmpty()) values.add(term);
+            }
+            return values;
+        }
+
+        /**
+         * 왼쪽부터 겹치지 않게, 같은 위치에서 시작하면 긴 일치 우선
+         * - 영문 패턴은 단어 중간 일치 제외 (egg ≠ eggplant)
+         */
+        List<Match> matches(String text) {
+            if (text == null || text.isEmpty()) return List.of();
+            String lower = lowerChars(text);
+
+            List<Match> all = new ArrayList<>();
+            automaton.scan(lower, (start, end, value) -> {
+                if (isWordBounded(lower, start, end)) all.add(new Match(start, end, value));
+            });
+            if (all.size() <= 1) return all;
+
+            all.sort(Comparator.comparingInt(Match::start).thenComparing(Comparator.comparingInt(Match::end).reversed()));
+            List<Match> selected = new ArrayList<>();
+            int coveredUntil = 0;
+            for (Match match : all) {
+                if (match.start() < coveredUntil) continue;
+                selected.add(match);
+                coveredUntil = match.end();
+            }
+            return selected;
+        }
+
+        private static boolean isWordBounded(String text, int start, int end) {
+            if (!isAsciiLetter(text.charAt(start)) || !isAsciiLetter(text.charAt(end - 1))) return true;
+            return (start == 0 || !isAsciiLetter(text.charAt(start - 1)))
+                    && (end == text.length() || !isAsciiLetter(text.charAt(end)));
+        }
+
+        private static boolean isAsciiLetter(char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+        }
+    }
+}
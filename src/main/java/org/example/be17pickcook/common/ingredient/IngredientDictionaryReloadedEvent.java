@@ -0,0 +1,15 @@
+package org.example.be17pickcook.common.ingredient;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 재료 사전 내용 변경 이벤트
+ * - 사전을 다시 읽어 내용(checksum)이 바뀌었을 때 발행
+ * - 사전으로 정규화한 재료명을 보관하는 색인/캐시 재구축에 사용
+ */
+@Getter
+@AllArgsConstructor
+public class IngredientDictionaryReloadedEvent {
+    private final long checksum;
+}
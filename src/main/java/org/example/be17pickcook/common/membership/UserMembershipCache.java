@@ -0,0 +1,157 @@
+package org.example.be17pickcook.common.membership;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 "눌렀는지" 여부 캐시 (좋아요/스크랩 등)
+ * - (사용자, 대상 타입)마다 대상 ID 오름차순 long 배열 하나를 보관 → 조회는 이진 탐색
+ * - 처음 조회할 때 해당 사용자의 대상 ID 전체를 한 번에 읽어 옴 (lazy)
+ * - 최근에 쓰지 않은 사용자부터 제거 (LRU, 최대 maxEntries개)
+ * - 토글 시 커밋 후 배열을 교체하는 방식(copy-on-write)으로 갱신하므로 조회에 잠금이 없음
+ *
+ * @param <T> 대상 타입 enum (RECIPE, POST ...)
+ */
+public abstract class UserMembershipCache<T extends Enum<T>> {
+
+    private final int maxEntries;
+    private final Map<Key<T>, long[]> entries;
+
+    // 로딩 중인 키 → 토큰 (로딩 중에 토글이 끼어들면 제거되어 로딩 결과를 캐시하지 않음)
+    private final Map<Key<T>, Long> loading = new ConcurrentHashMap<>();
+    private final AtomicLong loadTokens = new AtomicLong();
+
+    protected UserMembershipCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key<T>, long[]> eldest) {
+                return size() > UserMembershipCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 사용자가 해당 타입에서 누른 대상 ID 전체 조회
+     */
+    protected abstract List<Long> loadTargetIds(Integer userIdx, T type);
+
+    // =================================================================
+    // 조회
+    // =================================================================
+
+    public boolean contains(Integer userIdx, T type, Long targetId) {
+        if (userIdx == null || targetId == null) return false;
+        return Arrays.binarySearch(members(userIdx, type), targetId) >= 0;
+    }
+
+    /**
+     * targetIds 중 사용자가 누른 ID만 반환
+     */
+    public Set<Long> filter(Integer userIdx, T type, Collection<Long> targetIds) {
+        if (userIdx == null || targetIds.isEmpty()) return Collections.emptySet();
+
+        long[] members = members(userIdx, type);
+        if (members.length == 0) return Collections.emptySet();
+
+        Set<Long> result = new HashSet<>();
+        for (Long id : targetIds) {
+            if (id != null && Arrays.binarySearch(members, id) >= 0) result.add(id);
+        }
+        return result;
+    }
+
+    private long[] members(Integer userIdx, T type) {
+        Key<T> key = new Key<>(userIdx, type);
+        long[] members;
+        synchronized (entries) {
+            members = entries.get(key);
+        }
+        return members != null ? members : load(key);
+    }
+
+    private long[] load(Key<T> key) {
+        long token = loadTokens.incrementAndGet();
+        loading.put(key, token);
+
+        long[] members = loadTargetIds(key.userIdx(), key.type()).stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+
+        // 로딩 도중 토글이 있었으면 이번 결과는 이번 요청에만 쓰고 캐시하지 않음
+        if (loading.remove(key, token)) {
+            synchronized (entries) {
+                entries.putIfAbsent(key, members);
+            }
+        }
+        return members;
+    }
+
+    // =================================================================
+    // 토글 반영
+    // =================================================================
+
+    /**
+     * 토글 결과 반영 (트랜잭션 안이면 커밋 후에 반영)
+     */
+    public void update(Integer userIdx, T type, Long targetId, boolean member) {
+        Key<T> key = new Key<>(userIdx, type);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(key, targetId, member);
+                }
+            });
+        } else {
+            apply(key, targetId, member);
+        }
+    }
+
+    private void apply(Key<T> key, long targetId, boolean member) {
+        loading.remove(key);
+        synchronized (entries) {
+            long[] members = entries.get(key);
+            if (members == null) return;
+
+            int pos = Arrays.binarySearch(members, targetId);
+            if (member && pos < 0) {
+                int insertAt = -pos - 1;
+                long[] next = new long[members.length + 1];
+                System.arraycopy(members, 0, next, 0, insertAt);
+                next[insertAt] = targetId;
+                System.arraycopy(members, insertAt, next, insertAt + 1, members.length - insertAt);
+                entries.put(key, next);
+            } else if (!member && pos >= 0) {
+                long[] next = new long[members.length - 1];
+                System.arraycopy(members, 0, next, 0, pos);
+                System.arraycopy(members, pos + 1, next, pos, members.length - pos - 1);
+                entries.put(key, next);
+            }
+        }
+    }
+
+    public void invalidate(Integer userIdx, T type) {
+        Key<T> key = new Key<>(userIdx, type);
+        loading.remove(key);
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Key<T>(Integer userIdx, T type) {
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.be17pickcook.common.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 진행 위치 (재시작 지점)
+ * - 작업 이름별 1행
+ * - 청크 처리가 끝날 때마다 마지막으로 처리한 ID를 기록
+ */
+@Entity
+@Table(name = "batch_job_checkpoint")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    /** 마지막으로 처리 완료한 ID (처음부터면 0) */
+    @Column(nullable = false)
+    private Long lastProcessedId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    public void start() {
+        this.lastProcessedId = 0L;
+        this.status = Status.RUNNING;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+    }
+
+    public void resume() {
+        this.status = Status.RUNNING;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advance(Long lastProcessedId) {
+        this.lastProcessedId = lastProcessedId;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void fail() {
+        this.status = Status.FAILED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public static BatchJobCheckpoint of(String jobName) {
+        return BatchJobCheckpoint.builder()
+                .jobName(jobName)
+                .lastProcessedId(0L)
+                .status(Status.COMPLETED)
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package org.example.be17pickcook.common.repository;
+
+import org.example.be17pickcook.common.model.BatchJobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BatchJobCheckpointRepository extends JpaRepository<BatchJobCheckpoint, String> {
+}
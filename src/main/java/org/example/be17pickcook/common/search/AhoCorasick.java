@@ -0,0 +1,140 @@
+package org.example.be17pickcook.common.search;
+
+import java.util.*;
+
+/**
+ * Aho–Corasick 다중 패턴 매칭 오토마톤 (불변)
+ * - 패턴마다 int 값을 붙여 구축하고, 본문을 한 번 훑으며 모든 일치 위치를 보고
+ * - 전이는 (노드 << 16 | 문자) → 다음 노드 해시맵, 실패 링크는 BFS로 미리 계산
+ * - 대소문자는 호출 측에서 맞춤 (패턴/본문 모두 같은 방식으로 정규화)
+ */
+public final class AhoCorasick {
+
+    private final Map<Long, Integer> transitions;
+    private final int[] fail;
+    // 노드에서 끝나는 패턴 값 (-1이면 없음)
+    private final int[] values;
+    private final int[] depths;
+    // 실패 링크를 따라가며 만나는 가장 가까운 "패턴이 끝나는" 노드 (-1이면 없음)
+    private final int[] outputLinks;
+
+    private AhoCorasick(Map<Long, Integer> transitions, int[] fail, int[] values, int[] depths, int[] outputLinks) {
+        this.transitions = transitions;
+        this.fail = fail;
+        this.values = values;
+        this.depths = depths;
+        this.outputLinks = outputLinks;
+    }
+
+    @FunctionalInterface
+    public interface MatchVisitor {
+        /** text[start, end) 구간이 value 패턴과 일치 */
+        void visit(int start, int end, int value);
+    }
+
+    /**
+     * @param patterns 패턴 → 값 (빈 패턴은 무시, 같은 패턴은 마지막 값)
+     */
+    public static AhoCorasick build(Map<String, Integer> patterns) {
+        Map<Long, Integer> transitions = new HashMap<>();
+        List<Integer> values = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+        values.add(-1);
+        depths.add(0);
+
+        // 1. trie
+        for (Map.Entry<String, Integer> e : patterns.entrySet()) {
+            String pattern = e.getKey();
+            if (pattern == null || pattern.isEmpty()) continue;
+            int node = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                long key = key(node, pattern.charAt(i));
+                Integer next = transitions.get(key);
+                if (next == null) {
+                    next = values.size();
+                    transitions.put(key, next);
+                    values.add(-1);
+                    depths.add(i + 1);
+                }
+                node = next;
+            }
+            values.set(node, e.getValue());
+        }
+
+        int size = values.size();
+        int[] fail = new int[size];
+        int[] outputLinks = new int[size];
+        int[] valueArray = values.stream().mapToInt(Integer::intValue).toArray();
+        int[] depthArray = depths.stream().mapToInt(Integer::intValue).toArray();
+        outputLinks[0] = -1;
+
+        // 2. 노드별 자식 목록 (BFS용)
+        Map<Integer, List<long[]>> children = new HashMap<>();
+        for (Map.Entry<Long, Integer> e : transitions.entrySet()) {
+            int parent = (int) (e.getKey() >>> 16);
+            char c = (char) (e.getKey() & 0xFFFF);
+            children.computeIfAbsent(parent, k -> new ArrayList<>()).add(new long[]{c, e.getValue()});
+        }
+
+        // 3. 실패 링크 / 출력 링크 (깊이 순)
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(0);
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (long[] child : children.getOrDefault(node, List.of())) {
+                char c = (char) child[0];
+                int next = (int) child[1];
+
+                int f = 0;
+                if (node != 0) {
+                    f = fail[node];
+                    while (true) {
+                        Integer t = transitions.get(key(f, c));
+                        if (t != null) {
+                            f = t;
+                            break;
+                        }
+                        if (f == 0) break;
+                        f = fail[f];
+                    }
+                }
+                fail[next] = f;
+                outputLinks[next] = valueArray[f] >= 0 ? f : outputLinks[f];
+                queue.add(next);
+            }
+        }
+
+        return new AhoCorasick(transitions, fail, valueArray, depthArray, outputLinks);
+    }
+
+    private static long key(int node, char c) {
+        return ((long) node << 16) | c;
+    }
+
+    /**
+     * text에서 모든 패턴 일치를 끝 위치 순으로 보고 (겹치는 일치 포함)
+     */
+    public void scan(CharSequence text, MatchVisitor visitor) {
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (true) {
+                Integer next = transitions.get(key(node, c));
+                if (next != null) {
+                    node = next;
+                    break;
+                }
+                if (node == 0) break;
+                node = fail[node];
+            }
+
+            for (int out = values[node] >= 0 ? node : outputLinks[node]; out > 0; out = outputLinks[out]) {
+                visitor.visit(i + 1 - depths[out], i + 1, values[out]);
+            }
+        }
+    }
+
+    public int nodeCount() {
+        return values.length;
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.be17pickcook.common.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 한글용 문자 bigram 토크나이저
+ * - 문자/숫자가 아닌 문자(공백, #, 기호)로 구간을 나누고, 문자 체계가 바뀌는 곳에서도 나눔
+ * - 한글/한자/가나 구간 → 2글자씩 겹치게 자름 ("김치찌개" → 김치, 치찌, 찌개)
+ *   형태소 분석 없이도 부분 문자열 검색과 비슷한 재현율을 얻기 위함
+ * - 그 외(영문, 숫자) 구간 → 소문자 단어 그대로
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 (bigram + 1글자 검색어용 unigram)
+     */
+    public static List<String> indexTokens(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 검색어용 토큰 (2글자 이상 구간은 bigram만, 1글자 구간은 unigram)
+     */
+    public static List<String> queryTokens(String text) {
+        return tokenize(text, false);
+    }
+
+    private static List<String> tokenize(String text, boolean withUnigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) return tokens;
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int start = -1;
+        boolean startCjk = false;
+
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? lower.charAt(i) : ' ';
+            boolean wordChar = Character.isLetterOrDigit(c);
+            boolean cjk = wordChar && isCjk(c);
+
+            if (start >= 0 && (!wordChar || cjk != startCjk)) {
+                emit(lower, start, i, startCjk, withUnigrams, tokens);
+                start = -1;
+            }
+            if (wordChar && start < 0) {
+                start = i;
+                startCjk = cjk;
+            }
+        }
+        return tokens;
+    }
+
+    private static void emit(String text, int from, int to, boolean cjk, boolean withUnigrams, List<String> tokens) {
+        if (!cjk) {
+            tokens.add(text.substring(from, to));
+            return;
+        }
+        if (to - from == 1) {
+            tokens.add(text.substring(from, to));
+            return;
+        }
+        for (int i = from; i < to; i++) {
+            if (withUnigrams) tokens.add(text.substring(i, i + 1));
+            if (i + 1 < to) tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
@@ -0,0 +1,357 @@
+package org.example.be17pickcook.common.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * BM25 역색인 (문서 ID는 int)
+ * - 용어 사전: 토큰 → int 용어 ID
+ * - posting list: 용어 ID → (문서 ID 오름차순 배열, 가중 빈도 배열)
+ * - 문서 단위로 교체(put)/삭제(remove) 가능 → 증분 갱신
+ * - 검색은 모든 검색어 토큰을 포함한 문서만 (AND) 점수 계산
+ * - writeTo/readFrom으로 파일 저장 후 재기동 시 재구축 없이 로드
+ */
+public class Bm25Index {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();
+    private int[][] postingDocs = new int[16][];
+    private float[][] postingFreqs = new float[16][];
+    private int[] postingSizes = new int[16];
+
+    // 문서 ID → 포함한 용어 ID (삭제/교체 시 posting 정리용)
+    private int[][] docTerms = new int[16][];
+    private float[] docLengths = new float[16];
+    private final BitSet docs = new BitSet();
+    private double totalLength;
+
+    // =================================================================
+    // 문서 구성
+    // =================================================================
+
+    /**
+     * 필드별 가중치를 반영한 문서 용어 빈도
+     */
+    public static class Document {
+        private final Map<String, Float> freqs = new HashMap<>();
+
+        public Document add(String text, float weight) {
+            for (String token : BigramTokenizer.indexTokens(text)) {
+                freqs.merge(token, weight, Float::sum);
+            }
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return freqs.isEmpty();
+        }
+    }
+
+    // =================================================================
+    // 갱신
+    // =================================================================
+
+    /** 문서 추가 (이미 있으면 교체) */
+    public void put(int docId, Document document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+            ensureDocCapacity(docId);
+
+            int[] ids = new int[document.freqs.size()];
+            int n = 0;
+            float length = 0f;
+            for (Map.Entry<String, Float> e : document.freqs.entrySet()) {
+                int termId = termId(e.getKey());
+                insertPosting(termId, docId, e.getValue());
+                ids[n++] = termId;
+                length += e.getValue();
+            }
+            Arrays.sort(ids);
+
+            docTerms[docId] = ids;
+            docLengths[docId] = length;
+            docs.set(docId);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int docId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            termIds.clear();
+            terms.clear();
+            postingDocs = new int[16][];
+            postingFreqs = new float[16][];
+            postingSizes = new int[16];
+            docTerms = new int[16][];
+            docLengths = new float[16];
+            docs.clear();
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeInternal(int docId) {
+        if (!docs.get(docId)) return;
+
+        for (int termId : docTerms[docId]) {
+            int[] list = postingDocs[termId];
+            int size = postingSizes[termId];
+            int pos = Arrays.binarySearch(list, 0, size, docId);
+            if (pos < 0) continue;
+            System.arraycopy(list, pos + 1, list, pos, size - pos - 1);
+            System.arraycopy(postingFreqs[termId], pos + 1, postingFreqs[termId], pos, size - pos - 1);
+            postingSizes[termId] = size - 1;
+        }
+        totalLength -= docLengths[docId];
+        docTerms[docId] = null;
+        docLengths[docId] = 0f;
+        docs.clear(docId);
+    }
+
+    private int termId(String term) {
+        Integer termId = termIds.get(term);
+        if (termId != null) return termId;
+
+        termId = terms.size();
+        termIds.put(term, termId);
+        terms.add(term);
+        if (termId >= postingDocs.length) {
+            int newLength = postingDocs.length * 2;
+            postingDocs = Arrays.copyOf(postingDocs, newLength);
+            postingFreqs = Arrays.copyOf(postingFreqs, newLength);
+            postingSizes = Arrays.copyOf(postingSizes, newLength);
+        }
+        postingDocs[termId] = new int[4];
+        postingFreqs[termId] = new float[4];
+        return termId;
+    }
+
+    // 대부분 새 문서 ID가 가장 크므로 끝에 붙는 경우를 먼저 확인
+    private void insertPosting(int termId, int docId, float freq) {
+        int[] list = postingDocs[termId];
+        float[] freqs = postingFreqs[termId];
+        int size = postingSizes[termId];
+
+        if (size == list.length) {
+            list = postingDocs[termId] = Arrays.copyOf(list, size * 2);
+            freqs = postingFreqs[termId] = Arrays.copyOf(freqs, size * 2);
+        }
+
+        int pos = size;
+        if (size > 0 && list[size - 1] > docId) {
+            pos = -Arrays.binarySearch(list, 0, size, docId) - 1;
+            System.arraycopy(list, pos, list, pos + 1, size - pos);
+            System.arraycopy(freqs, pos, freqs, pos + 1, size - pos);
+        }
+        list[pos] = docId;
+        freqs[pos] = freq;
+        postingSizes[termId] = size + 1;
+    }
+
+    private void ensureDocCapacity(int docId) {
+        if (docId < docTerms.length) return;
+        int newLength = Math.max(docTerms.length * 2, docId + 1);
+        docTerms = Arrays.copyOf(docTerms, newLength);
+        docLengths = Arrays.copyOf(docLengths, newLength);
+    }
+
+    // =================================================================
+    // 검색
+    // =================================================================
+
+    @FunctionalInterface
+    public interface ScoreVisitor {
+        void visit(int docId, float score);
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하고 filter(null이면 전체)에 속한 문서마다 BM25 점수를 전달
+     */
+    public void search(String query, BitSet filter, ScoreVisitor visitor) {
+        Set<String> queryTerms = new LinkedHashSet<>(BigramTokenizer.queryTokens(query));
+        if (queryTerms.isEmpty()) return;
+
+        lock.readLock().lock();
+        try {
+            int n = queryTerms.size();
+            int[] ids = new int[n];
+            int i = 0;
+            for (String term : queryTerms) {
+                Integer termId = termIds.get(term);
+                if (termId == null || postingSizes[termId] == 0) return;
+                ids[i++] = termId;
+            }
+
+            // posting이 짧은 용어부터 교집합
+            Integer[] order = new Integer[n];
+            for (int k = 0; k < n; k++) order[k] = ids[k];
+            Arrays.sort(order, Comparator.comparingInt(t -> postingSizes[t]));
+
+            int docCount = docs.cardinality();
+            float avgLength = docCount > 0 ? (float) (totalLength / docCount) : 1f;
+            float[] idf = new float[n];
+            for (int k = 0; k < n; k++) {
+                int df = postingSizes[order[k]];
+                idf[k] = (float) Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+            }
+
+            int[] cursors = new int[n];
+            int[] rarest = postingDocs[order[0]];
+            int rarestSize = postingSizes[order[0]];
+
+            candidates:
+            for (int p = 0; p < rarestSize; p++) {
+                int docId = rarest[p];
+                if (filter != null && !filter.get(docId)) continue;
+
+                float norm = K1 * (1 - B + B * docLengths[docId] / avgLength);
+                float score = 0f;
+                for (int k = 0; k < n; k++) {
+                    int termId = order[k];
+                    int pos;
+                    if (k == 0) {
+                        pos = p;
+                    } else {
+                        pos = Arrays.binarySearch(postingDocs[termId], cursors[k], postingSizes[termId], docId);
+                        if (pos < 0) {
+                            cursors[k] = -pos - 1;
+                            continue candidates;
+                        }
+                        cursors[k] = pos + 1;
+                    }
+                    float tf = postingFreqs[termId][pos];
+                    score += idf[k] * tf * (K1 + 1) / (tf + norm);
+                }
+                visitor.visit(docId, score);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int docCount() {
+        lock.readLock().lock();
+        try {
+            return docs.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 색인된 가장 큰 문서 ID (없으면 -1) */
+    public int maxDocId() {
+        lock.readLock().lock();
+        try {
+            return docs.length() - 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return terms.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // =================================================================
+    // 저장 / 로드
+    // =================================================================
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(FORMAT_VERSION);
+
+            out.writeInt(terms.size());
+            for (int termId = 0; termId < terms.size(); termId++) {
+                out.writeUTF(terms.get(termId));
+                int size = postingSizes[termId];
+                out.writeInt(size);
+                for (int i = 0; i < size; i++) {
+                    out.writeInt(postingDocs[termId][i]);
+                    out.writeFloat(postingFreqs[termId][i]);
+                }
+            }
+
+            out.writeInt(docs.cardinality());
+            for (int docId = docs.nextSetBit(0); docId >= 0; docId = docs.nextSetBit(docId + 1)) {
+                out.writeInt(docId);
+                out.writeFloat(docLengths[docId]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 저장된 내용으로 교체 (형식이 다르면 IOException) */
+    public void readFrom(DataInputStream in) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 색인 형식입니다. version=" + version);
+        }
+
+        lock.writeLock().lock();
+        try {
+            clear();
+
+            int termCount = in.readInt();
+            Map<Integer, List<Integer>> termsByDoc = new HashMap<>();
+            for (int t = 0; t < termCount; t++) {
+                int termId = termId(in.readUTF());
+                int size = in.readInt();
+                int[] list = new int[Math.max(size, 4)];
+                float[] freqs = new float[list.length];
+                for (int i = 0; i < size; i++) {
+                    list[i] = in.readInt();
+                    freqs[i] = in.readFloat();
+                    termsByDoc.computeIfAbsent(list[i], k -> new ArrayList<>()).add(termId);
+                }
+                postingDocs[termId] = list;
+                postingFreqs[termId] = freqs;
+                postingSizes[termId] = size;
+            }
+
+            int docCount = in.readInt();
+            for (int i = 0; i < docCount; i++) {
+                int docId = in.readInt();
+                float length = in.readFloat();
+                ensureDocCapacity(docId);
+                List<Integer> ids = termsByDoc.getOrDefault(docId, Collections.emptyList());
+                // 용어 ID 오름차순으로 읽었으므로 이미 정렬되어 있음
+                docTerms[docId] = ids.stream().mapToInt(Integer::intValue).toArray();
+                docLengths[docId] = length;
+                docs.set(docId);
+                totalLength += length;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
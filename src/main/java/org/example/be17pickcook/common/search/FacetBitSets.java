@@ -0,0 +1,114 @@
+package org.example.be17pickcook.common.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * 단일 값 필드(카테고리, 난이도 등)의 값별 문서 BitSet
+ * - 필터 "값 IN (...)"는 해당 값들의 BitSet OR
+ * - 여러 필드 조건은 결과 BitSet끼리 AND
+ */
+public class FacetBitSets {
+
+    private final Map<String, BitSet> docsByValue = new HashMap<>();
+    private final Map<Integer, String> valueByDoc = new HashMap<>();
+
+    /** 문서의 값 지정 (기존 값은 제거, null이면 값 없음) */
+    public synchronized void put(int docId, String value) {
+        remove(docId);
+        if (value == null) return;
+        docsByValue.computeIfAbsent(value, k -> new BitSet()).set(docId);
+        valueByDoc.put(docId, value);
+    }
+
+    public synchronized void remove(int docId) {
+        String previous = valueByDoc.remove(docId);
+        if (previous == null) return;
+        BitSet bits = docsByValue.get(previous);
+        bits.clear(docId);
+        if (bits.isEmpty()) docsByValue.remove(previous);
+    }
+
+    public synchronized void clear() {
+        docsByValue.clear();
+        valueByDoc.clear();
+    }
+
+    /**
+     * values 중 하나라도 가진 문서 (values가 비어 있으면 null = 조건 없음)
+     */
+    public synchronized BitSet anyOf(Collection<String> values) {
+        if (values == null || values.isEmpty()) return null;
+        BitSet result = new BitSet();
+        for (String value : values) {
+            BitSet bits = docsByValue.get(value);
+            if (bits != null) result.or(bits);
+        }
+        return result;
+    }
+
+    /** 값별 문서 수 */
+    public synchronized Map<String, Integer> counts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        docsByValue.forEach((value, bits) -> counts.put(value, bits.cardinality()));
+        return counts;
+    }
+
+    /**
+     * filter(null이면 전체)에 속한 문서의 값별 개수 (0건인 값은 제외)
+     */
+    public synchronized Map<String, Integer> counts(BitSet filter) {
+        if (filter == null) return counts();
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        docsByValue.forEach((value, bits) -> {
+            BitSet matched = (BitSet) bits.clone();
+            matched.and(filter);
+            int count = matched.cardinality();
+            if (count > 0) counts.put(value, count);
+        });
+        return counts;
+    }
+
+    /**
+     * 두 조건의 교집합 (null은 조건 없음으로 취급)
+     */
+    public static BitSet and(BitSet a, BitSet b) {
+        if (a == null) return b;
+        if (b == null) return a;
+        BitSet result = (BitSet) a.clone();
+        result.and(b);
+        return result;
+    }
+
+    // =================================================================
+    // 저장 / 로드
+    // =================================================================
+
+    public synchronized void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(docsByValue.size());
+        for (Map.Entry<String, BitSet> e : docsByValue.entrySet()) {
+            out.writeUTF(e.getKey());
+            long[] words = e.getValue().toLongArray();
+            out.writeInt(words.length);
+            for (long word : words) out.writeLong(word);
+        }
+    }
+
+    public synchronized void readFrom(DataInputStream in) throws IOException {
+        clear();
+        int valueCount = in.readInt();
+        for (int v = 0; v < valueCount; v++) {
+            String value = in.readUTF();
+            long[] words = new long[in.readInt()];
+            for (int i = 0; i < words.length; i++) words[i] = in.readLong();
+
+            BitSet bits = BitSet.valueOf(words);
+            docsByValue.put(value, bits);
+            for (int docId = bits.nextSetBit(0); docId >= 0; docId = bits.nextSetBit(docId + 1)) {
+                valueByDoc.put(docId, value);
+            }
+        }
+    }
+}
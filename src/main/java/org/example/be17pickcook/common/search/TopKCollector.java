@@ -0,0 +1,79 @@
+package org.example.be17pickcook.common.search;
+
+/**
+ * 점수 상위 K개 ID 수집기 (레시피 추천/검색, 게시글 검색, 상품 카탈로그에서 공용)
+ * - 크기 K의 min-heap만 유지하므로 전체 후보를 정렬하지 않음
+ * - 점수 0 이하 후보는 건너뜀
+ * - heap 원소는 (점수 float 비트 << 32 | ID) long 값
+ *   → 점수 내림차순, 동점이면 최신(ID가 큰) 항목 우선
+ */
+public final class TopKCollector {
+
+    private final long[] heap;
+    private int size;
+    private int candidateCount;
+
+    public TopKCollector(int capacity) {
+        this.heap = new long[Math.max(capacity, 0)];
+    }
+
+    public void offer(int id, float score) {
+        if (!(score > 0f)) return;
+        candidateCount++;
+        if (heap.length == 0) return;
+
+        long key = ((long) Float.floatToIntBits(score) << 32) | (id & 0xFFFFFFFFL);
+
+        if (size < heap.length) {
+            heap[size] = key;
+            siftUp(size++);
+        } else if (key > heap[0]) {
+            heap[0] = key;
+            siftDown(0);
+        }
+    }
+
+    /** 점수가 0보다 큰 전체 후보 수 (heap 크기와 무관) */
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    /**
+     * 수집된 ID를 점수 내림차순으로 반환 (heap은 비워진다)
+     */
+    public long[] drainRankedIds() {
+        int n = size;
+        long[] ranked = new long[n];
+        for (int i = n - 1; i >= 0; i--) {
+            ranked[i] = heap[0] & 0xFFFFFFFFL;
+            heap[0] = heap[--size];
+            siftDown(0);
+        }
+        return ranked;
+    }
+
+    private void siftUp(int i) {
+        long key = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= key) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = key;
+    }
+
+    private void siftDown(int i) {
+        if (size == 0) return;
+        long key = heap[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) child++;
+            if (key <= heap[child]) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = key;
+    }
+}
@@ -0,0 +1,105 @@
+package org.example.be17pickcook.common.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.be17pickcook.common.model.BatchJobCheckpoint;
+import org.example.be17pickcook.common.repository.BatchJobCheckpointRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 체크포인트 기반 컬럼 1회 채우기 실행기
+ * - 대상 테이블을 ID 순 청크로 나눠 UPDATE, 진행 위치는 batch_job_checkpoint에 같은 트랜잭션으로 기록
+ * - 완료 기록이 있으면 건너뜀, 중간에 멈췄으면 이어서 진행
+ * - 작업 정의(Step)는 각 도메인의 Backfill 컴포넌트가 가짐
+ */
+@Slf4j
+@Component
+public class ChunkedBackfillRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BatchJobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate tx;
+
+    public ChunkedBackfillRunner(JdbcTemplate jdbcTemplate,
+                                 BatchJobCheckpointRepository checkpointRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkpointRepository = checkpointRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 채우기 작업 정의
+     *
+     * @param jobName   체크포인트 작업 이름
+     * @param table     대상 테이블
+     * @param idColumn  청크를 나눌 PK 컬럼
+     * @param updateSql ID 범위(BETWEEN ? AND ?)를 받는 UPDATE
+     */
+    public record Step(String jobName, String table, String idColumn, String updateSql) {
+    }
+
+    /**
+     * 작업 1개 실행 (실패는 체크포인트에 기록하고 로그만 남김, 다음 기동에서 이어서 진행)
+     */
+    public void run(Step step, int chunkSize) {
+        String jobName = step.jobName();
+
+        // 1. 체크포인트 확인 (완료 기록이 있으면 종료, 없으면 처음부터, 중단됐으면 이어서)
+        Long startAfter = tx.execute(status -> {
+            BatchJobCheckpoint cp = checkpointRepository.findById(jobName).orElse(null);
+            if (cp == null) {
+                cp = BatchJobCheckpoint.of(jobName);
+                cp.start();
+            } else if (cp.getStatus() == BatchJobCheckpoint.Status.COMPLETED) {
+                return null;
+            } else {
+                cp.resume();
+            }
+            return checkpointRepository.save(cp).getLastProcessedId();
+        });
+        if (startAfter == null) return;
+
+        String idSql = "SELECT " + step.idColumn() + " FROM " + step.table() +
+                " WHERE " + step.idColumn() + " > ? ORDER BY " + step.idColumn() + " LIMIT ?";
+
+        long startedAt = System.currentTimeMillis();
+        long lastId = startAfter;
+        long updated = 0;
+        try {
+            while (true) {
+                List<Long> ids = jdbcTemplate.queryForList(idSql, Long.class, lastId, chunkSize);
+                if (ids.isEmpty()) break;
+
+                long fromId = ids.get(0);
+                long toId = ids.get(ids.size() - 1);
+
+                // 2. 청크 범위 UPDATE + 체크포인트 전진 (같은 트랜잭션)
+                Integer rows = tx.execute(status -> {
+                    int count = jdbcTemplate.update(step.updateSql(), fromId, toId);
+                    checkpointRepository.findById(jobName).ifPresent(cp -> cp.advance(toId));
+                    return count;
+                });
+
+                updated += rows != null ? rows : 0;
+                lastId = toId;
+            }
+
+            tx.executeWithoutResult(status -> checkpointRepository.findById(jobName)
+                    .ifPresent(BatchJobCheckpoint::complete));
+            log.info("컬럼 채우기 완료: {} {}건, {}ms", jobName, updated, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            try {
+                tx.executeWithoutResult(status -> checkpointRepository.findById(jobName)
+                        .ifPresent(BatchJobCheckpoint::fail));
+            } catch (RuntimeException checkpointError) {
+                log.error("컬럼 채우기 체크포인트 갱신 실패: {}", jobName, checkpointError);
+            }
+            log.error("컬럼 채우기 실패: {} 마지막 {}={}", jobName, step.idColumn(), lastId, e);
+        }
+    }
+}
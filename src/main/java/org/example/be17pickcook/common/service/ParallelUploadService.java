@@ -0,0 +1,148 @@
+package org.example.be17pickcook.common.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 파일 병렬 업로드
+ * - 크기가 제한된 전용 스레드 풀에서 S3 업로드, 한 요청이 동시에 올리는 파일 수는 max-per-request로 제한
+ * - 풀/큐가 가득 차면 요청 스레드가 직접 업로드 (요청을 실패시키지 않고 속도만 늦춤)
+ * - 파일별 제한 시간 초과 또는 하나라도 실패하면 나머지는 취소하고,
+ *   이미 올라갔거나 늦게 끝난 파일까지 삭제
+ * - DB 트랜잭션 밖에서 호출해 업로드 동안 커넥션을 잡지 않도록 함
+ */
+@Slf4j
+@Service
+public class ParallelUploadService {
+
+    private final S3UploadService s3UploadService;
+    private final long timeoutMillis;
+    private final int maxPerRequest;
+    private final ThreadPoolExecutor executor;
+
+    public ParallelUploadService(S3UploadService s3UploadService,
+                                 @Value("${upload.parallel.threads:8}") int threads,
+                                 @Value("${upload.parallel.queue-size:64}") int queueSize,
+                                 @Value("${upload.parallel.max-per-request:4}") int maxPerRequest,
+                                 @Value("${upload.parallel.timeout-seconds:30}") long timeoutSeconds) {
+        this.s3UploadService = s3UploadService;
+        this.timeoutMillis = timeoutSeconds * 1000L;
+        this.maxPerRequest = Math.max(maxPerRequest, 1);
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "s3-upload-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 파일 목록을 병렬 업로드
+     *
+     * @return 입력과 같은 순서의 URL 목록 (null 또는 빈 파일 자리는 null)
+     * @throws IOException 업로드 실패/시간 초과 (이미 올라간 파일은 삭제됨)
+     */
+    public List<String> uploadAll(List<MultipartFile> files) throws IOException {
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        // 이 요청이 동시에 점유하는 업로드 수 (다른 요청 몫의 스레드/큐를 혼자 채우지 않도록)
+        Semaphore permits = new Semaphore(maxPerRequest);
+        // 실제 업로드 결과 (취소하지 않고 끝까지 받아 정리에 사용)
+        List<CompletableFuture<String>> uploads = new ArrayList<>(files.size());
+        // 파일별 제한 시간을 건 사본 (대기용)
+        List<CompletableFuture<String>> timed = new ArrayList<>(files.size());
+        try {
+            for (MultipartFile file : files) {
+                CompletableFuture<String> upload;
+                if (file == null || file.isEmpty()) {
+                    upload = CompletableFuture.completedFuture(null);
+                } else {
+                    if (!permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                        throw new CompletionException(new TimeoutException());
+                    }
+                    upload = CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return aborted.get() ? null : uploadOne(file);
+                        } finally {
+                            permits.release();
+                        }
+                    }, executor);
+                }
+                uploads.add(upload);
+                timed.add(upload.copy().orTimeout(timeoutMillis, TimeUnit.MILLISECONDS));
+            }
+
+            List<String> urls = new ArrayList<>(timed.size());
+            for (CompletableFuture<String> future : timed) {
+                urls.add(future.join());
+            }
+            return urls;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            aborted.set(true);
+            discard(uploads);
+            throw new IOException("이미지 업로드가 중단되었습니다.", e);
+        } catch (RejectedExecutionException | CompletionException e) {
+            aborted.set(true);
+            discard(uploads);
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof TimeoutException) {
+                throw new IOException("이미지 업로드 시간이 초과되었습니다.", cause);
+            }
+            if (cause instanceof RejectedExecutionException) {
+                // 종료 중에만 발생 (평소 포화 시에는 호출 스레드에서 실행)
+                throw new IOException("업로드 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", cause);
+            }
+            throw new IOException("이미지 업로드에 실패했습니다.", cause);
+        }
+    }
+
+    /**
+     * 업로드된 파일 삭제 (null은 무시, 삭제 실패는 로그만)
+     */
+    public void deleteAll(Collection<String> urls) {
+        for (String url : urls) {
+            if (url == null) continue;
+            try {
+                s3UploadService.delete(url);
+            } catch (RuntimeException e) {
+                log.warn("업로드 파일 삭제 실패: {}, {}", url, e.getMessage());
+            }
+        }
+    }
+
+    private String uploadOne(MultipartFile file) {
+        try {
+            return s3UploadService.upload(file);
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    // 끝난 업로드는 바로, 진행 중인 업로드는 끝나는 대로 삭제 (대기 중인 업로드는 시작하지 않음)
+    private void discard(List<CompletableFuture<String>> uploads) {
+        for (CompletableFuture<String> upload : uploads) {
+            upload.whenComplete((url, e) -> {
+                if (url != null) deleteAll(List.of(url));
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
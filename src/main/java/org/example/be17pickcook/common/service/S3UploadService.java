@@ -9,6 +9,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 
 @Service
@@ -25,4 +28,13 @@ public class S3UploadService implements UploadService{
         S3Resource s3Resource = s3Operations.upload(s3BucketName, dirPath + file.getOriginalFilename(), file.getInputStream());
         return s3Resource.getURL().toString();
     }
+
+    /**
+     * upload가 반환한 URL의 객체 삭제 (저장 실패 시 정리용)
+     */
+    public void delete(String url) {
+        String key = URI.create(url).getPath();
+        if (key.startsWith("/")) key = key.substring(1);
+        s3Operations.deleteObject(s3BucketName, URLDecoder.decode(key, StandardCharsets.UTF_8));
+    }
 }
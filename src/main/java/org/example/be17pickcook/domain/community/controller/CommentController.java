@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.example.be17pickcook.common.BaseResponse;
+import org.example.be17pickcook.common.PageResponse;
 import org.example.be17pickcook.domain.community.model.CommentDto;
 import org.example.be17pickcook.domain.community.service.CommentService;
 import org.example.be17pickcook.domain.likes.service.LikeService;
@@ -42,6 +43,24 @@ public class CommentController {
         return BaseResponse.success(comments);
     }
 
+    @Operation(
+            summary = "게시글 댓글 스레드 페이징 조회",
+            description = "최상위 댓글 단위로 페이징하고, 각 댓글의 대댓글은 childPreview개까지만 포함합니다.\n" +
+                    "- childCount: 전체 대댓글 수 (children보다 많으면 더 보기 표시)"
+    )
+    @GetMapping("/threads")
+    public BaseResponse<PageResponse<CommentDto.Response>> getCommentThreads(
+            @AuthenticationPrincipal UserDto.AuthUser authUser,
+            @Parameter(description = "댓글을 조회할 게시글 ID", required = true)
+            @RequestParam Long postId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "댓글마다 포함할 대댓글 수")
+            @RequestParam(defaultValue = "3") int childPreview) {
+        Integer userIdx = (authUser != null) ? authUser.getIdx() : null;
+        return BaseResponse.success(commentService.getCommentThreads(userIdx, postId, page, size, childPreview));
+    }
+
     @Operation(
             summary = "댓글 작성",
             description = "게시글에 댓글을 작성합니다.",
@@ -63,4 +82,17 @@ public class CommentController {
         return BaseResponse.success(saved);
     }
 
+    @Operation(
+            summary = "댓글 삭제",
+            description = "본인이 작성한 댓글을 삭제합니다. 대댓글도 함께 삭제됩니다."
+    )
+    @DeleteMapping("/{commentId}")
+    public BaseResponse<Void> deleteComment(
+            @Parameter(description = "삭제할 댓글 ID", required = true)
+            @PathVariable Long commentId,
+            @Parameter(hidden = true)
+            @AuthenticationPrincipal UserDto.AuthUser authUser) {
+        commentService.deleteComment(commentId, authUser.getIdx());
+        return BaseResponse.success(null);
+    }
 }
@@ -79,6 +79,31 @@ public class PostController {
 
 
 
+    @Operation(summary = "게시글 검색 (정확도순)", description = "제목/본문 검색 색인으로 게시글을 검색합니다.\n" +
+            "- 검색어를 모두 포함한 게시글을 정확도 순으로 반환\n" +
+            "- titleHighlight / snippet에 검색어가 <em>으로 표시됨")
+    @GetMapping("/search")
+    public BaseResponse<PageResponse<PostDto.ListResponse>> searchPosts(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return BaseResponse.success(postService.searchPosts(keyword, page, size));
+    }
+
+    @Operation(summary = "커뮤니티 피드 조회 (커서)", description = "최신순 게시글 카드를 커서 방식으로 조회합니다.\n" +
+            "- 첫 페이지는 cursor 없이 요청, 이후 응답의 nextCursor 전달\n" +
+            "- 마지막 페이지면 nextCursor = null")
+    @GetMapping("/feed")
+    public BaseResponse<PageResponse<PostDto.PostCardResponse>> getFeed(
+            @AuthenticationPrincipal UserDto.AuthUser authUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        Integer userIdx = (authUser != null) ? authUser.getIdx() : null;
+        return BaseResponse.success(postService.getFeed(userIdx, cursor, size));
+    }
+
     @GetMapping("/mplist")
     public BaseResponse<PageResponse<PostDto.PostCardResponse>> getMainPosts(
             @AuthenticationPrincipal UserDto.AuthUser authUser,
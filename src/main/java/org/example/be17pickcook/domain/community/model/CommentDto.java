@@ -41,6 +41,7 @@ public class CommentDto {
         private boolean hasLiked;
         private Long likeCount;
         private List<Response> children;        // 대댓글 리스트
+        private Integer childCount;             // 전체 대댓글 수 (미리보기로 일부만 내려줄 때 사용)
 
         // Entity → DTO 변환
         public static Response fromEntity(Comment comment,
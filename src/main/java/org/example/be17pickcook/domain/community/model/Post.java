@@ -9,6 +9,7 @@ import org.example.be17pickcook.common.BaseEntity;
 import org.example.be17pickcook.domain.likes.model.LikeCountable;
 import org.example.be17pickcook.domain.scrap.model.ScrapCountable;
 import org.example.be17pickcook.domain.user.model.User;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +32,13 @@ public class Post extends BaseEntity implements LikeCountable, ScrapCountable {
     private Long likeCount;
     private Long scrapCount;
     private Long viewCount;
+    // 반정규화 댓글 수 (댓글 작성/삭제 시 UPDATE로 원자적 증감)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long commentCount = 0L;
+    // 대표 이미지 (첫 번째 이미지 URL 반정규화, 피드/카드 조회용)
+    @Column(name = "thumbnail_url", length = 1000)
+    private String thumbnailUrl;
 
     @ManyToOne
     @JoinColumn(name="user_id")
@@ -45,6 +53,7 @@ public class Post extends BaseEntity implements LikeCountable, ScrapCountable {
 
         this.postImageList.add(image);
         image.setPost(this);
+        if (this.thumbnailUrl == null) this.thumbnailUrl = image.getImageUrl();
     }
 
     public void incrementViewCount() {
@@ -72,6 +72,8 @@ public class PostDto {
         private Long likeCount;
         private Long scrapCount;
         private int comments;
+        private String titleHighlight;  // 검색 시 검색어를 <em>으로 감싼 제목
+        private String snippet;         // 검색 시 검색어 주변 본문 요약 (하이라이트 포함)
 
         public static ListResponse from(Post post, int comments) {
             return ListResponse.builder()
@@ -86,6 +88,17 @@ public class PostDto {
                     .build();
         }
 
+        // 아직 DB에 반영되지 않은 좋아요/스크랩 증감 합산
+        public void addPendingCounts(long likeDelta, long scrapDelta) {
+            this.likeCount = Math.max((likeCount != null ? likeCount : 0L) + likeDelta, 0L);
+            this.scrapCount = Math.max((scrapCount != null ? scrapCount : 0L) + scrapDelta, 0L);
+        }
+
+        public void applyHighlight(String titleHighlight, String snippet) {
+            this.titleHighlight = titleHighlight;
+            this.snippet = snippet;
+        }
+
         private static String generatePreview(String content) {
             if (content == null) return "";
 
@@ -146,6 +159,12 @@ public class PostDto {
                     .updatedAt(post.getUpdatedAt().format(formatter))
                     .build();
         }
+
+        // 아직 DB에 반영되지 않은 좋아요/스크랩 증감 합산
+        public void addPendingCounts(long likeDelta, long scrapDelta) {
+            this.likeCount = Math.max((likeCount != null ? likeCount : 0L) + likeDelta, 0L);
+            this.scrapCount = Math.max((scrapCount != null ? scrapCount : 0L) + scrapDelta, 0L);
+        }
     }
 
 
@@ -165,11 +184,32 @@ public class PostDto {
 
         public void setHasLiked(boolean hasLiked) { this.hasLiked = hasLiked; }
         public void setHasScrapped(boolean hasScrapped) { this.hasScrapped = hasScrapped; }
+        public void addPendingViews(long viewDelta) { this.viewCount = (viewCount != null ? viewCount : 0L) + viewDelta; }
+
+        // 공유 스냅샷을 요청별로 가공하기 위한 복사본 (좋아요/스크랩 여부는 초기화)
+        public PostCardResponse copy() {
+            return PostCardResponse.builder()
+                    .id(id)
+                    .title(title)
+                    .postImage(postImage)
+                    .authorName(authorName)
+                    .authorProfileImage(authorProfileImage)
+                    .likeCount(likeCount)
+                    .scrapCount(scrapCount)
+                    .viewCount(viewCount)
+                    .build();
+        }
+
+        // 아직 DB에 반영되지 않은 좋아요/스크랩 증감 합산
+        public void addPendingCounts(long likeDelta, long scrapDelta) {
+            this.likeCount = Math.max((likeCount != null ? likeCount : 0L) + likeDelta, 0L);
+            this.scrapCount = Math.max((scrapCount != null ? scrapCount : 0L) + scrapDelta, 0L);
+        }
 
         // Entity -> DTO 변환
         public static PostCardResponse fromEntity(Post post) {
-            String firstImage = null;
-            if (post.getPostImageList() != null && !post.getPostImageList().isEmpty()) {
+            String firstImage = post.getThumbnailUrl();
+            if (firstImage == null && post.getPostImageList() != null && !post.getPostImageList().isEmpty()) {
                 firstImage = post.getPostImageList().get(0).getImageUrl();
             }
 
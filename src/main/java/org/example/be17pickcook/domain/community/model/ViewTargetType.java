@@ -0,0 +1,5 @@
+package org.example.be17pickcook.domain.community.model;
+
+public enum ViewTargetType {
+    POST
+}
@@ -2,14 +2,24 @@ package org.example.be17pickcook.domain.community.repository;
 
 import org.example.be17pickcook.domain.community.model.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment,Long> {
-    List<Comment> findByPostId(Long postId);
+    // 게시글의 (댓글 ID, 부모 댓글 ID) 목록 (삭제 시 하위 댓글 수 계산용)
+    @Query("SELECT c.id, c.parentComment.id FROM Comment c WHERE c.post.id = :postId")
+    List<Object[]> findIdAndParentIdsByPostId(@Param("postId") Long postId);
 
-    // 최상위 댓글 조회
-    List<Comment> findByPostIdAndParentCommentIsNull(Long postId);
+    // 게시글의 댓글 전체 (작성자 포함, 트리는 메모리에서 조립)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.post.id = :postId ORDER BY c.id")
+    List<Comment> findAllWithUserByPostId(@Param("postId") Long postId);
+
+    // 여러 댓글의 좋아요 수 (id, likeCount)
+    @Query("SELECT c.id, c.likeCount FROM Comment c WHERE c.id IN :ids")
+    List<Object[]> findLikeCountsByIds(@Param("ids") Collection<Long> ids);
 }
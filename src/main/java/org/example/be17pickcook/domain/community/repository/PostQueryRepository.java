@@ -1,7 +1,6 @@
 package org.example.be17pickcook.domain.community.repository;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
@@ -14,7 +13,6 @@ import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.example.be17pickcook.domain.community.model.Post;
 import org.example.be17pickcook.domain.community.model.PostDto;
-import org.example.be17pickcook.domain.community.model.QComment;
 import org.example.be17pickcook.domain.community.model.QPost;
 import org.example.be17pickcook.domain.user.model.QUser;
 import org.springframework.data.domain.Page;
@@ -23,6 +21,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -37,7 +36,6 @@ public class PostQueryRepository {
 
     public Page<PostDto.ListResponse> findPostsWithPaging(String keyword, int page, int size, String dir) {
         QPost post = QPost.post;
-        QComment comment = QComment.comment;
         QUser user = QUser.user;
 
         // 검색 조건
@@ -47,14 +45,11 @@ public class PostQueryRepository {
                     .or(post.content.containsIgnoreCase(keyword)));
         }
 
-        // 댓글 수 포함, 작성자 fetchJoin
-        List<Tuple> results = queryFactory
-                .select(post, comment.count())
-                .from(post)
+        // 작성자 fetchJoin (댓글 수는 반정규화 컬럼 사용)
+        List<Post> results = queryFactory
+                .selectFrom(post)
                 .leftJoin(post.user, user).fetchJoin()
-                .leftJoin(comment).on(comment.post.eq(post))
                 .where(builder)
-                .groupBy(post.id)
                 .orderBy("DESC".equalsIgnoreCase(dir) ? post.createdAt.desc() : post.createdAt.asc())
                 .offset(page * size)
                 .limit(size)
@@ -62,11 +57,8 @@ public class PostQueryRepository {
 
         // DTO 변환
         List<PostDto.ListResponse> content = results.stream()
-                .map(tuple -> {
-                    Post postEntity = tuple.get(post);
-                    long commentCount = tuple.get(comment.count());
-                    return PostDto.ListResponse.from(postEntity, (int) commentCount);
-                })
+                .map(postEntity -> PostDto.ListResponse.from(postEntity,
+                        postEntity.getCommentCount() != null ? postEntity.getCommentCount().intValue() : 0))
                 .collect(Collectors.toList());
 
         // 전체 건수
@@ -77,4 +69,74 @@ public class PostQueryRepository {
         Pageable pageable = PageRequest.of(page, size);
         return new PageImpl<>(content, pageable, total);
     }
-}
\ No newline at end of file
+
+    /**
+     * 검색 색인으로 찾은 게시글 ID 안에서 작성일 정렬 + 페이징 (작성자 fetchJoin)
+     */
+    public Page<Post> findPostsByIds(Collection<Long> ids, int page, int size, String dir) {
+        Pageable pageable = PageRequest.of(page, size);
+        if (ids.isEmpty()) return new PageImpl<>(List.of(), pageable, 0);
+
+        QPost post = QPost.post;
+        QUser user = QUser.user;
+
+        List<Post> results = queryFactory
+                .selectFrom(post)
+                .leftJoin(post.user, user).fetchJoin()
+                .where(post.id.in(ids))
+                .orderBy("DESC".equalsIgnoreCase(dir) ? post.createdAt.desc() : post.createdAt.asc())
+                .offset((long) page * size)
+                .limit(size)
+                .fetch();
+
+        return new PageImpl<>(results, pageable, ids.size());
+    }
+
+    /**
+     * 게시글 ID 목록 조회 (작성자 fetchJoin, 순서는 호출 측에서 맞춤)
+     */
+    public List<Post> findAllWithUserByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+
+        QPost post = QPost.post;
+        QUser user = QUser.user;
+
+        return queryFactory
+                .selectFrom(post)
+                .leftJoin(post.user, user).fetchJoin()
+                .where(post.id.in(ids))
+                .fetch();
+    }
+
+    /**
+     * 커뮤니티 피드 (최신순 keyset)
+     * - afterId보다 작은 ID부터 limit개, OFFSET/COUNT 없이 PK 인덱스 범위 조회
+     * - 대표 이미지는 반정규화 컬럼이라 이미지 테이블 조인 없음
+     */
+    public List<PostDto.PostCardResponse> findFeed(Long afterId, int limit) {
+        QPost post = QPost.post;
+        QUser user = QUser.user;
+
+        return queryFactory
+                .select(post.id, post.title, post.thumbnailUrl, user.nickname, user.profileImage,
+                        post.likeCount, post.scrapCount, post.viewCount)
+                .from(post)
+                .leftJoin(post.user, user)
+                .where(afterId != null ? post.id.lt(afterId) : null)
+                .orderBy(post.id.desc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(t -> PostDto.PostCardResponse.builder()
+                        .id(t.get(post.id))
+                        .title(t.get(post.title))
+                        .postImage(t.get(post.thumbnailUrl))
+                        .authorName(t.get(user.nickname))
+                        .authorProfileImage(t.get(user.profileImage))
+                        .likeCount(t.get(post.likeCount) != null ? t.get(post.likeCount) : 0L)
+                        .scrapCount(t.get(post.scrapCount) != null ? t.get(post.scrapCount) : 0L)
+                        .viewCount(t.get(post.viewCount) != null ? t.get(post.viewCount) : 0L)
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -10,31 +10,29 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
 @Repository
 public interface PostRepository extends JpaRepository<Post,Long> {
 
-    // 홈화면에서 사용할 데이터 반환
-    @Query("""
-    SELECT p.id, p.title, pi.imageUrl, p.user.nickname, p.user.profileImage, 
+    // 홈화면에서 사용할 데이터 반환 (대표 이미지는 반정규화 컬럼, 이미지 없는 글도 포함)
+    @Query(value = """
+    SELECT p.id, p.title, p.thumbnailUrl, u.nickname, u.profileImage,
            p.likeCount, p.scrapCount, p.viewCount
     FROM Post p
-    LEFT JOIN p.postImageList pi
-    WHERE pi.id = (
-        SELECT MIN(pi2.id) 
-        FROM PostImage pi2 
-        WHERE pi2.post = p
-    )
-""")
+    LEFT JOIN p.user u
+""", countQuery = "SELECT COUNT(p) FROM Post p")
     Page<Object[]> findAllPostData(Pageable pageable);
 
 
-    // 조회수 증가
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("update Post p set p.viewCount = coalesce(p.viewCount, 0) + 1 where p.id = :postId")
-    int incrementViewCount(@Param("postId") Long postId);
+    // 댓글 수 증감 (0 미만으로 내려가지 않음, 게시글이 없으면 0 반환)
+    @Modifying
+    @Query("update Post p set p.commentCount = case when coalesce(p.commentCount, 0) + :delta < 0 then 0 " +
+            "else coalesce(p.commentCount, 0) + :delta end where p.id = :postId")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
 
     // 상세 조회
     @Query("""
@@ -44,4 +42,12 @@ public interface PostRepository extends JpaRepository<Post,Long> {
         where p.id = :postId
         """)
     Optional<Post> findPostWithDetails(@Param("postId") Long postId);
+
+    // 여러 게시글의 좋아요/스크랩 수 (id, likeCount, scrapCount)
+    @Query("SELECT p.id, p.likeCount, p.scrapCount FROM Post p WHERE p.id IN :ids")
+    List<Object[]> findCountsByIds(@Param("ids") Collection<Long> ids);
+
+    // 검색 색인 구축용 (id, title, content) PK 순 청크
+    @Query("SELECT p.id, p.title, p.content FROM Post p WHERE p.id > :lastId ORDER BY p.id")
+    List<Object[]> findSearchFieldsAfter(@Param("lastId") Long lastId, Pageable pageable);
 }
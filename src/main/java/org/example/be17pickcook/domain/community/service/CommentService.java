@@ -1,19 +1,21 @@
 package org.example.be17pickcook.domain.community.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.be17pickcook.common.PageResponse;
 import org.example.be17pickcook.domain.community.model.Comment;
 import org.example.be17pickcook.domain.community.model.CommentDto;
 import org.example.be17pickcook.domain.community.model.Post;
 import org.example.be17pickcook.domain.community.repository.CommentRepository;
 import org.example.be17pickcook.domain.community.repository.PostRepository;
 import org.example.be17pickcook.domain.likes.model.LikeTargetType;
+import org.example.be17pickcook.domain.likes.service.LikeCountBuffer;
 import org.example.be17pickcook.domain.likes.service.LikeService;
 import org.example.be17pickcook.domain.user.model.User;
 import org.example.be17pickcook.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.*;
 
 
 @Service
@@ -24,14 +26,18 @@ public class CommentService {
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final LikeService likeService;
+    private final LikeCountBuffer likeCountBuffer;
 
 
-    // 댓글/대댓글 작성
+    // 댓글/대댓글 작성 (게시글 댓글 수는 UPDATE 한 번으로 증가, 게시글이 없으면 0행)
+    @Transactional
     public CommentDto.Response createComment(CommentDto.Request request, Integer userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("유저가 존재하지 않습니다."));
-        Post post = postRepository.findById(request.getPostId())
-                .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다."));
+        if (postRepository.addCommentCount(request.getPostId(), 1) == 0) {
+            throw new IllegalArgumentException("게시글이 존재하지 않습니다.");
+        }
+        Post post = postRepository.getReferenceById(request.getPostId());
 
         Comment parentComment = null;
         if (request.getParentCommentId() != null) { // 대댓글일 경우 부모 댓글 확인
@@ -46,26 +52,128 @@ public class CommentService {
     }
 
     // 게시글의 댓글 목록 조회 (대댓글 포함)
-    public List<CommentDto.Response> getCommentsByPost(int userId, Long postId) {
-        List<Comment> comments = commentRepository.findByPostIdAndParentCommentIsNull(postId);
+    public List<CommentDto.Response> getCommentsByPost(Integer userId, Long postId) {
+        CommentTree tree = loadTree(userId, postId);
+        return tree.toDtos(tree.roots(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * 게시글의 최상위 댓글 스레드 페이징 조회
+     * - 댓글 전체를 작성자와 함께 한 번에 조회해 메모리에서 트리 조립
+     * - 각 댓글의 대댓글은 앞에서부터 childPreview개만 포함 (전체 수는 childCount)
+     */
+    public PageResponse<CommentDto.Response> getCommentThreads(Integer userId, Long postId, int page, int size, int childPreview) {
+        if (page < 0 || size <= 0 || childPreview < 0) {
+            throw new IllegalArgumentException("page, childPreview는 0 이상, size는 1 이상이어야 합니다.");
+        }
+        CommentTree tree = loadTree(userId, postId);
+        List<Comment> roots = tree.roots();
+
+        int totalElements = roots.size();
+        int totalPages = (int) Math.ceil((double) totalElements / size);
+        int from = (int) Math.min((long) page * size, totalElements);
+        int to = Math.min(from + size, totalElements);
+
+        return new PageResponse<>(tree.toDtos(roots.subList(from, to), childPreview),
+                page, totalPages, totalElements, size);
+    }
+
+    // 댓글 전체 1회 조회 + 로그인 사용자의 좋아요 여부 1회 조회
+    private CommentTree loadTree(Integer userId, Long postId) {
+        List<Comment> comments = commentRepository.findAllWithUserByPostId(postId);
+
+        Set<Long> ids = new HashSet<>(comments.size() * 2);
+        for (Comment comment : comments) {
+            ids.add(comment.getId());
+        }
+
+        // 부모 ID → 대댓글 (ID 오름차순 유지), 부모가 같은 게시글에 없으면 최상위로 취급하지 않고 제외
+        List<Comment> roots = new ArrayList<>();
+        Map<Long, List<Comment>> childrenByParent = new HashMap<>();
+        for (Comment comment : comments) {
+            Long parentId = comment.getParentComment() != null ? comment.getParentComment().getId() : null;
+            if (parentId == null) {
+                roots.add(comment);
+            } else if (ids.contains(parentId)) {
+                childrenByParent.computeIfAbsent(parentId, k -> new ArrayList<>()).add(comment);
+            }
+        }
 
-        return comments.stream()
-                .map(c -> convertToDtoWithChildren(c, userId))
-                .collect(Collectors.toList());
+        Set<Long> liked = likeService.findLikedIds(userId, LikeTargetType.COMMENT, ids);
+        return new CommentTree(roots, childrenByParent, liked);
     }
 
-    private CommentDto.Response convertToDtoWithChildren(Comment comment, int userId) {
-        boolean hasLiked = likeService.hasUserLiked(userId, LikeTargetType.COMMENT, comment.getId());
+    private class CommentTree {
+        private final List<Comment> roots;
+        private final Map<Long, List<Comment>> childrenByParent;
+        private final Set<Long> liked;
 
-        // 자식 댓글 재귀 변환
-        List<CommentDto.Response> children = comment.getChildren().stream()
-                .map(child -> convertToDtoWithChildren(child, userId))
-                .collect(Collectors.toList());
+        CommentTree(List<Comment> roots, Map<Long, List<Comment>> childrenByParent, Set<Long> liked) {
+            this.roots = roots;
+            this.childrenByParent = childrenByParent;
+            this.liked = liked;
+        }
+
+        List<Comment> roots() {
+            return roots;
+        }
+
+        List<CommentDto.Response> toDtos(List<Comment> comments, int childPreview) {
+            List<CommentDto.Response> dtos = new ArrayList<>(comments.size());
+            for (Comment comment : comments) {
+                List<Comment> children = childrenByParent.getOrDefault(comment.getId(), Collections.emptyList());
+                List<Comment> preview = children.size() > childPreview ? children.subList(0, childPreview) : children;
+
+                CommentDto.Response dto = CommentDto.Response.fromEntity(
+                        comment, liked.contains(comment.getId()), toDtos(preview, childPreview));
+                dto.setChildCount(children.size());
+
+                // DB에 아직 반영되지 않은 좋아요 증감 포함
+                long pending = likeCountBuffer.pending(LikeTargetType.COMMENT, comment.getId());
+                if (pending != 0) {
+                    dto.setLikeCount(Math.max((dto.getLikeCount() != null ? dto.getLikeCount() : 0L) + pending, 0L));
+                }
+                dtos.add(dto);
+            }
+            return dtos;
+        }
+    }
 
-        return CommentDto.Response.fromEntity(comment, hasLiked, children);
+    /**
+     * 댓글 삭제 (작성자만 가능)
+     * - 대댓글도 함께 삭제되므로 게시글 댓글 수는 하위 댓글까지 합친 만큼 감소
+     */
+    @Transactional
+    public void deleteComment(Long commentId, Integer userId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new IllegalArgumentException("댓글이 존재하지 않습니다."));
+        if (!comment.getUser().getIdx().equals(userId)) {
+            throw new IllegalArgumentException("본인이 작성한 댓글만 삭제할 수 있습니다.");
+        }
+
+        Long postId = comment.getPost().getId();
+        int removed = countSubtree(postId, commentId);
+
+        commentRepository.delete(comment);
+        postRepository.addCommentCount(postId, -removed);
     }
 
-    public int getCommentsCountByPost(Long postId) {
-        return commentRepository.findByPostId(postId).size();
+    // commentId와 그 하위 댓글 수
+    private int countSubtree(Long postId, Long commentId) {
+        Map<Long, List<Long>> childIds = new HashMap<>();
+        for (Object[] row : commentRepository.findIdAndParentIdsByPostId(postId)) {
+            if (row[1] != null) {
+                childIds.computeIfAbsent((Long) row[1], k -> new ArrayList<>()).add((Long) row[0]);
+            }
+        }
+
+        int count = 0;
+        Deque<Long> stack = new ArrayDeque<>();
+        stack.push(commentId);
+        while (!stack.isEmpty()) {
+            count++;
+            stack.addAll(childIds.getOrDefault(stack.pop(), Collections.emptyList()));
+        }
+        return count;
     }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package org.example.be17pickcook.domain.community.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.be17pickcook.common.service.ChunkedBackfillRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * posts 반정규화 컬럼 1회 채우기 (컬럼 추가 전에 작성된 게시글용)
+ * - 컬럼별로 게시글 ID 순 청크 실행 (체크포인트/재개는 ChunkedBackfillRunner)
+ * - comment_count의 이후 어긋남은 카운트 보정 배치가 맞춤
+ */
+@Component
+@RequiredArgsConstructor
+public class PostColumnBackfill {
+
+    private static final List<ChunkedBackfillRunner.Step> STEPS = List.of(
+            new ChunkedBackfillRunner.Step("post-comment-count-backfill", "posts", "post_id",
+                    "UPDATE posts p SET comment_count = " +
+                            "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.post_id) " +
+                            "WHERE p.post_id BETWEEN ? AND ?"),
+            new ChunkedBackfillRunner.Step("post-thumbnail-backfill", "posts", "post_id",
+                    "UPDATE posts p SET thumbnail_url = " +
+                            "(SELECT pi.image_url FROM post_images pi WHERE pi.post_id = p.post_id " +
+                            "ORDER BY pi.post_image_id LIMIT 1) " +
+                            "WHERE p.post_id BETWEEN ? AND ? AND p.thumbnail_url IS NULL"));
+
+    private final ChunkedBackfillRunner backfillRunner;
+
+    @Value("${post.backfill.chunk-size:1000}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        STEPS.forEach(step -> backfillRunner.run(step, chunkSize));
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.be17pickcook.domain.community.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.be17pickcook.domain.community.model.PostDto;
+import org.example.be17pickcook.domain.community.repository.PostQueryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 커뮤니티 피드 첫 페이지 스냅샷 (사용자 무관 부분)
+ * - 최신 게시글 maxRows개를 짧은 TTL 동안 모든 요청이 공유
+ * - 만료되면 한 요청만 다시 읽고(single-flight), 그동안 다른 요청은 직전 스냅샷을 그대로 사용
+ * - 스냅샷은 불변으로 두고 요청마다 복사본을 돌려주므로 좋아요/스크랩 여부는 호출 측에서 덧씌움
+ */
+@Slf4j
+@Component
+public class PostFeedCache {
+
+    private final PostQueryRepository postQueryRepository;
+
+    // 스냅샷에 담을 최신 게시글 수 (이보다 큰 size 요청은 DB에서 직접 조회)
+    @Value("${post.feed.snapshot-rows:50}")
+    private int maxRows;
+
+    @Value("${post.feed.snapshot-ttl-seconds:10}")
+    private long ttlSeconds;
+
+    private volatile Snapshot snapshot;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    public PostFeedCache(PostQueryRepository postQueryRepository) {
+        this.postQueryRepository = postQueryRepository;
+    }
+
+    public int maxRows() {
+        return maxRows;
+    }
+
+    /**
+     * 최신 게시글 limit개의 복사본 (limit은 maxRows 이하)
+     */
+    public List<PostDto.PostCardResponse> firstPage(int limit) {
+        return current().rows().stream()
+                .limit(limit)
+                .map(PostDto.PostCardResponse::copy)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 게시글 등록/삭제 시 다음 요청에서 바로 다시 읽도록 만료 처리
+     */
+    public void invalidate() {
+        Snapshot current = snapshot;
+        if (current != null) snapshot = new Snapshot(current.rows(), 0L);
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        long now = System.currentTimeMillis();
+        if (current != null && current.expiresAt() > now) return current;
+
+        // 이미 다른 요청이 갱신 중이면 직전 스냅샷 사용 (첫 로딩이면 직접 조회)
+        if (!refreshing.compareAndSet(false, true)) {
+            return current != null ? current : load(now);
+        }
+        try {
+            Snapshot loaded = load(now);
+            snapshot = loaded;
+            return loaded;
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private Snapshot load(long now) {
+        List<PostDto.PostCardResponse> rows = List.copyOf(postQueryRepository.findFeed(null, maxRows));
+        return new Snapshot(rows, now + ttlSeconds * 1000);
+    }
+
+    private record Snapshot(List<PostDto.PostCardResponse> rows, long expiresAt) {
+    }
+}
@@ -0,0 +1,124 @@
+package org.example.be17pickcook.domain.community.service;
+
+import org.example.be17pickcook.common.search.BigramTokenizer;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 게시글 검색 결과 하이라이트
+ * - 검색어 토큰(bigram/단어)이 나타나는 구간을 <em>으로 감쌈 ("김치찌개" → 김치/치찌/찌개 구간이 이어져 한 덩어리)
+ * - 본문은 검색어가 가장 많이 모인 구간을 maxLength 길이로 잘라 요약
+ * - 하이라이트 외의 문자는 HTML 이스케이프
+ */
+public final class PostSearchHighlighter {
+
+    private static final String ELLIPSIS = "...";
+
+    private PostSearchHighlighter() {
+    }
+
+    /**
+     * HTML 본문 → 공백 하나로 이어진 일반 텍스트
+     */
+    public static String plainText(String html) {
+        if (html == null) return "";
+        return html.replaceAll("<img[^>]*>", "")
+                .replaceAll("<[^>]*>", "")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    /**
+     * text 전체에 하이라이트 적용
+     */
+    public static String highlight(String text, String keyword) {
+        return highlight(text, keyword, 0);
+    }
+
+    /**
+     * 검색어가 가장 많이 모인 maxLength 길이 구간에 하이라이트 적용 (maxLength 0 이하면 전체)
+     */
+    public static String highlight(String text, String keyword, int maxLength) {
+        if (text == null || text.isEmpty()) return "";
+        boolean[] matched = matchedChars(text, keyword);
+
+        int from = 0;
+        int to = text.length();
+        if (maxLength > 0 && text.length() > maxLength) {
+            from = densestWindow(matched, maxLength);
+            to = from + maxLength;
+        }
+
+        StringBuilder sb = new StringBuilder(to - from + 16);
+        if (from > 0) sb.append(ELLIPSIS);
+        boolean open = false;
+        for (int i = from; i < to; i++) {
+            if (matched[i] != open) {
+                sb.append(open ? "</em>" : "<em>");
+                open = matched[i];
+            }
+            appendEscaped(sb, text.charAt(i));
+        }
+        if (open) sb.append("</em>");
+        if (to < text.length()) sb.append(ELLIPSIS);
+        return sb.toString();
+    }
+
+    // 검색어 토큰이 나타나는 위치 표시 (대소문자 무시, 인덱스가 어긋나지 않도록 문자 단위 소문자화)
+    private static boolean[] matchedChars(String text, String keyword) {
+        boolean[] matched = new boolean[text.length()];
+        Set<String> tokens = new LinkedHashSet<>(BigramTokenizer.queryTokens(keyword));
+        if (tokens.isEmpty()) return matched;
+
+        char[] lower = new char[text.length()];
+        for (int i = 0; i < lower.length; i++) {
+            lower[i] = Character.toLowerCase(text.charAt(i));
+        }
+        String haystack = new String(lower);
+
+        for (String token : tokens) {
+            for (int pos = haystack.indexOf(token); pos >= 0; pos = haystack.indexOf(token, pos + 1)) {
+                for (int i = pos; i < pos + token.length(); i++) matched[i] = true;
+            }
+        }
+        return matched;
+    }
+
+    // 표시된 문자가 가장 많은 length 길이 구간의 시작 위치 (동점이면 앞쪽)
+    private static int densestWindow(boolean[] matched, int length) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (matched[i]) count++;
+        }
+
+        int best = count;
+        int bestFrom = 0;
+        for (int from = 1; from + length <= matched.length; from++) {
+            if (matched[from - 1]) count--;
+            if (matched[from + length - 1]) count++;
+            if (count > best) {
+                best = count;
+                bestFrom = from;
+            }
+        }
+
+        // 첫 일치 문자가 구간 맨 앞에 오지 않도록 조금 앞에서 시작
+        if (best > 0) {
+            int firstMatch = bestFrom;
+            while (!matched[firstMatch]) firstMatch++;
+            bestFrom = Math.max(0, Math.min(bestFrom, firstMatch - length / 4));
+        }
+        return bestFrom;
+    }
+
+    private static void appendEscaped(StringBuilder sb, char c) {
+        switch (c) {
+            case '<' -> sb.append("&lt;");
+            case '>' -> sb.append("&gt;");
+            case '&' -> sb.append("&amp;");
+            case '"' -> sb.append("&quot;");
+            default -> sb.append(c);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.be17pickcook.domain.community.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.be17pickcook.common.search.Bm25Index;
+import org.example.be17pickcook.common.search.TopKCollector;
+import org.example.be17pickcook.domain.community.model.Post;
+import org.example.be17pickcook.domain.community.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 커뮤니티 게시글 전문 검색 색인
+ * - 제목 / 본문(HTML 태그 제거)을 bigram 토큰으로 BM25 색인
+ * - 기동 시 게시글을 PK 순 청크로 읽어 구축, 게시글 작성 시 증분 갱신
+ * - 검색 시 posts 테이블을 LIKE로 훑지 않고 색인에서 게시글 ID 순위만 계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float CONTENT_WEIGHT = 1f;
+
+    private final PostRepository postRepository;
+
+    @Value("${post.search.build-chunk-size:1000}")
+    private int chunkSize;
+
+    private final Bm25Index index = new Bm25Index();
+
+    private volatile boolean ready;
+
+    // =================================================================
+    // 구축 / 갱신
+    // =================================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        long start = System.currentTimeMillis();
+        rebuild();
+        ready = true;
+        log.info("게시글 검색 색인 구축: 게시글 {}개, 용어 {}종, {}ms",
+                index.docCount(), index.termCount(), System.currentTimeMillis() - start);
+    }
+
+    /** DB 전체를 PK 순 청크로 읽어 색인 재구축 */
+    public void rebuild() {
+        index.clear();
+
+        long lastId = 0;
+        while (true) {
+            // id, title, content
+            List<Object[]> rows = postRepository.findSearchFieldsAfter(lastId, PageRequest.of(0, chunkSize));
+            for (Object[] row : rows) {
+                put(((Number) row[0]).longValue(), (String) row[1], (String) row[2]);
+            }
+            if (rows.size() < chunkSize) break;
+            lastId = ((Number) rows.get(rows.size() - 1)[0]).longValue();
+        }
+    }
+
+    /** 게시글 작성 시 호출 */
+    public void index(Post post) {
+        if (post.getId() == null) return;
+        put(post.getId(), post.getTitle(), post.getContent());
+    }
+
+    public void remove(Long postId) {
+        index.remove(Math.toIntExact(postId));
+    }
+
+    private void put(long postId, String title, String content) {
+        index.put(Math.toIntExact(postId), new Bm25Index.Document()
+                .add(title, TITLE_WEIGHT)
+                .add(PostSearchHighlighter.plainText(content), CONTENT_WEIGHT));
+    }
+
+    // =================================================================
+    // 검색
+    // =================================================================
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** 색인된 게시글 수 (검색 결과 수의 상한) */
+    public int docCount() {
+        return index.docCount();
+    }
+
+    /**
+     * 검색어를 모두 포함한 게시글을 BM25 점수로 topK에 제출
+     */
+    public void search(String keyword, TopKCollector topK) {
+        index.search(keyword, null, topK::offer);
+    }
+}
@@ -1,18 +1,21 @@
 package org.example.be17pickcook.domain.community.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.be17pickcook.common.CursorCodec;
 import org.example.be17pickcook.common.PageResponse;
+import org.example.be17pickcook.common.search.TopKCollector;
 import org.example.be17pickcook.domain.community.model.Post;
 import org.example.be17pickcook.domain.community.model.PostDto;
 import org.example.be17pickcook.domain.community.model.PostImage;
+import org.example.be17pickcook.domain.community.model.ViewTargetType;
 import org.example.be17pickcook.domain.community.repository.PostImageRepository;
 import org.example.be17pickcook.domain.community.repository.PostQueryRepository;
 import org.example.be17pickcook.domain.community.repository.PostRepository;
 import org.example.be17pickcook.domain.likes.model.LikeTargetType;
-import org.example.be17pickcook.domain.likes.repository.LikeRepository;
+import org.example.be17pickcook.domain.likes.service.LikeCountBuffer;
 import org.example.be17pickcook.domain.likes.service.LikeService;
 import org.example.be17pickcook.domain.scrap.model.ScrapTargetType;
-import org.example.be17pickcook.domain.scrap.repository.ScrapRepository;
+import org.example.be17pickcook.domain.scrap.service.ScrapCountBuffer;
 import org.example.be17pickcook.domain.scrap.service.ScrapService;
 import org.example.be17pickcook.domain.user.model.User;
 import org.example.be17pickcook.domain.user.model.UserDto;
@@ -31,47 +34,124 @@ public class PostService {
     private final PostQueryRepository postQueryRepository;
     private final LikeService likesService;
     private final ScrapService scrapService;
-    private final LikeRepository likeRepository;
-    private final ScrapRepository scrapRepository;
-    private final CommentService commentService;
+    private final LikeCountBuffer likeCountBuffer;
+    private final ScrapCountBuffer scrapCountBuffer;
+    private final PostViewCounter postViewCounter;
+    private final PostFeedCache postFeedCache;
+    private final PostSearchIndex postSearchIndex;
+
+    // 작성일 정렬 검색에서 색인으로 가져올 최대 후보 수
+    private static final int MAX_SORTED_SEARCH_CANDIDATES = 5000;
+    // 검색 결과 본문 요약 길이
+    private static final int SNIPPET_LENGTH = 100;
+    // 목록 한 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
 
     // 전체 게시글 조회
     public List<PostDto.ListResponse> getAllPosts() {
         List<Post> postList = postRepository.findAll();
         return postList.stream()
                 .map(post -> {
-                    int commentCount = commentService.getCommentsCountByPost(post.getId());
-                    return PostDto.ListResponse.from(post, commentCount);
+                    PostDto.ListResponse dto = PostDto.ListResponse.from(post,
+                            post.getCommentCount() != null ? post.getCommentCount().intValue() : 0);
+                    dto.addPendingCounts(pendingLikes(dto.getId()), pendingScraps(dto.getId()));
+                    return dto;
                 })
                 .collect(Collectors.toList());
     }
 
     // 게시글 상세 조회
-    @Transactional
+    @Transactional(readOnly = true)
     public PostDto.DetailResponse getPostById(int userId, Long postId) {
-        // 1. 뷰 카운트 증가
-        postRepository.incrementViewCount(postId);
-
-        // 2. 상세 조회 (캐시 클리어 후 fresh select)
+        // 1. 상세 조회
         Post post = postRepository.findPostWithDetails(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다."));
 
+        // 2. 조회수는 메모리에 모아 주기적으로 반영 (같은 사용자의 반복 조회는 제외)
+        postViewCounter.recordView(userId, postId);
+
         // 3. 좋아요/스크랩 여부
         boolean hasLiked = likesService.hasUserLiked(userId, LikeTargetType.POST, postId);
         boolean hasScrapped = scrapService.hasUserScrapped(userId, ScrapTargetType.POST, postId);
 
-        // 4. DTO 변환
-        return PostDto.DetailResponse.from(post, hasLiked, hasScrapped);
+        // 4. DTO 변환 (DB에 아직 반영되지 않은 좋아요/스크랩 증감 포함)
+        PostDto.DetailResponse dto = PostDto.DetailResponse.from(post, hasLiked, hasScrapped);
+        dto.addPendingCounts(pendingLikes(postId), pendingScraps(postId));
+        return dto;
     }
 
     // 게시글 작성
     public void createPost(PostDto.Request dto, UserDto.AuthUser authUser) {
         Post post = dto.toEntity(User.builder().idx(authUser.getIdx()).build()); // toEntity에서 User 객체 받도록 수정
         postRepository.save(post);
+        postSearchIndex.index(post);
+        postFeedCache.invalidate();
     }
 
     public Page<PostDto.ListResponse> getPostsWithPaging(String keyword, int page, int size, String dir) {
-        return postQueryRepository.findPostsWithPaging(keyword, page, size, dir);
+        // 검색어가 없거나 색인 준비 전이면 기존 DB 조회
+        if (keyword == null || keyword.isBlank() || !postSearchIndex.isReady()) {
+            Page<PostDto.ListResponse> result = postQueryRepository.findPostsWithPaging(keyword, page, size, dir);
+            result.forEach(dto -> dto.addPendingCounts(pendingLikes(dto.getId()), pendingScraps(dto.getId())));
+            return result;
+        }
+
+        // 색인으로 찾은 게시글 ID 안에서 작성일 정렬
+        TopKCollector topK = new TopKCollector(MAX_SORTED_SEARCH_CANDIDATES);
+        postSearchIndex.search(keyword, topK);
+        List<Long> postIds = Arrays.stream(topK.drainRankedIds()).boxed().toList();
+
+        return postQueryRepository.findPostsByIds(postIds, page, size, dir)
+                .map(post -> toSearchResponse(post, keyword));
+    }
+
+    /**
+     * 게시글 검색 (정확도순)
+     * - 제목/본문 색인에서 BM25 점수 상위 (page+1)*size개만 수집해 요청 페이지의 게시글만 ID로 조회
+     * - 제목과 본문 요약에 검색어 하이라이트 포함
+     */
+    public PageResponse<PostDto.ListResponse> searchPosts(String keyword, int page, int size) {
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page는 0 이상, size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if (keyword == null || keyword.isBlank() || !postSearchIndex.isReady()) {
+            return PageResponse.from(getPostsWithPaging(keyword, page, size, "DESC"));
+        }
+
+        // 색인된 게시글 수보다 많이 모을 수 없으므로 깊은 페이지도 그만큼만 확보
+        long needed = (long) (page + 1) * size;
+        TopKCollector topK = new TopKCollector((int) Math.min(needed, postSearchIndex.docCount()));
+        postSearchIndex.search(keyword, topK);
+        int totalElements = topK.getCandidateCount();
+        long[] rankedIds = topK.drainRankedIds();
+
+        int from = (int) Math.min((long) page * size, rankedIds.length);
+        List<Long> pageIds = new ArrayList<>();
+        for (int i = from; i < rankedIds.length; i++) {
+            pageIds.add(rankedIds[i]);
+        }
+
+        // 색인 순위대로 정렬
+        Map<Long, Post> postsById = postQueryRepository.findAllWithUserByIds(pageIds).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post));
+        List<PostDto.ListResponse> content = pageIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .map(post -> toSearchResponse(post, keyword))
+                .collect(Collectors.toList());
+
+        int totalPages = (int) Math.ceil((double) totalElements / size);
+        return new PageResponse<>(content, page, totalPages, totalElements, size);
+    }
+
+    private PostDto.ListResponse toSearchResponse(Post post, String keyword) {
+        PostDto.ListResponse dto = PostDto.ListResponse.from(post,
+                post.getCommentCount() != null ? post.getCommentCount().intValue() : 0);
+        dto.applyHighlight(
+                PostSearchHighlighter.highlight(post.getTitle(), keyword),
+                PostSearchHighlighter.highlight(PostSearchHighlighter.plainText(post.getContent()), keyword, SNIPPET_LENGTH));
+        dto.addPendingCounts(pendingLikes(dto.getId()), pendingScraps(dto.getId()));
+        return dto;
     }
 
     // 메인 화면에서 쓸 게시글 조회
@@ -102,21 +182,65 @@ public class PostService {
                 }).collect(Collectors.toList());
 
         // 좋아요/스크랩 여부 조회
-        Set<Long> likedByUser = (userIdx == null || postIds.isEmpty()) ? Collections.emptySet() :
-                new HashSet<>(likeRepository.findLikedRecipeIdsByUser(LikeTargetType.POST, userIdx, postIds));
+        Set<Long> likedByUser = likesService.findLikedIds(userIdx, LikeTargetType.POST, postIds);
 
-        Set<Long> scrappedByUser = (userIdx == null || postIds.isEmpty()) ? Collections.emptySet() :
-                new HashSet<>(scrapRepository.findScrappedRecipeIdsByUser(ScrapTargetType.POST, userIdx, postIds));
+        Set<Long> scrappedByUser = scrapService.findScrappedIds(userIdx, ScrapTargetType.POST, postIds);
 
         // 좋아요/스크랩 여부 반영
         content.forEach(dto -> {
             dto.setHasLiked(likedByUser.contains(dto.getId()));
             dto.setHasScrapped(scrappedByUser.contains(dto.getId()));
+            dto.addPendingCounts(pendingLikes(dto.getId()), pendingScraps(dto.getId()));
+            dto.addPendingViews(postViewCounter.pending(ViewTargetType.POST, dto.getId()));
         });
 
         // PageImpl로 감싸서 반환
         return PageResponse.from(new PageImpl<>(content, pageable, postPage.getTotalElements()));
     }
 
-}
+    /**
+     * 커뮤니티 피드 (최신순 커서 페이지네이션)
+     * - 첫 페이지는 모든 사용자가 공유하는 스냅샷을 복사해 사용하고, 이후 페이지는 keyset 조회
+     * - 좋아요/스크랩 여부와 아직 반영되지 않은 카운트 증감은 요청마다 덧씌움
+     */
+    public PageResponse<PostDto.PostCardResponse> getFeed(Integer userIdx, String cursor, int size) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        CursorCodec.Cursor after = CursorCodec.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<PostDto.PostCardResponse> rows = (after == null && size < postFeedCache.maxRows())
+                ? postFeedCache.firstPage(size + 1)
+                : postQueryRepository.findFeed(after != null ? after.id() : null, size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<PostDto.PostCardResponse> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+
+        List<Long> postIds = content.stream().map(PostDto.PostCardResponse::getId).collect(Collectors.toList());
+        Set<Long> likedByUser = likesService.findLikedIds(userIdx, LikeTargetType.POST, postIds);
+        Set<Long> scrappedByUser = scrapService.findScrappedIds(userIdx, ScrapTargetType.POST, postIds);
+
+        content.forEach(dto -> {
+            dto.setHasLiked(likedByUser.contains(dto.getId()));
+            dto.setHasScrapped(scrappedByUser.contains(dto.getId()));
+            dto.addPendingCounts(pendingLikes(dto.getId()), pendingScraps(dto.getId()));
+            dto.addPendingViews(postViewCounter.pending(ViewTargetType.POST, dto.getId()));
+        });
+
+        String nextCursor = null;
+        if (hasNext) {
+            Long lastId = content.get(content.size() - 1).getId();
+            nextCursor = CursorCodec.encode(String.valueOf(lastId), lastId);
+        }
+        return PageResponse.ofCursor(content, size, nextCursor, null);
+    }
+
+    private long pendingLikes(Long postId) {
+        return likeCountBuffer.pending(LikeTargetType.POST, postId);
+    }
 
+    private long pendingScraps(Long postId) {
+        return scrapCountBuffer.pending(ScrapTargetType.POST, postId);
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.be17pickcook.domain.community.service;
+
+import org.example.be17pickcook.common.counter.RecentKeyFilter;
+import org.example.be17pickcook.common.counter.WriteBehindCounter;
+import org.example.be17pickcook.domain.community.model.ViewTargetType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 게시글 조회수 지연 반영 (posts.view_count)
+ * - 같은 사용자가 같은 게시글을 window 안에 다시 보면 세지 않음 (최근 조회 필터)
+ * - 조회마다 UPDATE하지 않고 메모리에 모아 주기적으로 배치 반영
+ */
+@Component
+public class PostViewCounter extends WriteBehindCounter<ViewTargetType> {
+
+    private final RecentKeyFilter recentViews;
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${post.view.dedup-window-minutes:30}") long windowMinutes,
+                           @Value("${post.view.dedup-bits:8388608}") int bits) {
+        super(jdbcTemplate, transactionManager);
+        this.recentViews = new RecentKeyFilter(bits, windowMinutes * 60_000L);
+    }
+
+    /**
+     * 조회 기록 (비로그인은 중복 판단 없이 매번 셈)
+     */
+    public void recordView(Integer viewerIdx, Long postId) {
+        if (viewerIdx != null && !recentViews.addIfAbsent(((long) viewerIdx << 32) ^ postId)) return;
+        add(ViewTargetType.POST, postId, 1);
+    }
+
+    @Override
+    protected String updateSql(ViewTargetType type) {
+        return switch (type) {
+            case POST -> "UPDATE posts SET view_count = COALESCE(view_count, 0) + ? WHERE post_id = ?";
+        };
+    }
+
+    @Override
+    protected String countSql(ViewTargetType type) {
+        return switch (type) {
+            case POST -> "SELECT COALESCE(view_count, 0) FROM posts WHERE post_id = ?";
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package org.example.be17pickcook.domain.engagement.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.example.be17pickcook.common.BaseResponse;
+import org.example.be17pickcook.domain.engagement.model.EngagementDto;
+import org.example.be17pickcook.domain.engagement.service.EngagementService;
+import org.example.be17pickcook.domain.user.model.UserDto;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/engagement")
+@Tag(name = "좋아요/스크랩 상태", description = "여러 대상의 좋아요/스크랩 상태를 한 번에 조회합니다.")
+public class EngagementController {
+    private final EngagementService engagementService;
+
+    @Operation(
+            summary = "좋아요/스크랩 상태 일괄 조회",
+            description = "레시피/게시글/댓글이 섞인 (type, id) 목록의 좋아요·스크랩 여부와 개수를 한 번에 조회합니다.\n" +
+                    "- type: RECIPE / POST / COMMENT (댓글은 scrapCount, scrapped가 null)\n" +
+                    "- 비로그인 시 liked/scrapped는 false\n" +
+                    "- 존재하지 않는 대상은 결과에서 제외"
+    )
+    @PostMapping("/state")
+    public BaseResponse<List<EngagementDto.State>> getStates(
+            @AuthenticationPrincipal UserDto.AuthUser authUser,
+            @Valid @RequestBody EngagementDto.StateRequest request) {
+        Integer userIdx = (authUser != null) ? authUser.getIdx() : null;
+        return BaseResponse.success(engagementService.getStates(userIdx, request.getTargets()));
+    }
+}
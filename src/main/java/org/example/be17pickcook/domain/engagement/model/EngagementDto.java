@@ -0,0 +1,83 @@
+package org.example.be17pickcook.domain.engagement.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.be17pickcook.domain.likes.model.LikeTargetType;
+
+import java.util.List;
+
+/**
+ * 좋아요/스크랩 상태 일괄 조회 DTO 모음
+ * - StateRequest: 조회할 (타입, ID) 목록
+ * - State: 대상별 좋아요/스크랩 여부와 개수
+ */
+@Schema(description = "좋아요/스크랩 상태 일괄 조회 DTO 클래스들")
+public class EngagementDto {
+
+    // =================================================================
+    // 요청 DTO
+    // =================================================================
+
+    @Schema(description = "좋아요/스크랩 상태 일괄 조회 요청")
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StateRequest {
+
+        @Schema(description = "조회할 대상 목록 (최대 200개)", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "조회할 대상 목록은 필수입니다.")
+        @Size(min = 1, max = 200, message = "대상은 1개 이상 200개 이하여야 합니다.")
+        private List<@Valid Target> targets;
+    }
+
+    @Schema(description = "조회 대상")
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Target {
+
+        @Schema(description = "대상 타입", example = "RECIPE", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "대상 타입은 필수입니다.")
+        private LikeTargetType type;
+
+        @Schema(description = "대상 ID", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "대상 ID는 필수입니다.")
+        private Long id;
+    }
+
+    // =================================================================
+    // 응답 DTO
+    // =================================================================
+
+    @Schema(description = "대상별 좋아요/스크랩 상태")
+    @Getter
+    @Builder
+    public static class State {
+
+        @Schema(description = "대상 타입", example = "RECIPE")
+        private LikeTargetType type;
+
+        @Schema(description = "대상 ID", example = "1")
+        private Long id;
+
+        @Schema(description = "좋아요 수", example = "12")
+        private long likeCount;
+
+        @Schema(description = "로그인 사용자가 좋아요를 눌렀는지 여부", example = "true")
+        private boolean liked;
+
+        @Schema(description = "스크랩 수 (댓글은 null)", example = "3")
+        private Long scrapCount;
+
+        @Schema(description = "로그인 사용자가 스크랩을 눌렀는지 여부 (댓글은 null)", example = "false")
+        private Boolean scrapped;
+    }
+}
@@ -0,0 +1,225 @@
+package org.example.be17pickcook.domain.engagement.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.be17pickcook.domain.likes.model.LikeTargetType;
+import org.example.be17pickcook.domain.likes.service.LikeCountBuffer;
+import org.example.be17pickcook.domain.scrap.model.ScrapTargetType;
+import org.example.be17pickcook.domain.scrap.service.ScrapCountBuffer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * 반정규화 카운트 보정 배치
+ * - 대상 테이블을 PK 범위 청크로 순회하며 저장된 카운트와 원본 테이블 GROUP BY 결과를 비교
+ * - 값이 다른 행만 "저장된 값이 그대로일 때만" 배치 UPDATE (그 사이 바뀐 행은 다음 실행에서 보정)
+ * - 지연 반영 버퍼에 증감이 남아 있는 행은 건너뜀 (반영 중인 값과 경합하지 않도록)
+ * - 청크마다 쉬어 가며 서비스 트래픽의 지연 시간에 영향을 줄임
+ * - 보정 현황은 공개 API가 아닌 Micrometer 지표로만 노출 (운영 모니터링에서 수집)
+ *   count.reconcile.corrected (항목별 누적), count.reconcile.last.corrected (마지막 실행),
+ *   count.reconcile.last.run (마지막 완료 시각, epoch 초)
+ */
+@Slf4j
+@Component
+public class CountReconciliationJob {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LikeCountBuffer likeCountBuffer;
+    private final ScrapCountBuffer scrapCountBuffer;
+    private final TransactionTemplate tx;
+    private final List<CountColumn> columns;
+
+    @Value("${count.reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    // 청크 사이 대기 시간 (ms)
+    @Value("${count.reconcile.pause-ms:200}")
+    private long pauseMs;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile boolean stopping;
+
+    // 항목별 누적 보정 행 수 / 마지막 실행의 보정 행 수 / 마지막 완료 시각 (지표)
+    private final Map<String, Counter> correctedTotals = new HashMap<>();
+    private final Map<String, AtomicLong> lastRunCorrected = new HashMap<>();
+    private final AtomicLong lastRunEpochSeconds = new AtomicLong();
+
+    public CountReconciliationJob(JdbcTemplate jdbcTemplate,
+                                  LikeCountBuffer likeCountBuffer,
+                                  ScrapCountBuffer scrapCountBuffer,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.likeCountBuffer = likeCountBuffer;
+        this.scrapCountBuffer = scrapCountBuffer;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.columns = List.of(
+                new CountColumn("recipe.like_count", "recipe", "idx", "like_count",
+                        targetCountSql("likes", LikeTargetType.RECIPE.name()),
+                        id -> likeCountBuffer.pending(LikeTargetType.RECIPE, id)),
+                new CountColumn("recipe.scrap_count", "recipe", "idx", "scrap_count",
+                        targetCountSql("scraps", ScrapTargetType.RECIPE.name()),
+                        id -> scrapCountBuffer.pending(ScrapTargetType.RECIPE, id)),
+                new CountColumn("recipe.comment_count", "recipe", "idx", "comment_count",
+                        "SELECT recipe_id, COUNT(*) FROM recipe_comments WHERE recipe_id BETWEEN ? AND ? GROUP BY recipe_id",
+                        id -> 0L),
+                new CountColumn("posts.like_count", "posts", "post_id", "like_count",
+                        targetCountSql("likes", LikeTargetType.POST.name()),
+                        id -> likeCountBuffer.pending(LikeTargetType.POST, id)),
+                new CountColumn("posts.scrap_count", "posts", "post_id", "scrap_count",
+                        targetCountSql("scraps", ScrapTargetType.POST.name()),
+                        id -> scrapCountBuffer.pending(ScrapTargetType.POST, id)),
+                new CountColumn("posts.comment_count", "posts", "post_id", "comment_count",
+                        "SELECT post_id, COUNT(*) FROM comments WHERE post_id BETWEEN ? AND ? GROUP BY post_id",
+                        id -> 0L),
+                new CountColumn("comments.like_count", "comments", "comment_id", "like_count",
+                        targetCountSql("likes", LikeTargetType.COMMENT.name()),
+                        id -> likeCountBuffer.pending(LikeTargetType.COMMENT, id))
+        );
+
+        for (CountColumn column : columns) {
+            correctedTotals.put(column.name(), Counter.builder("count.reconcile.corrected")
+                    .description("카운트 보정 배치가 보정한 누적 행 수")
+                    .tag("column", column.name())
+                    .register(meterRegistry));
+            AtomicLong last = new AtomicLong();
+            lastRunCorrected.put(column.name(), last);
+            Gauge.builder("count.reconcile.last.corrected", last, AtomicLong::get)
+                    .description("마지막 카운트 보정 실행에서 보정한 행 수")
+                    .tag("column", column.name())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("count.reconcile.last.run", lastRunEpochSeconds, AtomicLong::get)
+                .description("마지막 카운트 보정 완료 시각 (epoch 초, 실행 전이면 0)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    private static String targetCountSql(String table, String targetType) {
+        return "SELECT target_id, COUNT(*) FROM " + table +
+                " WHERE target_type = '" + targetType + "' AND target_id BETWEEN ? AND ? GROUP BY target_id";
+    }
+
+    @Scheduled(cron = "${count.reconcile.cron:0 30 3 * * *}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("카운트 보정 배치가 이미 실행 중입니다.");
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        Map<String, Long> corrected = new LinkedHashMap<>();
+        try {
+            // 버퍼에 쌓인 증감을 먼저 반영해 건너뛸 행을 줄임
+            likeCountBuffer.flush();
+            scrapCountBuffer.flush();
+
+            for (CountColumn column : columns) {
+                if (stopping) break;
+                corrected.put(column.name(), reconcile(column));
+            }
+
+            corrected.forEach((name, rows) -> lastRunCorrected.get(name).set(rows));
+            lastRunEpochSeconds.set(Instant.now().getEpochSecond());
+            log.info("카운트 보정 배치 완료: {}ms, 보정 {}", System.currentTimeMillis() - startedAt, corrected);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("카운트 보정 배치 중단: 보정 {}", corrected);
+        } catch (RuntimeException e) {
+            log.error("카운트 보정 배치 실패: 보정 {}", corrected, e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 한 항목을 PK 순 청크로 보정하고 보정한 행 수 반환
+     */
+    private long reconcile(CountColumn column) throws InterruptedException {
+        String storedSql = "SELECT " + column.pk() + ", COALESCE(" + column.column() + ", 0) FROM " + column.table() +
+                " WHERE " + column.pk() + " > ? ORDER BY " + column.pk() + " LIMIT ?";
+        String updateSql = "UPDATE " + column.table() + " SET " + column.column() + " = ?" +
+                " WHERE " + column.pk() + " = ? AND COALESCE(" + column.column() + ", 0) = ?";
+
+        long lastId = 0;
+        long scanned = 0;
+        long corrected = 0;
+
+        while (!stopping) {
+            // 1. 저장된 카운트 청크 (PK 오름차순)
+            List<long[]> stored = jdbcTemplate.query(storedSql,
+                    (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, lastId, chunkSize);
+            if (stored.isEmpty()) break;
+
+            long fromId = stored.get(0)[0];
+            long toId = stored.get(stored.size() - 1)[0];
+
+            // 2. 같은 PK 범위의 원본 GROUP BY 결과
+            Map<Long, Long> actual = new HashMap<>();
+            jdbcTemplate.query(column.sourceSql(),
+                    rs -> { actual.put(rs.getLong(1), rs.getLong(2)); }, fromId, toId);
+
+            // 3. 다른 행만 골라 저장된 값 조건부 UPDATE
+            List<Object[]> updates = new ArrayList<>();
+            for (long[] row : stored) {
+                long id = row[0];
+                long expected = actual.getOrDefault(id, 0L);
+                if (row[1] != expected && column.pending().applyAsLong(id) == 0) {
+                    updates.add(new Object[]{expected, id, row[1]});
+                }
+            }
+            if (!updates.isEmpty()) {
+                int[] results = tx.execute(status -> jdbcTemplate.batchUpdate(updateSql, updates));
+                corrected += countUpdated(results);
+            }
+
+            scanned += stored.size();
+            lastId = toId;
+            if (stored.size() < chunkSize) break;
+
+            // 4. 서비스 트래픽을 위해 청크 사이 대기
+            Thread.sleep(pauseMs);
+        }
+
+        correctedTotals.get(column.name()).increment(corrected);
+        log.info("카운트 보정: {} 검사 {}행, 보정 {}행", column.name(), scanned, corrected);
+        return corrected;
+    }
+
+    private static long countUpdated(int[] results) {
+        long count = 0;
+        for (int result : results) {
+            if (result > 0 || result == Statement.SUCCESS_NO_INFO) count++;
+        }
+        return count;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+    }
+
+    /**
+     * 보정 대상 카운트 컬럼
+     *
+     * @param sourceSql 원본 테이블에서 (대상 ID, 개수)를 PK 범위(BETWEEN ? AND ?)로 집계하는 쿼리
+     * @param pending   지연 반영 버퍼에 남은 증감 (0이 아니면 이번 실행에서 건너뜀)
+     */
+    private record CountColumn(String name, String table, String pk, String column,
+                               String sourceSql, ToLongFunction<Long> pending) {
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.be17pickcook.domain.engagement.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.be17pickcook.domain.community.repository.CommentRepository;
+import org.example.be17pickcook.domain.community.repository.PostRepository;
+import org.example.be17pickcook.domain.engagement.model.EngagementDto;
+import org.example.be17pickcook.domain.likes.model.LikeTargetType;
+import org.example.be17pickcook.domain.likes.service.LikeCountBuffer;
+import org.example.be17pickcook.domain.likes.service.LikeService;
+import org.example.be17pickcook.domain.recipe.repository.RecipeRepository;
+import org.example.be17pickcook.domain.scrap.model.ScrapTargetType;
+import org.example.be17pickcook.domain.scrap.service.ScrapCountBuffer;
+import org.example.be17pickcook.domain.scrap.service.ScrapService;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * 레시피/게시글/댓글이 섞인 화면의 좋아요/스크랩 상태 일괄 조회
+ * - 개수: 테이블별 IN 쿼리 1번씩 (요청에 있는 타입만)
+ * - 여부: 사용자별 여부 캐시에서 조회 (쿼리 없음)
+ * - DB에 아직 반영되지 않은 증감 포함
+ */
+@Service
+@RequiredArgsConstructor
+public class EngagementService {
+    private final RecipeRepository recipeRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikeService likeService;
+    private final ScrapService scrapService;
+    private final LikeCountBuffer likeCountBuffer;
+    private final ScrapCountBuffer scrapCountBuffer;
+
+    /**
+     * 요청 순서대로 상태 반환 (존재하지 않는 대상과 중복 대상은 제외)
+     */
+    public List<EngagementDto.State> getStates(Integer userIdx, List<EngagementDto.Target> targets) {
+        // 1. 타입별 ID 묶기
+        Map<LikeTargetType, Set<Long>> idsByType = new EnumMap<>(LikeTargetType.class);
+        for (EngagementDto.Target target : targets) {
+            idsByType.computeIfAbsent(target.getType(), k -> new LinkedHashSet<>()).add(target.getId());
+        }
+
+        // 2. 타입별 개수 조회 (ID → [likeCount, scrapCount])
+        Map<LikeTargetType, Map<Long, long[]>> countsByType = new EnumMap<>(LikeTargetType.class);
+        idsByType.forEach((type, ids) -> countsByType.put(type, toCountMap(switch (type) {
+            case RECIPE -> recipeRepository.findCountsByIds(ids);
+            case POST -> postRepository.findCountsByIds(ids);
+            case COMMENT -> commentRepository.findLikeCountsByIds(ids);
+        })));
+
+        // 3. 타입별 좋아요/스크랩 여부
+        Map<LikeTargetType, Set<Long>> likedByType = new EnumMap<>(LikeTargetType.class);
+        Map<LikeTargetType, Set<Long>> scrappedByType = new EnumMap<>(LikeTargetType.class);
+        idsByType.forEach((type, ids) -> {
+            likedByType.put(type, likeService.findLikedIds(userIdx, type, ids));
+            ScrapTargetType scrapType = toScrapType(type);
+            if (scrapType != null) {
+                scrappedByType.put(type, scrapService.findScrappedIds(userIdx, scrapType, ids));
+            }
+        });
+
+        // 4. 요청 순서대로 조립
+        List<EngagementDto.State> states = new ArrayList<>(targets.size());
+        Map<LikeTargetType, Set<Long>> emitted = new EnumMap<>(LikeTargetType.class);
+        for (EngagementDto.Target target : targets) {
+            LikeTargetType type = target.getType();
+            Long id = target.getId();
+            long[] counts = countsByType.get(type).get(id);
+            if (counts == null || !emitted.computeIfAbsent(type, k -> new HashSet<>()).add(id)) continue;
+
+            ScrapTargetType scrapType = toScrapType(type);
+            states.add(EngagementDto.State.builder()
+                    .type(type)
+                    .id(id)
+                    .likeCount(Math.max(counts[0] + likeCountBuffer.pending(type, id), 0L))
+                    .liked(likedByType.get(type).contains(id))
+                    .scrapCount(scrapType != null ? Math.max(counts[1] + scrapCountBuffer.pending(scrapType, id), 0L) : null)
+                    .scrapped(scrapType != null ? scrappedByType.get(type).contains(id) : null)
+                    .build());
+        }
+        return states;
+    }
+
+    // [id, likeCount, (scrapCount)] 행 → ID별 개수 (null은 0)
+    private static Map<Long, long[]> toCountMap(List<Object[]> rows) {
+        Map<Long, long[]> map = new HashMap<>();
+        for (Object[] row : rows) {
+            long[] counts = new long[2];
+            counts[0] = row[1] != null ? ((Number) row[1]).longValue() : 0L;
+            counts[1] = row.length > 2 && row[2] != null ? ((Number) row[2]).longValue() : 0L;
+            map.put(((Number) row[0]).longValue(), counts);
+        }
+        return map;
+    }
+
+    // 스크랩 대상이 아닌 타입(댓글)은 null
+    private static ScrapTargetType toScrapType(LikeTargetType type) {
+        return switch (type) {
+            case RECIPE -> ScrapTargetType.RECIPE;
+            case POST -> ScrapTargetType.POST;
+            case COMMENT -> null;
+        };
+    }
+}
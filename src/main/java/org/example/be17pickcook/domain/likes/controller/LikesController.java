@@ -2,6 +2,7 @@ package org.example.be17pickcook.domain.likes.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.be17pickcook.common.BaseResponse;
+import org.example.be17pickcook.domain.likes.model.LikeDto;
 import org.example.be17pickcook.domain.likes.model.LikeTargetType;
 import org.example.be17pickcook.domain.user.model.UserDto;
 import org.example.be17pickcook.domain.likes.service.LikeService;
@@ -22,13 +23,11 @@ public class LikesController {
      */
 
     @PostMapping
-    public BaseResponse like(
+    public BaseResponse<LikeDto.Response> like(
             @AuthenticationPrincipal UserDto.AuthUser authUser,
             @RequestParam LikeTargetType targetType,
             @RequestParam Long targetId) {
 
-        likeService.toggleLike(authUser, targetType, targetId);
-
-        return BaseResponse.success("좋아요 기능 성공");
+        return BaseResponse.success(likeService.toggleLike(authUser, targetType, targetId), "좋아요 기능 성공");
     }
 }
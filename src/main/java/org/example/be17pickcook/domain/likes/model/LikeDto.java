@@ -28,7 +28,7 @@ public class LikeDto {
     @AllArgsConstructor
     @NoArgsConstructor
     public static class Response {
-        private int likeCount;
+        private long likeCount;
         private boolean hasLiked;
     }
 }
@@ -3,6 +3,7 @@ package org.example.be17pickcook.domain.likes.repository;
 import org.example.be17pickcook.domain.likes.model.LikeTargetType;
 import org.example.be17pickcook.domain.likes.model.Like;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -29,4 +30,24 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
                                            @Param("userId") Integer userId,
                                            @Param("recipeIds") List<Long> recipeIds);
 
+    // 사용자가 좋아요한 대상 ID 전체 (여부 캐시 로딩용)
+    @Query("SELECT l.targetId FROM Like l WHERE l.targetType = :targetType AND l.user.idx = :userId")
+    List<Long> findTargetIdsByUser(@Param("targetType") LikeTargetType targetType,
+                                   @Param("userId") Integer userId);
+
+    // 토글용: 유니크 키 기준 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM Like l " +
+            "WHERE l.user.idx = :userIdx AND l.targetType = :targetType AND l.targetId = :targetId")
+    int deleteByUniqueKey(@Param("userIdx") Integer userIdx,
+                          @Param("targetType") LikeTargetType targetType,
+                          @Param("targetId") Long targetId);
+
+    // 토글용: 유니크 키 충돌 시 무시 (동시 요청이 이미 넣었으면 0 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO likes (user_id, target_type, target_id) " +
+            "VALUES (:userIdx, :targetType, :targetId)", nativeQuery = true)
+    int insertIgnore(@Param("userIdx") Integer userIdx,
+                     @Param("targetType") String targetType,
+                     @Param("targetId") Long targetId);
 }
@@ -0,0 +1,36 @@
+package org.example.be17pickcook.domain.likes.service;
+
+import org.example.be17pickcook.common.counter.WriteBehindCounter;
+import org.example.be17pickcook.domain.likes.model.LikeTargetType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 좋아요 수 지연 반영 (recipe / posts / comments 의 like_count)
+ */
+@Component
+public class LikeCountBuffer extends WriteBehindCounter<LikeTargetType> {
+
+    public LikeCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        super(jdbcTemplate, transactionManager);
+    }
+
+    @Override
+    protected String updateSql(LikeTargetType type) {
+        return switch (type) {
+            case RECIPE -> "UPDATE recipe SET like_count = GREATEST(COALESCE(like_count, 0) + ?, 0) WHERE idx = ?";
+            case POST -> "UPDATE posts SET like_count = GREATEST(COALESCE(like_count, 0) + ?, 0) WHERE post_id = ?";
+            case COMMENT -> "UPDATE comments SET like_count = GREATEST(COALESCE(like_count, 0) + ?, 0) WHERE comment_id = ?";
+        };
+    }
+
+    @Override
+    protected String countSql(LikeTargetType type) {
+        return switch (type) {
+            case RECIPE -> "SELECT COALESCE(like_count, 0) FROM recipe WHERE idx = ?";
+            case POST -> "SELECT COALESCE(like_count, 0) FROM posts WHERE post_id = ?";
+            case COMMENT -> "SELECT COALESCE(like_count, 0) FROM comments WHERE comment_id = ?";
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.be17pickcook.domain.likes.service;
+
+import org.example.be17pickcook.common.membership.UserMembershipCache;
+import org.example.be17pickcook.domain.likes.model.LikeTargetType;
+import org.example.be17pickcook.domain.likes.repository.LikeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 사용자별 좋아요 여부 캐시
+ */
+@Component
+public class LikeMembershipCache extends UserMembershipCache<LikeTargetType> {
+
+    private final LikeRepository likeRepository;
+
+    public LikeMembershipCache(LikeRepository likeRepository,
+                               @Value("${membership.cache.max-entries:10000}") int maxEntries) {
+        super(maxEntries);
+        this.likeRepository = likeRepository;
+    }
+
+    @Override
+    protected List<Long> loadTargetIds(Integer userIdx, LikeTargetType type) {
+        return likeRepository.findTargetIdsByUser(type, userIdx);
+    }
+}
@@ -2,59 +2,61 @@ package org.example.be17pickcook.domain.likes.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.example.be17pickcook.domain.community.repository.CommentRepository;
-import org.example.be17pickcook.domain.community.repository.PostRepository;
-import org.example.be17pickcook.domain.likes.model.LikeCountable;
-import org.example.be17pickcook.domain.recipe.repository.RecipeRepository;
-import org.example.be17pickcook.domain.user.model.User;
+import org.example.be17pickcook.domain.likes.model.LikeDto;
 import org.example.be17pickcook.domain.user.model.UserDto;
 import org.example.be17pickcook.domain.likes.model.LikeTargetType;
-import org.example.be17pickcook.domain.likes.model.Like;
 import org.example.be17pickcook.domain.likes.repository.LikeRepository;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class LikeService {
     private final LikeRepository likeRepository;
-    private final RecipeRepository recipeRepository;
-    private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
-
-    private LikeCountable getTargetEntity(LikeTargetType targetType, Long targetId) {
-        return switch (targetType) {
-            case RECIPE -> recipeRepository.findById(targetId)
-                    .orElseThrow(() -> new IllegalArgumentException("레시피가 없습니다."));
-            case POST -> postRepository.findById(targetId)
-                    .orElseThrow(() -> new IllegalArgumentException("커뮤니티 글이 없습니다."));
-            case COMMENT -> commentRepository.findById(targetId)
-                    .orElseThrow(() -> new IllegalArgumentException("댓글이 없습니다."));
-        };
-    }
+    private final LikeCountBuffer likeCountBuffer;
+    private final LikeMembershipCache likeMembershipCache;
 
+    /**
+     * 좋아요 토글
+     * - 유니크 키 (user, targetType, targetId) 기준 DELETE → 지운 행이 없으면 INSERT IGNORE
+     *   → 동시 더블클릭도 유니크 제약 예외 없이 한 상태로 수렴하고 카운트는 실제로 바뀐 만큼만 증감
+     * - 카운트는 PK로 컬럼 하나만 읽고(대상 존재 확인 겸용) 증감은 지연 반영 버퍼로 보냄
+     */
     @Transactional
-    public void toggleLike(UserDto.AuthUser authUser, LikeTargetType targetType, Long targetId) {
+    public LikeDto.Response toggleLike(UserDto.AuthUser authUser, LikeTargetType targetType, Long targetId) {
         Integer userIdx = authUser.getIdx();
-        LikeCountable target = getTargetEntity(targetType, targetId);
 
-        Optional<Like> existing = likeRepository.findByUserIdxAndTargetTypeAndTargetId(userIdx, targetType, target.getIdxLike());
+        Long count = likeCountBuffer.currentCount(targetType, targetId);
+        if (count == null) {
+            throw new IllegalArgumentException(switch (targetType) {
+                case RECIPE -> "레시피가 없습니다.";
+                case POST -> "커뮤니티 글이 없습니다.";
+                case COMMENT -> "댓글이 없습니다.";
+            });
+        }
 
-        if (existing.isPresent()) {
+        boolean hasLiked;
+        long delta;
+        if (likeRepository.deleteByUniqueKey(userIdx, targetType, targetId) > 0) {
             // 좋아요 삭제
-            likeRepository.delete(existing.get());
-            target.decreaseLike();
+            hasLiked = false;
+            delta = -1;
         } else {
-            // 좋아요 생성
-            Like likes = Like.builder()
-                    .user(User.builder().idx(userIdx).build())
-                    .targetType(targetType)
-                    .targetId(target.getIdxLike())
-                    .build();
-            likeRepository.save(likes);
-            target.increaseLike();
+            // 좋아요 생성 (동시 요청이 먼저 넣었으면 0 → 이미 좋아요 상태)
+            hasLiked = true;
+            delta = likeRepository.insertIgnore(userIdx, targetType.name(), targetId) > 0 ? 1 : 0;
+        }
+        if (delta != 0) {
+            likeCountBuffer.add(targetType, targetId, delta);
         }
+        likeMembershipCache.update(userIdx, targetType, targetId, hasLiked);
+
+        return LikeDto.Response.builder()
+                .likeCount(Math.max(count + delta, 0L))
+                .hasLiked(hasLiked)
+                .build();
     }
 
     // 좋아요 개수 가져오기 (반정규화 전)
@@ -62,8 +64,13 @@ public class LikeService {
         return likeRepository.countByTargetTypeAndTargetId(targetType, targetId);
     }
 
-    // 사용자가 좋아요 눌렀는지 확인
+    // 사용자가 좋아요 눌렀는지 확인 (사용자별 여부 캐시)
     public boolean hasUserLiked(Integer userIdx, LikeTargetType targetType, Long targetId) {
-        return likeRepository.existsByUserIdxAndTargetTypeAndTargetId(userIdx, targetType, targetId);
+        return likeMembershipCache.contains(userIdx, targetType, targetId);
+    }
+
+    // 목록 페이지용: targetIds 중 사용자가 좋아요한 ID (비로그인이면 빈 Set)
+    public Set<Long> findLikedIds(Integer userIdx, LikeTargetType targetType, Collection<Long> targetIds) {
+        return likeMembershipCache.filter(userIdx, targetType, targetIds);
     }
 }
@@ -10,6 +10,7 @@ import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.example.be17pickcook.common.BaseResponse;
 import org.example.be17pickcook.common.PageResponse;
+import org.example.be17pickcook.domain.product.model.CatalogSort;
 import org.example.be17pickcook.domain.product.model.ProductDto;
 import org.example.be17pickcook.domain.product.service.ProductService;
 import org.example.be17pickcook.domain.user.model.UserDto;
@@ -105,6 +106,41 @@ public class ProductController {
         return BaseResponse.success(productService.getProductList(userIdx, pageable));
     }
 
+    // ================== 카탈로그 검색 (필터 + 패싯) ==================
+    @Operation(
+            summary = "상품 카탈로그 검색",
+            description = "검색어, 카테고리, 판매가 범위, 할인 구간으로 상품을 필터링하고 판매가/리뷰 수/최신순으로 정렬합니다.\n" +
+                    "카테고리별, 할인 구간별 상품 수(패싯)를 함께 반환합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "잘못된 검색 조건")
+            }
+    )
+    @GetMapping("/catalog")
+    public BaseResponse<ProductDto.CatalogResponse> searchCatalog(
+            @AuthenticationPrincipal UserDto.AuthUser authUser,
+            @Parameter(description = "검색어 (상품 제목/부제목)", example = "계란")
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "카테고리 (여러 개 선택 가능)", example = "채소")
+            @RequestParam(required = false) List<String> categories,
+            @Parameter(description = "최소 판매가 (원)", example = "1000")
+            @RequestParam(required = false) Integer minPrice,
+            @Parameter(description = "최대 판매가 (원)", example = "20000")
+            @RequestParam(required = false) Integer maxPrice,
+            @Parameter(description = "할인 구간 (NONE, UNDER_10, 10_TO_19, 20_TO_29, 30_PLUS / 여러 개 선택 가능)", example = "20_TO_29")
+            @RequestParam(required = false) List<String> discounts,
+            @Parameter(description = "정렬 (RELEVANCE, PRICE_ASC, PRICE_DESC, REVIEWS, NEWEST)", example = "PRICE_ASC")
+            @RequestParam(defaultValue = "RELEVANCE") CatalogSort sort,
+            @Parameter(description = "페이지 번호", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Integer userIdx = (authUser != null) ? authUser.getIdx() : null;
+        return BaseResponse.success(productService.searchCatalog(
+                userIdx, keyword, categories, minPrice, maxPrice, discounts, sort, page, size));
+    }
+
 
 
     // ================== 단건 조회 (리뷰 포함) ==================
@@ -197,12 +233,14 @@ public class ProductController {
     // 기존 코드 유지하고 아래 메서드 추가
 
     @GetMapping("/recipe/{recipeId}/related")
-    @Operation(summary = "레시피 기반 연관 상품 조회", description = "레시피 재료를 기반으로 연관된 상품 16개를 추천합니다")
+    @Operation(summary = "레시피 기반 연관 상품 조회", description = "레시피 재료를 기반으로 연관된 상품 16개를 추천합니다\n" +
+            "- 매칭 상품이 부족하면 랜덤 상품으로 보충 (stratified=true면 카테고리 비율에 맞춰 추출)")
     public ResponseEntity<BaseResponse<List<ProductDto.RelatedProductResponse>>> getRelatedProductsByRecipe(
-            @PathVariable @Parameter(description = "레시피 ID") Long recipeId) {
+            @PathVariable @Parameter(description = "레시피 ID") Long recipeId,
+            @RequestParam(defaultValue = "false") @Parameter(description = "카테고리별 층화 추출 여부") boolean stratified) {
 
         List<ProductDto.RelatedProductResponse> relatedProducts =
-                productService.getRelatedProductsByRecipe(recipeId);
+                productService.getRelatedProductsByRecipe(recipeId, stratified);
 
         return ResponseEntity.ok(BaseResponse.success(relatedProducts));
     }
@@ -0,0 +1,16 @@
+package org.example.be17pickcook.domain.product.model;
+
+/**
+ * 상품 카탈로그 검색 정렬 방식
+ */
+public enum CatalogSort {
+    // 검색어 정확도 (검색어가 없으면 NEWEST)
+    RELEVANCE,
+    // 실제 판매가 낮은 순 / 높은 순
+    PRICE_ASC,
+    PRICE_DESC,
+    // 리뷰 많은 순
+    REVIEWS,
+    // 최신 등록순
+    NEWEST
+}
@@ -21,7 +21,13 @@ import jakarta.validation.constraints.*;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "products")
+@Table(
+        name = "products",
+        indexes = {
+                @Index(name = "idx_products_effective_price", columnList = "effective_price"),
+                @Index(name = "idx_products_category_price", columnList = "category, effective_price")
+        }
+)
 public class Product extends BaseEntity {
 
     @Id
@@ -121,6 +127,10 @@ public class Product extends BaseEntity {
 
     private Long review_count;
 
+    // 실제 판매가 = 정가 × (100 - 할인율) / 100 (정렬/가격 필터용 반정규화, 저장 시 자동 계산)
+    @Column(name = "effective_price")
+    private Integer effective_price;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
@@ -138,5 +148,18 @@ public class Product extends BaseEntity {
             throw new IllegalArgumentException("할인율은 0% 이상 99% 이하여야 합니다.");
         }
         this.discount_rate = rate;
+        updateEffectivePrice();
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void updateEffectivePrice() {
+        this.effective_price = effectivePrice(original_price, discount_rate);
+    }
+
+    public static Integer effectivePrice(Integer originalPrice, Integer discountRate) {
+        if (originalPrice == null) return null;
+        int rate = discountRate != null ? discountRate : 0;
+        return (int) ((long) originalPrice * (100 - rate) / 100);
     }
 }
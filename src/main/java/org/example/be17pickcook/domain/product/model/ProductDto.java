@@ -6,11 +6,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.be17pickcook.common.PageResponse;
 import org.example.be17pickcook.domain.review.model.ReviewDto;
 import org.example.be17pickcook.domain.user.model.User;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Product DTOs (엔티티 변환을 DTO 내부에서 처리: from / toEntity / apply)
@@ -79,6 +81,9 @@ public class ProductDto {
         @Schema(description = "정가 (원)", example = "5000")
         private Integer original_price;
 
+        @Schema(description = "실제 판매가 (원, 할인 적용)", example = "4250")
+        private Integer effective_price;
+
         @Schema(description = "장바구니 담았는지 여부", example = "true")
         private Boolean isInCart;
 
@@ -532,5 +537,25 @@ public class ProductDto {
             this.matchType = matchType;
             this.matchedIngredient = matchedIngredient;
         }
+
+        // 매칭된 재료명만 바꾼 복사본
+        public RelatedProductResponse withMatchedIngredient(String ingredient) {
+            return new RelatedProductResponse(productId, title, subtitle, originalPrice, discountRate,
+                    mainImageUrl, categoryName, matchType, ingredient);
+        }
+    }
+
+    @Getter
+    @Builder
+    @Schema(description = "상품 카탈로그 검색 응답 DTO")
+    public static class CatalogResponse {
+        @Schema(description = "정렬된 상품 목록 (페이징)")
+        private PageResponse<ProductListResponse> products;
+
+        @Schema(description = "카테고리별 상품 수 (카테고리 필터를 제외한 나머지 조건 기준)")
+        private Map<String, Integer> categoryFacets;
+
+        @Schema(description = "할인 구간별 상품 수 (할인 필터를 제외한 나머지 조건 기준, NONE/UNDER_10/10_TO_19/20_TO_29/30_PLUS)")
+        private Map<String, Integer> discountFacets;
     }
 }
@@ -4,14 +4,42 @@ import org.example.be17pickcook.domain.product.model.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
     Page<Product> findAll(Pageable pageable);
 
     @Query("SELECT p.id, p.title, p.main_image_url, p.discount_rate, p.original_price, " +
-            "p.review_count FROM Product p")
+            "p.review_count, p.effective_price FROM Product p")
     Page<Object[]> findAllOnlyProductList(Pageable pageable);
 
+    // 카탈로그 검색 결과 페이지 조회용 (findAllOnlyProductList와 같은 컬럼)
+    @Query("SELECT p.id, p.title, p.main_image_url, p.discount_rate, p.original_price, " +
+            "p.review_count, p.effective_price FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findListRowsByIds(@Param("ids") Collection<Long> ids);
+
+    // 재료-상품 매칭 색인 구축용 (id, title, subtitle)
+    @Query("SELECT p.id, p.title, p.subtitle FROM Product p")
+    List<Object[]> findAllMatchFields();
+
+    // 랜덤 상품 추출기 구축용 (id, category)
+    @Query("SELECT p.id, p.category FROM Product p")
+    List<Object[]> findAllIdAndCategory();
+
+    // 상품 카탈로그 색인 구축용 (id, title, subtitle, category, original_price, discount_rate, review_count)
+    @Query("SELECT p.id, p.title, p.subtitle, p.category, p.original_price, p.discount_rate, p.review_count FROM Product p")
+    List<Object[]> findCatalogFields();
+
+    // 리뷰 작성/삭제 시 리뷰 수 증감 (리뷰 집계와 같은 트랜잭션)
+    @Modifying
+    @Query(value = "UPDATE products SET review_count = COALESCE(review_count, 0) + :delta WHERE product_id = :productId",
+            nativeQuery = true)
+    int addReviewCount(@Param("productId") Long productId, @Param("delta") long delta);
+
 
 }
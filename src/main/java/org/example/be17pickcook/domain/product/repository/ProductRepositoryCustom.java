@@ -2,6 +2,7 @@ package org.example.be17pickcook.domain.product.repository;
 
 import org.example.be17pickcook.domain.product.model.ProductDto;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -11,17 +12,17 @@ import java.util.List;
 public interface ProductRepositoryCustom {
 
     /**
-     * 레시피 재료 기반 연관 상품 조회
+     * 레시피 재료명 조회
      * @param recipeId 레시피 ID
-     * @param limit 조회 개수 제한 (기본 16개)
-     * @return 연관 상품 목록
+     * @return 재료명 목록 (등록 순)
      */
-    List<ProductDto.RelatedProductResponse> findProductsByRecipeIngredients(Long recipeId, Integer limit);
+    List<String> findIngredientNamesByRecipeId(Long recipeId);
 
     /**
-     * 랜덤 상품 조회 (매칭 상품 부족 시 사용)
-     * @param limit 조회 개수
-     * @return 랜덤 상품 목록
+     * 상품 ID 목록으로 연관 상품 일괄 조회 (순서는 호출 측에서 맞춤)
+     * @param productIds 상품 ID 목록
+     * @param matchType 매칭 타입 (INGREDIENT_MATCH / RANDOM)
+     * @return 연관 상품 목록
      */
-    List<ProductDto.RelatedProductResponse> findRandomProducts(Integer limit);
-}
\ No newline at end of file
+    List<ProductDto.RelatedProductResponse> findRelatedProductsByIds(Collection<Long> productIds, String matchType);
+}
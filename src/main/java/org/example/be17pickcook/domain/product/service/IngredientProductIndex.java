@@ -0,0 +1,339 @@
+package org.example.be17pickcook.domain.product.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.be17pickcook.common.ingredient.IngredientDictionary;
+import org.example.be17pickcook.common.ingredient.IngredientDictionaryReloadedEvent;
+import org.example.be17pickcook.domain.product.model.Product;
+import org.example.be17pickcook.domain.product.repository.ProductRepository;
+import org.example.be17pickcook.domain.recipe.repository.RecipeIngredientRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 재료명 → 연관 상품 매칭 색인
+ * - 재료 사전의 대표 재료명마다 매칭 상품 ID를 점수 순으로 최대 MAX_RANKED_PER_TERM개 보관
+ *   (점수: 제목에 같은 재료 포함 3 > 부제목에 포함 2 > 연관어/앞뒤 2글자 포함 1, 동점이면 최신 상품 우선)
+ * - 상품 제목/부제목도 사전으로 한 번 훑어 대표 재료 ID를 구해 두므로 동의어끼리 매칭 (달걀 ↔ 계란 30구)
+ * - 기동 시 전체 상품 × 레시피 재료명으로 1회 구축, 상품 등록/수정/삭제 시 해당 상품만 재평가
+ *   (트랜잭션 안이면 커밋 후에 반영, 롤백되면 버림), 재료 사전이 바뀌면 전체 재구축
+ * - 구축 이후 처음 나온 재료명은 조회 시점에 읽기 락으로 한 번 계산해 보관
+ * - 연관 상품 조회를 재료 수만큼의 LIKE 검색 대신 메모리 조회 + 상품 일괄 조회 1회로 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngredientProductIndex {
+
+    private static final int MAX_RANKED_PER_TERM = 16;
+    private static final int ID_BITS = 40;
+    private static final long ID_MASK = (1L << ID_BITS) - 1;
+
+    private final ProductRepository productRepository;
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final IngredientDictionary ingredientDictionary;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 상품 ID → 제목/부제목 매칭 정보
+    private final Map<Long, ProductText> products = new HashMap<>();
+    // 재료명 → (점수 << ID_BITS | 상품 ID) 내림차순 배열
+    private final Map<String, long[]> termProducts = new HashMap<>();
+    // 상품 목록이 바뀔 때마다 증가 (쓰기 락으로 보호) - 읽기 락으로 계산한 순위가 그 사이 낡았는지 확인
+    private long version;
+
+    private volatile boolean ready;
+
+    // =================================================================
+    // 구축 / 갱신
+    // =================================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        long start = System.currentTimeMillis();
+        // id, title, subtitle
+        List<Object[]> productRows = productRepository.findAllMatchFields();
+        List<String> ingredientNames = recipeIngredientRepository.findDistinctIngredientNames();
+
+        lock.writeLock().lock();
+        try {
+            version++;
+            products.clear();
+            termProducts.clear();
+            for (Object[] row : productRows) {
+                products.put(((Number) row[0]).longValue(), productText((String) row[1], (String) row[2]));
+            }
+            for (String name : ingredientNames) {
+                if (name == null) continue;
+                String term = ingredientDictionary.canonicalTerm(name);
+                if (isIndexable(term) && !termProducts.containsKey(term)) {
+                    termProducts.put(term, rank(term));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+
+        log.info("재료-상품 매칭 색인 구축 완료: 상품 {}개, 재료 {}종, {}ms",
+                productRows.size(), termProducts.size(), System.currentTimeMillis() - start);
+    }
+
+    @EventListener
+    public void onDictionaryReloaded(IngredientDictionaryReloadedEvent event) {
+        build();
+    }
+
+    /** 상품 등록/수정 시 호출 */
+    public void put(Product product) {
+        if (product.getId() == null) return;
+        long productId = product.getId();
+        ProductText texts = productText(product.getTitle(), product.getSubtitle());
+
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                version++;
+                products.put(productId, texts);
+                reevaluate(productId, texts);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /** 상품 삭제 시 호출 */
+    public void remove(Long productId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                version++;
+                if (products.remove(productId) != null) reevaluate(productId, null);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    // 트랜잭션 안이면 커밋 후에 실행 (롤백된 변경이 색인에 남지 않도록)
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    // 쓰기 락을 잡은 상태에서만 호출 (texts가 null이면 삭제)
+    private void reevaluate(long productId, ProductText texts) {
+        Iterator<Map.Entry<String, long[]>> it = termProducts.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, long[]> entry = it.next();
+            long[] ranked = entry.getValue();
+            int score = texts != null ? score(entry.getKey(), texts) : 0;
+
+            int pos = indexOfProduct(ranked, productId);
+            if (pos < 0 && score == 0) continue;
+
+            // 가득 찬 목록에서 빠지면 다음 순위 상품을 알 수 없으므로 다음 조회 때 다시 계산
+            if (pos >= 0 && score == 0 && ranked.length == MAX_RANKED_PER_TERM) {
+                it.remove();
+                continue;
+            }
+
+            long[] next = ranked;
+            if (pos >= 0) {
+                next = new long[ranked.length - 1];
+                System.arraycopy(ranked, 0, next, 0, pos);
+                System.arraycopy(ranked, pos + 1, next, pos, ranked.length - pos - 1);
+            }
+            if (score > 0) next = insertRanked(next, pack(score, productId));
+            entry.setValue(next);
+        }
+    }
+
+    private static int indexOfProduct(long[] ranked, long productId) {
+        for (int i = 0; i < ranked.length; i++) {
+            if ((ranked[i] & ID_MASK) == productId) return i;
+        }
+        return -1;
+    }
+
+    // 내림차순 배열에 삽입하고 MAX_RANKED_PER_TERM개로 자름
+    private static long[] insertRanked(long[] ranked, long key) {
+        int pos = 0;
+        while (pos < ranked.length && ranked[pos] > key) pos++;
+        if (pos >= MAX_RANKED_PER_TERM) return ranked;
+
+        int length = Math.min(ranked.length + 1, MAX_RANKED_PER_TERM);
+        long[] next = new long[length];
+        System.arraycopy(ranked, 0, next, 0, pos);
+        next[pos] = key;
+        System.arraycopy(ranked, pos, next, pos + 1, length - pos - 1);
+        return next;
+    }
+
+    // 읽기 또는 쓰기 락을 잡은 상태에서만 호출
+    private long[] rank(String term) {
+        long[] ranked = new long[0];
+        for (Map.Entry<Long, ProductText> e : products.entrySet()) {
+            int score = score(term, e.getValue());
+            if (score > 0) ranked = insertRanked(ranked, pack(score, e.getKey()));
+        }
+        return ranked;
+    }
+
+    // =================================================================
+    // 조회
+    // =================================================================
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 재료 순서대로 재료당 최대 perIngredient개씩 매칭 상품을 모아 limit개까지 반환
+     *
+     * @return 상품 ID → 매칭된 재료명 (재료 순서, 재료 내 점수 순)
+     */
+    public LinkedHashMap<Long, String> lookup(List<String> ingredientNames, int perIngredient, int limit) {
+        LinkedHashMap<Long, String> matches = new LinkedHashMap<>();
+        if (!ready || ingredientNames.isEmpty()) return matches;
+
+        Map<String, long[]> rankedByTerm = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (String name : ingredientNames) {
+                if (name == null) continue;
+                String term = ingredientDictionary.canonicalTerm(name);
+                if (!isIndexable(term) || rankedByTerm.containsKey(term)) continue;
+                long[] ranked = termProducts.get(term);
+                rankedByTerm.put(term, ranked);
+                if (ranked == null) missing.add(term);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 색인에 없는 재료명은 읽기 락으로 계산 (등록/수정을 오래 막지 않음)
+        if (!missing.isEmpty()) {
+            Map<String, long[]> computed = new HashMap<>();
+            long computedVersion;
+            lock.readLock().lock();
+            try {
+                computedVersion = version;
+                for (String term : missing) {
+                    computed.put(term, rank(term));
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+
+            // 그 사이 상품이 바뀌지 않았을 때만 보관 (먼저 보관된 값이 있으면 그것을 사용)
+            lock.writeLock().lock();
+            try {
+                boolean current = version == computedVersion;
+                for (Map.Entry<String, long[]> e : computed.entrySet()) {
+                    long[] stored = current
+                            ? termProducts.putIfAbsent(e.getKey(), e.getValue())
+                            : termProducts.get(e.getKey());
+                    rankedByTerm.put(e.getKey(), stored != null ? stored : e.getValue());
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        for (Map.Entry<String, long[]> e : rankedByTerm.entrySet()) {
+            int taken = 0;
+            for (long key : e.getValue()) {
+                if (taken >= perIngredient || matches.size() >= limit) break;
+                if (matches.putIfAbsent(key & ID_MASK, e.getKey()) == null) taken++;
+            }
+            if (matches.size() >= limit) break;
+        }
+        return matches;
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return termProducts.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // =================================================================
+    // 매칭 규칙
+    // =================================================================
+
+    private static long pack(int score, long productId) {
+        return ((long) score << ID_BITS) | (productId & ID_MASK);
+    }
+
+    private ProductText productText(String title, String subtitle) {
+        String lowerTitle = title != null ? title.toLowerCase(Locale.ROOT) : "";
+        String lowerSubtitle = subtitle != null ? subtitle.toLowerCase(Locale.ROOT) : "";
+        return new ProductText(lowerTitle, lowerSubtitle,
+                ingredientDictionary.canonicalIds(lowerTitle), ingredientDictionary.canonicalIds(lowerSubtitle));
+    }
+
+    // 1글자 재료명은 매칭하지 않음
+    private static boolean isIndexable(String term) {
+        return term.length() > 1;
+    }
+
+    private int score(String term, ProductText text) {
+        int canonicalId = ingredientDictionary.canonicalId(term);
+        if (canonicalId >= 0) {
+            if (contains(text.titleIds(), canonicalId)) return 3;
+            if (contains(text.subtitleIds(), canonicalId)) return 2;
+        } else {
+            if (text.title().contains(term)) return 3;
+            if (text.subtitle().contains(term)) return 2;
+        }
+        for (String token : keywordTokens(term)) {
+            if (text.title().contains(token) || text.subtitle().contains(token)) return 1;
+        }
+        return 0;
+    }
+
+    private static boolean contains(int[] ids, int id) {
+        for (int value : ids) {
+            if (value == id) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 재료명에서 약한 매칭용 토큰 추출 (사전의 연관어 + 4글자 이상이면 앞/뒤 2글자, 2글자 이상 토큰만)
+     */
+    private List<String> keywordTokens(String term) {
+        List<String> tokens = new ArrayList<>(ingredientDictionary.relatedTerms(term));
+        if (term.length() >= 4) {
+            tokens.add(term.substring(0, 2));
+            tokens.add(term.substring(term.length() - 2));
+        }
+        return tokens.stream().filter(t -> t.length() >= 2).distinct().toList();
+    }
+
+    /**
+     * 상품 제목/부제목 (소문자) + 사전으로 찾은 대표 재료 ID
+     */
+    private record ProductText(String title, String subtitle, int[] titleIds, int[] subtitleIds) {
+    }
+}
@@ -0,0 +1,375 @@
+package org.example.be17pickcook.domain.product.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.be17pickcook.common.ingredient.IngredientDictionary;
+import org.example.be17pickcook.common.ingredient.IngredientDictionaryReloadedEvent;
+import org.example.be17pickcook.common.search.Bm25Index;
+import org.example.be17pickcook.common.search.FacetBitSets;
+import org.example.be17pickcook.common.search.TopKCollector;
+import org.example.be17pickcook.domain.product.model.CatalogSort;
+import org.example.be17pickcook.domain.product.model.Product;
+import org.example.be17pickcook.domain.product.repository.ProductRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 상품 카탈로그 검색 색인 (검색어 + 카테고리/가격/할인 필터 + 패싯 개수 + 정렬)
+ * - 제목/부제목 BM25 색인 (재료 사전으로 동의어를 대표 재료명으로 바꾼 뒤 토큰화)
+ * - 카테고리, 할인 구간은 값별 BitSet → 필터는 BitSet 교집합, 패싯 개수는 BitSet cardinality
+ * - 판매가/리뷰 수 순서는 (값 << 32 | 상품 ID) 정렬 배열로 보관 → 가격 범위는 이진 탐색,
+ *   정렬은 배열을 순서대로 훑으며 필터에 속한 상품만 페이지만큼 수집 (전체 정렬 없음)
+ * - 상품 등록/수정/삭제 시 커밋 후 해당 상품만 갱신, 리뷰 수는 주기적으로 DB에서 다시 읽음,
+ *   재료 사전이 바뀌면 새 색인을 만들어 통째로 교체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductCatalogIndex {
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float SUBTITLE_WEIGHT = 1f;
+    private static final long ID_MASK = 0xFFFFFFFFL;
+
+    // 할인 구간 (패싯 노출 순서)
+    public static final List<String> DISCOUNT_BUCKETS = List.of("NONE", "UNDER_10", "10_TO_19", "20_TO_29", "30_PLUS");
+
+    private final ProductRepository productRepository;
+    private final IngredientDictionary ingredientDictionary;
+
+    // 현재 색인 (구축 전에는 null) - 재구축은 새 Catalog를 만든 뒤 참조 하나만 교체
+    private volatile Catalog catalog;
+
+    // 재구축 중 들어온 증분 갱신 (새 색인에 다시 적용), swapLock으로 보호
+    private final Object swapLock = new Object();
+    private List<Consumer<Catalog>> replay;
+
+    // =================================================================
+    // 구축 / 갱신
+    // =================================================================
+
+    /**
+     * 새 Catalog에 전체 상품을 색인한 뒤 교체 (구축 중에도 기존 색인으로 검색)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void build() {
+        long start = System.currentTimeMillis();
+        synchronized (swapLock) {
+            replay = new ArrayList<>();
+        }
+
+        Catalog built = new Catalog();
+        List<Object[]> rows;
+        try {
+            rows = productRepository.findCatalogFields();
+            // id, title, subtitle, category, original_price, discount_rate, review_count
+            for (Object[] row : rows) {
+                built.put(((Number) row[0]).intValue(), document((String) row[1], (String) row[2]),
+                        (String) row[3], (Integer) row[4], (Integer) row[5], (Long) row[6]);
+            }
+        } catch (RuntimeException e) {
+            synchronized (swapLock) {
+                replay = null;
+            }
+            throw e;
+        }
+
+        synchronized (swapLock) {
+            replay.forEach(change -> change.accept(built));
+            replay = null;
+            catalog = built;
+        }
+
+        log.info("상품 카탈로그 색인 구축 완료: 상품 {}개, 용어 {}종, {}ms",
+                rows.size(), built.index.termCount(), System.currentTimeMillis() - start);
+    }
+
+    /** 재료 사전이 바뀌면 동의어 치환 결과가 달라지므로 재구축 */
+    @EventListener
+    public void onDictionaryReloaded(IngredientDictionaryReloadedEvent event) {
+        build();
+    }
+
+    /**
+     * 리뷰 수/가격만 다시 읽어 정렬 배열 갱신 (리뷰 작성은 상품 저장을 거치지 않으므로)
+     * - 검색 색인은 그대로 두므로 갱신 중에도 검색 결과가 비지 않음
+     */
+    @Scheduled(fixedDelayString = "${product.catalog.refresh-interval-ms:300000}")
+    public synchronized void refreshSortFields() {
+        Catalog current = catalog;
+        if (current == null) return;
+        current.refreshSortFields(productRepository.findCatalogFields());
+    }
+
+    /** 상품 등록/수정/할인율 변경 시 호출 (트랜잭션 커밋 후 반영) */
+    public void put(Product product) {
+        if (product.getId() == null) return;
+        int productId = Math.toIntExact(product.getId());
+
+        // 커밋 전에 엔티티 값을 읽어 둠
+        Bm25Index.Document document = document(product.getTitle(), product.getSubtitle());
+        String category = product.getCategory();
+        Integer originalPrice = product.getOriginal_price();
+        Integer discountRate = product.getDiscount_rate();
+        Long reviewCount = product.getReview_count();
+        afterCommit(() -> apply(c -> c.put(productId, document, category, originalPrice, discountRate, reviewCount)));
+    }
+
+    /** 상품 삭제 시 호출 (트랜잭션 커밋 후 반영) */
+    public void remove(Long productId) {
+        int id = Math.toIntExact(productId);
+        afterCommit(() -> apply(c -> c.remove(id)));
+    }
+
+    private void apply(Consumer<Catalog> change) {
+        synchronized (swapLock) {
+            Catalog current = catalog;
+            if (current != null) change.accept(current);
+            if (replay != null) replay.add(change);
+        }
+    }
+
+    // 롤백된 변경이 색인에 남지 않도록 커밋 후 반영 (트랜잭션 밖이면 즉시)
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private Bm25Index.Document document(String title, String subtitle) {
+        return new Bm25Index.Document()
+                .add(ingredientDictionary.rewrite(title), TITLE_WEIGHT)
+                .add(ingredientDictionary.rewrite(subtitle), SUBTITLE_WEIGHT);
+    }
+
+    public static String discountBucket(Integer discountRate) {
+        int rate = discountRate != null ? discountRate : 0;
+        if (rate <= 0) return "NONE";
+        if (rate < 10) return "UNDER_10";
+        if (rate < 20) return "10_TO_19";
+        if (rate < 30) return "20_TO_29";
+        return "30_PLUS";
+    }
+
+    static long pack(int value, int productId) {
+        return ((long) value << 32) | (productId & ID_MASK);
+    }
+
+    /**
+     * 판매가 오름차순 배열에서 [minPrice, maxPrice] 범위 상품 (null이면 해당 쪽 제한 없음)
+     * - 하한은 pack(minPrice, 0), 상한은 pack(maxPrice, -1) = 같은 가격의 모든 상품 ID 포함
+     */
+    static BitSet priceRange(long[] byPrice, Integer minPrice, Integer maxPrice) {
+        long from = pack(minPrice != null ? Math.max(minPrice, 0) : 0, 0);
+        long to = maxPrice != null ? pack(maxPrice, -1) : Long.MAX_VALUE;
+        BitSet range = new BitSet();
+        for (int i = lowerBound(byPrice, from); i < byPrice.length && byPrice[i] <= to; i++) {
+            range.set((int) (byPrice[i] & ID_MASK));
+        }
+        return range;
+    }
+
+    // =================================================================
+    // 검색
+    // =================================================================
+
+    public boolean isReady() {
+        return catalog != null;
+    }
+
+    /**
+     * 조건에 맞는 상품의 한 페이지 ID + 전체 개수 + 패싯 개수
+     * - 패싯은 다른 필드 조건만 적용해 계산 (카테고리 개수는 카테고리 필터 제외, 할인 구간 개수는 할인 필터 제외)
+     * - RELEVANCE는 검색어가 있을 때만 점수 순, 없으면 NEWEST
+     */
+    public CatalogResult search(String keyword, List<String> categoryValues, Integer minPrice, Integer maxPrice,
+                                List<String> discountValues, CatalogSort sort, int page, int size) {
+        // 한 번 읽은 Catalog로만 조회 (도중에 재구축으로 교체되어도 섞이지 않음)
+        Catalog snapshot = catalog;
+        if (snapshot == null) throw new IllegalStateException("상품 카탈로그 색인이 아직 구축되지 않았습니다.");
+        Orders current = snapshot.orders();
+
+        // 1. 가격 범위 (판매가 정렬 배열에서 이진 탐색)
+        BitSet priceFilter = minPrice != null || maxPrice != null ? priceRange(current.byPrice(), minPrice, maxPrice) : null;
+
+        // 2. 검색어 (정확도 정렬이면 점수도 보관)
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+        BitSet base = priceFilter;
+        Map<Integer, Float> scores = hasKeyword && sort == CatalogSort.RELEVANCE ? new HashMap<>() : null;
+        if (hasKeyword) {
+            BitSet matched = new BitSet();
+            snapshot.index.search(ingredientDictionary.rewrite(keyword), priceFilter, (docId, score) -> {
+                matched.set(docId);
+                if (scores != null) scores.put(docId, score);
+            });
+            base = matched;
+        }
+
+        // 3. 필터 / 패싯
+        BitSet categoryFilter = snapshot.categories.anyOf(categoryValues);
+        BitSet discountFilter = snapshot.discounts.anyOf(discountValues);
+        Map<String, Integer> categoryFacets = snapshot.categories.counts(FacetBitSets.and(base, discountFilter));
+        Map<String, Integer> discountCounts = snapshot.discounts.counts(FacetBitSets.and(base, categoryFilter));
+        Map<String, Integer> discountFacets = new LinkedHashMap<>();
+        for (String bucket : DISCOUNT_BUCKETS) discountFacets.put(bucket, discountCounts.getOrDefault(bucket, 0));
+
+        BitSet result = FacetBitSets.and(FacetBitSets.and(base, categoryFilter), discountFilter);
+        if (result == null) result = current.all();
+        int total = result.cardinality();
+
+        // 4. 정렬된 한 페이지 (버퍼는 실제로 채울 수 있는 개수만큼만)
+        long offset = (long) page * size;
+        if (offset >= total) return new CatalogResult(List.of(), total, categoryFacets, discountFacets);
+        int pageSize = (int) Math.min(size, total - offset);
+        List<Long> pageIds = switch (sort == CatalogSort.RELEVANCE && !hasKeyword ? CatalogSort.NEWEST : sort) {
+            case RELEVANCE -> rankByScore(result, scores, (int) offset, pageSize);
+            case PRICE_ASC -> walk(current.byPrice(), false, result, offset, pageSize);
+            case PRICE_DESC -> walk(current.byPrice(), true, result, offset, pageSize);
+            case REVIEWS -> walk(current.byReviews(), true, result, offset, pageSize);
+            case NEWEST -> newest(result, offset, pageSize);
+        };
+
+        return new CatalogResult(pageIds, total, categoryFacets, discountFacets);
+    }
+
+    private static List<Long> rankByScore(BitSet result, Map<Integer, Float> scores, int offset, int size) {
+        TopKCollector topK = new TopKCollector(offset + size);
+        for (int docId = result.nextSetBit(0); docId >= 0; docId = result.nextSetBit(docId + 1)) {
+            topK.offer(docId, scores.getOrDefault(docId, 0f));
+        }
+        long[] ranked = topK.drainRankedIds();
+        List<Long> ids = new ArrayList<>(size);
+        for (int i = offset; i < ranked.length; i++) ids.add(ranked[i]);
+        return ids;
+    }
+
+    // 정렬 배열을 앞(또는 뒤)부터 훑으며 result에 속한 상품만 offset 이후 size개 수집
+    private static List<Long> walk(long[] order, boolean descending, BitSet result, long offset, int size) {
+        List<Long> ids = new ArrayList<>(size);
+        long seen = 0;
+        for (int k = 0; k < order.length && ids.size() < size; k++) {
+            int productId = (int) (order[descending ? order.length - 1 - k : k] & ID_MASK);
+            if (!result.get(productId)) continue;
+            if (seen++ >= offset) ids.add((long) productId);
+        }
+        return ids;
+    }
+
+    // 상품 ID 역순 = 최신 등록순
+    private static List<Long> newest(BitSet result, long offset, int size) {
+        List<Long> ids = new ArrayList<>(size);
+        long seen = 0;
+        for (int docId = result.previousSetBit(result.length() - 1); docId >= 0 && ids.size() < size;
+             docId = result.previousSetBit(docId - 1)) {
+            if (seen++ >= offset) ids.add((long) docId);
+        }
+        return ids;
+    }
+
+    private static int lowerBound(long[] sorted, long key) {
+        int pos = Arrays.binarySearch(sorted, key);
+        return pos >= 0 ? pos : -pos - 1;
+    }
+
+    /**
+     * 한 번에 교체되는 색인 묶음 (검색 색인 + 패싯 + 정렬 필드)
+     * - sortFields/orders는 이 객체로 동기화, orders는 변경 시 null로 비우고 다음 조회에서 다시 만듦
+     */
+    private static class Catalog {
+        private final Bm25Index index = new Bm25Index();
+        private final FacetBitSets categories = new FacetBitSets();
+        private final FacetBitSets discounts = new FacetBitSets();
+
+        // 상품 ID → {판매가, 리뷰 수}
+        private final Map<Integer, int[]> sortFields = new HashMap<>();
+        private volatile Orders orders;
+
+        synchronized void put(int productId, Bm25Index.Document document, String category,
+                              Integer originalPrice, Integer discountRate, Long reviewCount) {
+            index.put(productId, document);
+            categories.put(productId, category);
+            putSortFields(productId, originalPrice, discountRate, reviewCount);
+            orders = null;
+        }
+
+        synchronized void remove(int productId) {
+            index.remove(productId);
+            categories.remove(productId);
+            discounts.remove(productId);
+            sortFields.remove(productId);
+            orders = null;
+        }
+
+        // 이미 색인된 상품만 판매가/리뷰 수 갱신
+        synchronized void refreshSortFields(List<Object[]> rows) {
+            for (Object[] row : rows) {
+                int productId = ((Number) row[0]).intValue();
+                if (sortFields.containsKey(productId)) {
+                    putSortFields(productId, (Integer) row[4], (Integer) row[5], (Long) row[6]);
+                }
+            }
+            orders = null;
+        }
+
+        private void putSortFields(int productId, Integer originalPrice, Integer discountRate, Long reviewCount) {
+            Integer price = Product.effectivePrice(originalPrice, discountRate);
+            int reviews = reviewCount != null ? (int) Math.min(reviewCount, Integer.MAX_VALUE) : 0;
+            sortFields.put(productId, new int[]{price != null ? price : 0, reviews});
+            discounts.put(productId, discountBucket(discountRate));
+        }
+
+        Orders orders() {
+            Orders current = orders;
+            if (current != null) return current;
+            synchronized (this) {
+                if (orders == null) {
+                    long[] byPrice = new long[sortFields.size()];
+                    long[] byReviews = new long[sortFields.size()];
+                    BitSet all = new BitSet();
+                    int i = 0;
+                    for (Map.Entry<Integer, int[]> e : sortFields.entrySet()) {
+                        int productId = e.getKey();
+                        byPrice[i] = pack(e.getValue()[0], productId);
+                        byReviews[i] = pack(e.getValue()[1], productId);
+                        all.set(productId);
+                        i++;
+                    }
+                    Arrays.sort(byPrice);
+                    Arrays.sort(byReviews);
+                    orders = new Orders(byPrice, byReviews, all);
+                }
+                return orders;
+            }
+        }
+    }
+
+    /**
+     * 판매가/리뷰 수 오름차순 배열 + 전체 상품
+     */
+    private record Orders(long[] byPrice, long[] byReviews, BitSet all) {
+    }
+
+    /**
+     * @param productIds     정렬 순서대로의 한 페이지 상품 ID
+     * @param totalElements  필터를 모두 적용한 전체 상품 수
+     * @param categoryFacets 카테고리별 상품 수
+     * @param discountFacets 할인 구간별 상품 수 (DISCOUNT_BUCKETS 순서, 0건 포함)
+     */
+    public record CatalogResult(List<Long> productIds, int totalElements,
+                                Map<String, Integer> categoryFacets, Map<String, Integer> discountFacets) {
+    }
+}
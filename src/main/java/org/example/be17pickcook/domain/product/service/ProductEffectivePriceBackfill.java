@@ -0,0 +1,33 @@
+package org.example.be17pickcook.domain.product.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.be17pickcook.common.service.ChunkedBackfillRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * products.effective_price 1회 채우기 (컬럼 추가 전에 등록된 상품용)
+ * - 상품 ID 순 청크 실행 (체크포인트/재개는 ChunkedBackfillRunner)
+ * - 이후 등록/수정분은 엔티티 저장 시(@PrePersist/@PreUpdate) 계산
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductEffectivePriceBackfill {
+
+    private static final ChunkedBackfillRunner.Step STEP = new ChunkedBackfillRunner.Step(
+            "product-effective-price-backfill", "products", "product_id",
+            "UPDATE products SET effective_price = FLOOR(original_price * (100 - COALESCE(discount_rate, 0)) / 100) " +
+                    "WHERE product_id BETWEEN ? AND ? AND effective_price IS NULL");
+
+    private final ChunkedBackfillRunner backfillRunner;
+
+    @Value("${product.backfill.chunk-size:1000}")
+    private int chunkSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        backfillRunner.run(STEP, chunkSize);
+    }
+}
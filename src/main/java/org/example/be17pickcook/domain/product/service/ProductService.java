@@ -7,11 +7,13 @@ import org.example.be17pickcook.common.exception.BaseException;
 import org.example.be17pickcook.domain.cart.repository.CartsRepository;
 import org.example.be17pickcook.domain.cart.service.CartsService;
 import org.example.be17pickcook.domain.product.repository.ProductRepository;
+import org.example.be17pickcook.domain.product.model.CatalogSort;
 import org.example.be17pickcook.domain.product.model.Product;
 import org.example.be17pickcook.domain.product.model.ProductDto;
 import org.example.be17pickcook.domain.review.model.Review;
 import org.example.be17pickcook.domain.review.model.ReviewDto;
 import org.example.be17pickcook.domain.review.repository.ReviewRepository;
+import org.example.be17pickcook.domain.review.service.ProductReviewStatsService;
 import org.example.be17pickcook.domain.user.model.User;
 import org.example.be17pickcook.domain.user.model.UserDto;
 import org.example.be17pickcook.common.service.S3UploadService;
@@ -39,7 +41,18 @@ public class ProductService {
 
     private static final String MAIN_IMAGE_URL = "https://example.com/default-small.jpg";
     private static final String DETAIL_IMAGE_URL = "https://example.com/default-large.jpg";
+
+    // 카탈로그 검색 한 페이지 최대 크기
+    private static final int MAX_PAGE_SIZE = 100;
     private final CartsRepository cartsRepository;
+    private final IngredientProductIndex ingredientProductIndex;
+    private final RandomProductSampler randomProductSampler;
+    private final ProductCatalogIndex productCatalogIndex;
+    private final ProductReviewStatsService productReviewStatsService;
+
+    // 연관 상품 개수 / 재료당 최대 매칭 상품 수
+    private static final int RELATED_PRODUCT_LIMIT = 16;
+    private static final int RELATED_PER_INGREDIENT = 4;
 
     // 등록 (쓰기)
     @Transactional
@@ -63,6 +76,9 @@ public class ProductService {
         product.setDetailImageUrl(detail_image_url);
 
         productRepository.save(product);
+        ingredientProductIndex.put(product);
+        randomProductSampler.put(product);
+        productCatalogIndex.put(product);
     }
 
     // =================================================================
@@ -81,8 +97,8 @@ public class ProductService {
     }
 
     private ProductDto.ReviewSection buildReviewSection(Long productId, Integer currentUserId) {
-        // 리뷰 통계
-        var statistics = reviewRepository.getReviewStatistics(productId);
+        // 리뷰 통계 (상품별 리뷰 집계 행 1건 조회)
+        var statistics = productReviewStatsService.getStatistics(productId);
 
         // 최근 리뷰 10개
         List<Review> recentReviews = reviewRepository.findByComplexFilter(
@@ -129,26 +145,77 @@ public class ProductService {
         Page<ProductDto.ProductListResponse> dtoPage = productPage.map(arr -> {
             Long id = (Long) arr[0];
             productIds.add(id); // 장바구니 조회용
-
-            return ProductDto.ProductListResponse.builder()
-                    .id(id)
-                    .title((String) arr[1])
-                    .main_image_url((String) arr[2])
-                    .discount_rate((Integer) arr[3])
-                    .original_price((Integer) arr[4])
-                    .review_count((Long) arr[5])
-                    .build();
+            return toListResponse(arr);
         });
 
         // 로그인 사용자 기준 장바구니를 담았는지 여부
+        markInCart(userIdx, productIds, dtoPage.getContent());
+
+        return PageResponse.from(dtoPage);
+    }
+
+    /**
+     * 상품 카탈로그 검색 (검색어 + 카테고리/판매가/할인 구간 필터 + 패싯 개수)
+     * - 필터/패싯/정렬은 메모리 색인에서 계산하고, DB는 해당 페이지 상품 행만 조회
+     * - 색인 구축 전(기동 직후)에는 요청 스레드에서 구축하지 않고 503 응답
+     */
+    public ProductDto.CatalogResponse searchCatalog(Integer userIdx, String keyword, List<String> categories,
+                                                    Integer minPrice, Integer maxPrice, List<String> discounts,
+                                                    CatalogSort sort, int page, int size) {
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page는 0 이상, size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+            throw new IllegalArgumentException("최소 가격은 최대 가격보다 클 수 없습니다.");
+        }
+        if (!productCatalogIndex.isReady()) {
+            throw BaseException.from(BaseResponseStatus.SEARCH_INDEX_NOT_READY);
+        }
+
+        ProductCatalogIndex.CatalogResult result = productCatalogIndex.search(keyword, categories, minPrice, maxPrice,
+                discounts, sort != null ? sort : CatalogSort.RELEVANCE, page, size);
+
+        // 색인 순서대로 정렬 (조회 사이에 삭제된 상품은 제외)
+        Map<Long, ProductDto.ProductListResponse> rowsById = new HashMap<>();
+        if (!result.productIds().isEmpty()) {
+            for (Object[] row : productRepository.findListRowsByIds(result.productIds())) {
+                rowsById.put((Long) row[0], toListResponse(row));
+            }
+        }
+        List<ProductDto.ProductListResponse> content = result.productIds().stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        markInCart(userIdx, result.productIds(), content);
+
+        int totalPages = (int) Math.ceil((double) result.totalElements() / size);
+        return ProductDto.CatalogResponse.builder()
+                .products(new PageResponse<>(content, page, totalPages, result.totalElements(), size))
+                .categoryFacets(result.categoryFacets())
+                .discountFacets(result.discountFacets())
+                .build();
+    }
+
+    // id, title, main_image_url, discount_rate, original_price, review_count, effective_price
+    private ProductDto.ProductListResponse toListResponse(Object[] arr) {
+        return ProductDto.ProductListResponse.builder()
+                .id((Long) arr[0])
+                .title((String) arr[1])
+                .main_image_url((String) arr[2])
+                .discount_rate((Integer) arr[3])
+                .original_price((Integer) arr[4])
+                .review_count((Long) arr[5])
+                .effective_price((Integer) arr[6])
+                .build();
+    }
+
+    private void markInCart(Integer userIdx, List<Long> productIds, List<ProductDto.ProductListResponse> dtos) {
         Set<Long> isInCart = (userIdx == null || productIds.isEmpty()) ? Collections.emptySet() :
                 new HashSet<>(cartsRepository.findCartsProductIdsByUser(userIdx, productIds));
 
-        dtoPage.forEach(dto -> {
+        dtos.forEach(dto -> {
             dto.setIsInCart(isInCart.contains(dto.getId()));
         });
-
-        return PageResponse.from(dtoPage);
     }
 
     // 필요 시: 전체 다 가져오기(비권장)  // [변경] 선택 메서드
@@ -171,6 +238,9 @@ public class ProductService {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: id=" + id));
         dto.apply(product);
+        ingredientProductIndex.put(product);
+        randomProductSampler.put(product);
+        productCatalogIndex.put(product);
         return ProductDto.Res.from(product);
     }
 
@@ -180,6 +250,7 @@ public class ProductService {
         Product product = productRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다: id=" + id));
         product.changeDiscountRate(rate);
+        productCatalogIndex.put(product);
     }
 
     // 삭제 (쓰기)
@@ -189,34 +260,53 @@ public class ProductService {
             throw new IllegalArgumentException("상품을 찾을 수 없습니다: id=" + id);
         }
         productRepository.deleteById(id);
+        ingredientProductIndex.remove(id);
+        randomProductSampler.remove(id);
+        productCatalogIndex.remove(id);
     }
 
     /**
      * 레시피 기반 연관 상품 조회
+     * @param stratified 랜덤 보충 시 카테고리별 비율에 맞춰 추출할지 여부
      */
     @Transactional(readOnly = true)
-    public List<ProductDto.RelatedProductResponse> getRelatedProductsByRecipe(Long recipeId) {
+    public List<ProductDto.RelatedProductResponse> getRelatedProductsByRecipe(Long recipeId, boolean stratified) {
         validateRecipeExists(recipeId);
 
-        // 1차: 재료 기반 매칭 상품 조회
-        List<ProductDto.RelatedProductResponse> matchedProducts =
-                productRepository.findProductsByRecipeIngredients(recipeId, 16);
+        // 1. 레시피 재료명 → 매칭 색인에서 상품 ID (재료 순서, 재료당 최대 4개)
+        List<String> ingredientNames = productRepository.findIngredientNamesByRecipeId(recipeId);
+        LinkedHashMap<Long, String> matches =
+                ingredientProductIndex.lookup(ingredientNames, RELATED_PER_INGREDIENT, RELATED_PRODUCT_LIMIT);
 
-        System.out.println("🔍 매칭된 상품 개수: " + matchedProducts.size()); // 디버깅
+        // 2. 매칭 상품 일괄 조회 후 색인 순서대로 정렬
+        Map<Long, ProductDto.RelatedProductResponse> productsById =
+                productRepository.findRelatedProductsByIds(matches.keySet(), "INGREDIENT_MATCH").stream()
+                        .collect(Collectors.toMap(ProductDto.RelatedProductResponse::getProductId, p -> p));
 
-        // 16개 미만일 경우 랜덤 상품으로 보충
-        if (matchedProducts.size() < 16) {
-            int remainingCount = 16 - matchedProducts.size();
-            List<ProductDto.RelatedProductResponse> randomProducts =
-                    productRepository.findRandomProducts(remainingCount);
+        List<ProductDto.RelatedProductResponse> relatedProducts = new ArrayList<>();
+        matches.forEach((productId, ingredient) -> {
+            ProductDto.RelatedProductResponse product = productsById.get(productId);
+            if (product != null) relatedProducts.add(product.withMatchedIngredient(ingredient));
+        });
 
-            System.out.println("🔍 랜덤 상품 개수: " + randomProducts.size()); // 디버깅
-            matchedProducts.addAll(randomProducts);
+        // 3. 부족하면 메모리의 상품 ID에서 랜덤 추출해 해당 행만 조회 (이미 담긴 상품 제외)
+        if (relatedProducts.size() < RELATED_PRODUCT_LIMIT) {
+            int remaining = RELATED_PRODUCT_LIMIT - relatedProducts.size();
+            Set<Long> excluded = new HashSet<>(productsById.keySet());
+            List<Long> randomIds = stratified
+                    ? randomProductSampler.sampleStratified(remaining, excluded)
+                    : randomProductSampler.sample(remaining, excluded);
+
+            Map<Long, ProductDto.RelatedProductResponse> randomById =
+                    productRepository.findRelatedProductsByIds(randomIds, "RANDOM").stream()
+                            .collect(Collectors.toMap(ProductDto.RelatedProductResponse::getProductId, p -> p));
+            for (Long productId : randomIds) {
+                ProductDto.RelatedProductResponse product = randomById.get(productId);
+                if (product != null) relatedProducts.add(product);
+            }
         }
 
-        return matchedProducts.stream()
-                .limit(16)
-                .collect(Collectors.toList());
+        return relatedProducts;
     }
 
     private void validateRecipeExists(Long recipeId) {
@@ -0,0 +1,272 @@
+package org.example.be17pickcook.domain.product.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.be17pickcook.domain.product.model.Product;
+import org.example.be17pickcook.domain.product.repository.ProductRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 랜덤 상품 추출기
+ * - 상품 ID를 카테고리별 정렬된 long 배열로 메모리에 보관
+ *   (상품 등록/수정/삭제 시 배열 교체, 트랜잭션 안이면 커밋 후에 반영)
+ * - Floyd 알고리즘으로 서로 다른 인덱스 k개를 O(k)에 뽑으므로 테이블 정렬(ORDER BY RAND()) 없이
+ *   뽑힌 ID의 행만 조회하면 됨
+ * - 카테고리별 층화 추출: 카테고리 상품 수에 비례해 개수를 나눠 각 카테고리에서 추출
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RandomProductSampler {
+
+    private final ProductRepository productRepository;
+
+    // 조회는 잠금 없이 스냅샷을 읽고, 갱신은 synchronized로 새 스냅샷을 만들어 교체
+    private volatile Snapshot snapshot = new Snapshot(Map.of());
+
+    // =================================================================
+    // 구축 / 갱신
+    // =================================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void build() {
+        Map<String, List<Long>> byCategory = new HashMap<>();
+        // id, category
+        for (Object[] row : productRepository.findAllIdAndCategory()) {
+            byCategory.computeIfAbsent(categoryKey((String) row[1]), k -> new ArrayList<>())
+                    .add(((Number) row[0]).longValue());
+        }
+
+        Map<String, long[]> ids = new HashMap<>();
+        byCategory.forEach((category, list) ->
+                ids.put(category, list.stream().mapToLong(Long::longValue).sorted().toArray()));
+        snapshot = new Snapshot(ids);
+
+        log.info("랜덤 상품 추출기 구축 완료: 상품 {}개, 카테고리 {}개", snapshot.total(), ids.size());
+    }
+
+    /** 상품 등록/수정 시 호출 (카테고리가 바뀌었으면 이동) */
+    public void put(Product product) {
+        if (product.getId() == null) return;
+        long productId = product.getId();
+        String category = categoryKey(product.getCategory());
+        afterCommit(() -> apply(productId, category));
+    }
+
+    /** 상품 삭제 시 호출 */
+    public void remove(Long productId) {
+        afterCommit(() -> apply(productId, null));
+    }
+
+    // category가 null이면 삭제
+    private synchronized void apply(long productId, String category) {
+        Map<String, long[]> ids = without(snapshot.byCategory(), productId);
+        if (category != null) ids.merge(category, new long[]{productId}, RandomProductSampler::insertSorted);
+        snapshot = new Snapshot(ids);
+    }
+
+    // 트랜잭션 안이면 커밋 후에 실행 (롤백된 변경이 추출 대상에 남지 않도록)
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private static Map<String, long[]> without(Map<String, long[]> current, long productId) {
+        Map<String, long[]> ids = new HashMap<>(current);
+        for (Map.Entry<String, long[]> e : current.entrySet()) {
+            long[] list = e.getValue();
+            int pos = Arrays.binarySearch(list, productId);
+            if (pos < 0) continue;
+
+            long[] next = new long[list.length - 1];
+            System.arraycopy(list, 0, next, 0, pos);
+            System.arraycopy(list, pos + 1, next, pos, list.length - pos - 1);
+            if (next.length == 0) ids.remove(e.getKey());
+            else ids.put(e.getKey(), next);
+        }
+        return ids;
+    }
+
+    private static long[] insertSorted(long[] list, long[] single) {
+        long id = single[0];
+        int pos = Arrays.binarySearch(list, id);
+        if (pos >= 0) return list;
+        pos = -pos - 1;
+        long[] next = new long[list.length + 1];
+        System.arraycopy(list, 0, next, 0, pos);
+        next[pos] = id;
+        System.arraycopy(list, pos, next, pos + 1, list.length - pos);
+        return next;
+    }
+
+    private static String categoryKey(String category) {
+        return category != null ? category : "";
+    }
+
+    // =================================================================
+    // 추출
+    // =================================================================
+
+    /**
+     * 전체 상품에서 excluded를 제외한 서로 다른 상품 ID를 최대 k개 추출
+     */
+    public List<Long> sample(int k, Set<Long> excluded) {
+        Snapshot current = snapshot;
+        List<Long> result = new ArrayList<>(Math.max(k, 0));
+        if (k <= 0) return result;
+
+        // 제외 대상이 뽑혀도 k개를 채울 수 있도록 제외 수만큼 더 뽑음
+        int n = current.total();
+        for (int index : floyd(n, Math.min(n, k + excluded.size()))) {
+            long id = current.idAt(index);
+            if (!excluded.contains(id)) result.add(id);
+            if (result.size() >= k) break;
+        }
+        return result;
+    }
+
+    /**
+     * 카테고리별 상품 수에 비례해 개수를 나눠 추출 (최대 나머지 방식 배분)
+     * - 비례 몫이 0인 작은 카테고리는 남는 개수를 받을 때만 포함
+     */
+    public List<Long> sampleStratified(int k, Set<Long> excluded) {
+        Snapshot current = snapshot;
+        List<Long> result = new ArrayList<>(Math.max(k, 0));
+        int n = current.total();
+        if (k <= 0 || n == 0) return result;
+
+        List<String> categories = new ArrayList<>(current.byCategory().keySet());
+        Collections.sort(categories);
+        int target = Math.min(k, n);
+
+        int[] sizes = new int[categories.size()];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = current.byCategory().get(categories.get(i)).length;
+        }
+        int[] quotas = quotas(sizes, target);
+
+        for (int i = 0; i < categories.size(); i++) {
+            long[] ids = current.byCategory().get(categories.get(i));
+            int taken = 0;
+            for (int index : floyd(ids.length, Math.min(ids.length, quotas[i] + excluded.size()))) {
+                if (taken >= quotas[i]) break;
+                if (!excluded.contains(ids[index])) {
+                    result.add(ids[index]);
+                    taken++;
+                }
+            }
+        }
+
+        // 제외 대상 때문에 모자라면 전체에서 보충
+        if (result.size() < target) {
+            Set<Long> skip = new HashSet<>(excluded);
+            skip.addAll(result);
+            result.addAll(sample(target - result.size(), skip));
+        }
+        return result;
+    }
+
+    /**
+     * 카테고리 크기에 비례한 개수 배분 (최대 나머지 방식, 나머지가 같으면 앞 카테고리 우선)
+     * - 배분 합계는 target (target은 전체 크기 이하)
+     */
+    static int[] quotas(int[] sizes, int target) {
+        long n = 0;
+        for (int size : sizes) n += size;
+
+        int[] quotas = new int[sizes.length];
+        double[] remainders = new double[sizes.length];
+        int assigned = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            double share = (double) target * sizes[i] / n;
+            quotas[i] = (int) share;
+            remainders[i] = share - quotas[i];
+            assigned += quotas[i];
+        }
+        Integer[] order = new Integer[sizes.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> Double.compare(remainders[b], remainders[a]));
+        for (int i = 0; assigned < target && i < order.length; i++, assigned++) {
+            quotas[order[i]]++;
+        }
+        return quotas;
+    }
+
+    /**
+     * Floyd 알고리즘: [0, n)에서 서로 다른 정수 k개 (O(k) 시간/공간)
+     */
+    static int[] floyd(int n, int k) {
+        int[] picked = new int[k];
+        Set<Integer> seen = new HashSet<>(k * 2);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int size = 0;
+        for (int j = n - k; j < n; j++) {
+            int t = random.nextInt(j + 1);
+            int value = seen.add(t) ? t : j;
+            if (value == j) seen.add(j);
+            picked[size++] = value;
+        }
+        // 뒤쪽 인덱스가 항상 뒤에 오지 않도록 섞음
+        for (int i = size - 1; i > 0; i--) {
+            int r = random.nextInt(i + 1);
+            int tmp = picked[i];
+            picked[i] = picked[r];
+            picked[r] = tmp;
+        }
+        return picked;
+    }
+
+    public int size() {
+        return snapshot.total();
+    }
+
+    /**
+     * 카테고리별 상품 ID + 전체 인덱스 → ID 조회용 누적 개수
+     */
+    private static final class Snapshot {
+        private final Map<String, long[]> byCategory;
+        private final long[][] lists;
+        private final int[] offsets;
+        private final int total;
+
+        Snapshot(Map<String, long[]> byCategory) {
+            this.byCategory = byCategory;
+            this.lists = byCategory.values().toArray(new long[0][]);
+            this.offsets = new int[lists.length + 1];
+            for (int i = 0; i < lists.length; i++) {
+                offsets[i + 1] = offsets[i] + lists[i].length;
+            }
+            this.total = offsets[lists.length];
+        }
+
+        Map<String, long[]> byCategory() {
+            return byCategory;
+        }
+
+        int total() {
+            return total;
+        }
+
+        long idAt(int index) {
+            int pos = Arrays.binarySearch(offsets, index);
+            // offsets에 같은 값이 있으면 그 위치가 해당 목록의 시작 (빈 목록은 없음)
+            int list = pos >= 0 ? pos : -pos - 2;
+            return lists[list][index - offsets[list]];
+        }
+    }
+}
@@ -6,6 +6,7 @@ import lombok.RequiredArgsConstructor;
 import org.example.be17pickcook.common.BaseResponse;
 import org.example.be17pickcook.common.PageResponse;
 import org.example.be17pickcook.domain.recipe.model.RecipeListResponseDto;
+import org.example.be17pickcook.domain.recipe.model.RecommendationMode;
 import org.example.be17pickcook.domain.user.model.UserDto;
 import org.example.be17pickcook.domain.recipe.model.RecipeDto;
 import org.example.be17pickcook.domain.recipe.service.RecipeService;
@@ -86,9 +87,45 @@ public class RecipeController {
     }
 
 
+    @Operation(
+            summary = "레시피 검색/필터 목록",
+            description = "검색어, 카테고리, 난이도로 레시피를 조회합니다.\n" +
+                    "- sortBy: popular / recent / comments / relevance, 없으면 검색어가 있을 때 정확도순, 없을 때 최신순\n" +
+                    "- cursor 파라미터가 없으면 page 번호 방식\n" +
+                    "- cursor 파라미터가 있으면 커서 방식 (첫 페이지는 빈 값, 이후 응답의 nextCursor 전달)\n" +
+                    "- withTotal: 커서 방식에서 전체 개수 포함 여부 (기본 false → totalElements = -1)"
+    )
+    @GetMapping("/search")
+    public BaseResponse<PageResponse<RecipeListResponseDto>> getRecipesFiltered(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) List<String> categories,
+            @RequestParam(required = false) List<String> difficulties,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
+        if (cursor != null) {
+            return BaseResponse.success(recipeService.getRecipesFilteredByCursor(
+                    keyword, categories, difficulties, sortBy, cursor, size, withTotal));
+        }
+        return BaseResponse.success(recipeService.getRecipesFiltered(
+                keyword, categories, difficulties, sortBy, page, size, null));
+    }
+
+    @Operation(
+            summary = "냉장고 기반 레시피 추천",
+            description = "냉장고의 사용 가능한 재료로 레시피를 추천합니다.\n" +
+                    "- mode=MATCH: 겹치는 재료 개수 순 (기본값)\n" +
+                    "- mode=EXPIRY: 유통기한이 임박한 재료를 많이 쓰는 레시피 우선 (재료 커버리지 기준)"
+    )
     @GetMapping("/recommendation")
-    public BaseResponse<PageResponse<RecipeListResponseDto>> getRecommendations(@AuthenticationPrincipal UserDto.AuthUser authUser, @RequestParam int page, @RequestParam int size) {
-        return BaseResponse.success(recipeService.getRecommendations(authUser.getIdx(), page, size));
+    public BaseResponse<PageResponse<RecipeListResponseDto>> getRecommendations(
+            @AuthenticationPrincipal UserDto.AuthUser authUser,
+            @RequestParam int page,
+            @RequestParam int size,
+            @RequestParam(defaultValue = "MATCH") RecommendationMode mode) {
+        return BaseResponse.success(recipeService.getRecommendations(authUser.getIdx(), page, size, mode));
     }
 
 //    // 레시피 목록 조회
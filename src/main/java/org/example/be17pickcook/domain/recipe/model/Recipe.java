@@ -33,6 +33,10 @@ public class Recipe extends BaseEntity implements LikeCountable, ScrapCountable
     private String image_large_url;
     private String tip;
 
+    // 외부 데이터셋에서 가져온 레시피의 원본 ID (같은 레코드 중복 가져오기 방지)
+    @Column(unique = true, length = 100)
+    private String sourceId;
+
     // 반정규화 적용 (기본값 0 보장)
     private Long likeCount = 0L;
     private Long scrapCount = 0L;
@@ -249,11 +249,17 @@ public class RecipeDto {
         public void setScrapInfo(Boolean scrappedByUser) {
             this.scrappedByUser = scrappedByUser;
         }
+
+        // 아직 DB에 반영되지 않은 좋아요/스크랩 증감 합산
+        public void addPendingCounts(long likeDelta, long scrapDelta) {
+            if (likeDelta != 0) this.likeCount = Math.max((likeCount != null ? likeCount : 0L) + likeDelta, 0L);
+            if (scrapDelta != 0) this.scrapCount = Math.max((scrapCount != null ? scrapCount : 0L) + scrapDelta, 0L);
+        }
     }
 
 
         @Getter
-        @Builder
+        @Builder(toBuilder = true)
         @Schema(description = "레시피 상세 조회 응답 DTO")
         public static class RecipeResponseDto {
             @Schema(description = "레시피 ID", example = "1")
@@ -318,6 +324,12 @@ public class RecipeDto {
                 this.scrappedByUser = scrappedByUser;
             }
 
+            // 아직 DB에 반영되지 않은 좋아요/스크랩 증감 합산
+            public void addPendingCounts(long likeDelta, long scrapDelta) {
+                if (likeDelta != 0) this.likeCount = Math.max((likeCount != null ? likeCount : 0L) + likeDelta, 0L);
+                if (scrapDelta != 0) this.scrapCount = Math.max((scrapCount != null ? scrapCount : 0L) + scrapDelta, 0L);
+            }
+
             public static RecipeResponseDto fromEntity(Recipe recipe) {
                 return RecipeResponseDto.builder()
                         .idx(recipe.getIdx())
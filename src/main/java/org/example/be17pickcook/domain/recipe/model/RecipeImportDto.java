@@ -0,0 +1,89 @@
+package org.example.be17pickcook.domain.recipe.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+public class RecipeImportDto {
+
+    /**
+     * 가져오기 파일의 레시피 1건 (JSON Lines 한 줄)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Record {
+        private String source_id;
+        private String title;
+        private String cooking_method;
+        private String category;
+        private String time_taken;
+        private String difficulty_level;
+        private String serving_size;
+        private String hashtags;
+        private String image_small_url;
+        private String image_large_url;
+        private String tip;
+        private List<Step> steps;
+        private List<Ingredient> ingredients;
+        private Nutrition nutrition;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Step {
+        private Integer step_order;
+        private String description;
+        private String image_url;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Ingredient {
+        private String ingredient_name;
+        private String quantity;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Nutrition {
+        private Integer calories;
+        private Integer carbs;
+        private Integer protein;
+        private Integer fat;
+        private Integer sodium;
+    }
+
+    /**
+     * 가져오기 결과
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Result {
+        private String file;
+        // 이전 실행 체크포인트에서 이어서 시작한 줄 번호 (처음부터면 0)
+        private long resumedFromLine;
+        private long readRecords;
+        private long insertedRecords;
+        // 이미 가져온 source_id (재실행/중복 레코드)
+        private long skippedRecords;
+        private long rejectedRecords;
+        private long elapsedMillis;
+        private double recordsPerSecond;
+        // 거부 사유 예시 (최대 20건)
+        private List<String> rejectSamples;
+    }
+}
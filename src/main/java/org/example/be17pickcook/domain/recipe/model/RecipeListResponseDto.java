@@ -54,6 +54,14 @@ public class RecipeListResponseDto {
         this.scrappedByUser = scrappedByUser;
     }
 
+    // QueryDSL 목록 조회용 (사용자별 여부는 조회 후 세팅)
+    public RecipeListResponseDto(Long idx, String title, String cooking_method, String category,
+                                 String time_taken, String difficulty_level, String serving_size,
+                                 String hashtags, String image_large_url, Long likeCount, Long scrapCount) {
+        this(idx, title, cooking_method, category, time_taken, difficulty_level, serving_size,
+                hashtags, image_large_url, likeCount, scrapCount, false, false);
+    }
+
     // 좋아요 관련 값 세팅 메서드 (반 정규화 전)
 //        public void setLikeInfo(Integer likeCount, Boolean likedByUser) {
 //            this.likeCount = likeCount;
@@ -67,4 +75,10 @@ public class RecipeListResponseDto {
     public void setScrapInfo(Boolean scrappedByUser) {
         this.scrappedByUser = scrappedByUser;
     }
+
+    // 아직 DB에 반영되지 않은 좋아요/스크랩 증감 합산
+    public void addPendingCounts(long likeDelta, long scrapDelta) {
+        if (likeDelta != 0) this.likeCount = Math.max((likeCount != null ? likeCount : 0L) + likeDelta, 0L);
+        if (scrapDelta != 0) this.scrapCount = Math.max((scrapCount != null ? scrapCount : 0L) + scrapDelta, 0L);
+    }
 }
@@ -0,0 +1,85 @@
+package org.example.be17pickcook.domain.recipe.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 사전 계산된 추천 레시피 (야간 배치)
+ * - 추천 방식별 상위 레시피 ID를 4byte 정수 배열(varbinary)로 압축 저장
+ * - 계산 당시 냉장고 fingerprint와 현재 냉장고가 다르면 사용하지 않음
+ */
+@Entity
+@Table(name = "recipe_recommendation_snapshot")
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeRecommendationSnapshot {
+
+    // 저장하는 순위 깊이 (RecipeRecommendationCache.CACHED_RANK_LIMIT와 동일)
+    public static final int MAX_RANKED_IDS = 200;
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userIdx;
+
+    /** 계산 당시 사용 가능한 냉장고 재료 fingerprint */
+    @Column(nullable = false)
+    private Long fridgeFingerprint;
+
+    @Column(columnDefinition = "VARBINARY(800)")
+    private byte[] matchRecipeIds;
+    private Integer matchCandidateCount;
+
+    @Column(columnDefinition = "VARBINARY(800)")
+    private byte[] expiryRecipeIds;
+    private Integer expiryCandidateCount;
+
+    @Column(nullable = false)
+    private LocalDateTime computedAt;
+
+    /**
+     * 오늘 계산됐고 현재 냉장고 상태와 같을 때만 사용 가능
+     * (임박 가중치가 날짜에 따라 달라지므로 날짜도 확인)
+     */
+    public boolean isUsableFor(long currentFingerprint, LocalDate today) {
+        return fridgeFingerprint != null && fridgeFingerprint == currentFingerprint
+                && computedAt != null && computedAt.toLocalDate().equals(today);
+    }
+
+    public long[] getRankedIds(RecommendationMode mode) {
+        return decode(mode == RecommendationMode.EXPIRY ? expiryRecipeIds : matchRecipeIds);
+    }
+
+    public int getCandidateCount(RecommendationMode mode) {
+        Integer count = mode == RecommendationMode.EXPIRY ? expiryCandidateCount : matchCandidateCount;
+        return count != null ? count : 0;
+    }
+
+    // 레시피 ID 배열 → 4byte big-endian 정수 나열
+    public static byte[] encode(long[] recipeIds) {
+        int n = Math.min(recipeIds.length, MAX_RANKED_IDS);
+        ByteBuffer buffer = ByteBuffer.allocate(n * Integer.BYTES);
+        for (int i = 0; i < n; i++) {
+            buffer.putInt((int) recipeIds[i]);
+        }
+        return buffer.array();
+    }
+
+    private static long[] decode(byte[] bytes) {
+        if (bytes == null) return new long[0];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long[] ids = new long[bytes.length / Integer.BYTES];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = buffer.getInt() & 0xFFFFFFFFL;
+        }
+        return ids;
+    }
+}
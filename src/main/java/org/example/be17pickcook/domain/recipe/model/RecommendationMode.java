@@ -0,0 +1,11 @@
+package org.example.be17pickcook.domain.recipe.model;
+
+/**
+ * 냉장고 기반 레시피 추천 점수 방식
+ */
+public enum RecommendationMode {
+    // 냉장고 재료와 겹치는 재료 개수
+    MATCH,
+    // 유통기한 임박 가중치 합 / 레시피 재료 수 (재료 커버리지)
+    EXPIRY
+}
@@ -0,0 +1,149 @@
+package org.example.be17pickcook.domain.recipe.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.be17pickcook.domain.recipe.model.RecipeImportDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 레시피 대량 가져오기용 JDBC 저장소
+ * - IDENTITY 키 때문에 Hibernate insert batching이 동작하지 않으므로
+ *   multi-row INSERT 문을 직접 만들어 한 번에 여러 행 저장
+ * - 한 문장에 너무 많은 파라미터가 들어가지 않도록 MAX_ROWS_PER_STATEMENT 단위로 나눔
+ * - 호출 측 트랜잭션 안에서 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecipeImportJdbcRepository {
+
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private static final String INSERT_RECIPE = "INSERT INTO recipe (source_id, title, cooking_method, category, " +
+            "time_taken, difficulty_level, serving_size, hashtags, image_small_url, image_large_url, tip, " +
+            "like_count, scrap_count, comment_count, user_id, created_at, updated_at) VALUES ";
+    private static final int RECIPE_COLUMNS = 17;
+
+    private static final String INSERT_STEP = "INSERT INTO recipe_step (recipe_id, step_order, description, image_url) VALUES ";
+    private static final String INSERT_INGREDIENT = "INSERT INTO recipe_ingredient (recipe_id, ingredient_name, quantity) VALUES ";
+    private static final String INSERT_NUTRITION = "INSERT INTO recipe_nutrition (recipe_id, calories, carbs, protein, fat, sodium) VALUES ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 이미 저장된 source_id */
+    public Set<String> findExistingSourceIds(Collection<String> sourceIds) {
+        Set<String> existing = new HashSet<>();
+        forEachChunk(new ArrayList<>(sourceIds), chunk -> existing.addAll(jdbcTemplate.queryForList(
+                "SELECT source_id FROM recipe WHERE source_id IN (" + placeholders(chunk.size()) + ")",
+                String.class, chunk.toArray())));
+        return existing;
+    }
+
+    /**
+     * 레시피 행 저장 후 source_id → 생성된 recipe idx 반환
+     * - 이 문장이 생성한 키만 사용 (source_id로 다시 조회하면 다른 작업이 넣은 행과 섞일 수 있음)
+     * - 그 사이 다른 작업이 같은 source_id를 저장했으면 유니크 키 위반으로 실패 → 호출 측 트랜잭션 롤백
+     */
+    public Map<String, Long> insertRecipes(List<RecipeImportDto.Record> records, Integer userIdx, LocalDateTime now) {
+        Map<String, Long> ids = new HashMap<>();
+        forEachChunk(records, chunk -> {
+            List<Object[]> rows = new ArrayList<>(chunk.size());
+            for (RecipeImportDto.Record r : chunk) {
+                rows.add(new Object[]{r.getSource_id(), r.getTitle(), r.getCooking_method(), r.getCategory(),
+                        r.getTime_taken(), r.getDifficulty_level(), r.getServing_size(), r.getHashtags(),
+                        r.getImage_small_url(), r.getImage_large_url(), r.getTip(),
+                        0L, 0L, 0L, userIdx, now, now});
+            }
+
+            List<Long> keys = insertReturningKeys(INSERT_RECIPE, RECIPE_COLUMNS, rows);
+            if (keys.size() != chunk.size()) {
+                throw new IllegalStateException("생성된 레시피 키 수가 저장한 행 수와 다릅니다. rows="
+                        + chunk.size() + ", keys=" + keys.size());
+            }
+            // multi-row INSERT의 생성 키는 VALUES 순서와 같음
+            for (int i = 0; i < chunk.size(); i++) {
+                ids.put(chunk.get(i).getSource_id(), keys.get(i));
+            }
+        });
+        return ids;
+    }
+
+    /** (recipe_id, step_order, description, image_url) */
+    public void insertSteps(List<Object[]> rows) {
+        insertRows(INSERT_STEP, 4, rows);
+    }
+
+    /** (recipe_id, ingredient_name, quantity) */
+    public void insertIngredients(List<Object[]> rows) {
+        insertRows(INSERT_INGREDIENT, 3, rows);
+    }
+
+    /** (recipe_id, calories, carbs, protein, fat, sodium) */
+    public void insertNutritions(List<Object[]> rows) {
+        insertRows(INSERT_NUTRITION, 6, rows);
+    }
+
+    // =================================================================
+    // multi-row INSERT
+    // =================================================================
+
+    private void insertRows(String prefix, int columns, List<Object[]> rows) {
+        forEachChunk(rows, chunk -> jdbcTemplate.update(multiRowSql(prefix, columns, chunk.size()), flatten(chunk, columns)));
+    }
+
+    /** 한 문장(MAX_ROWS_PER_STATEMENT 이하)으로 저장하고 생성된 키를 행 순서대로 반환 */
+    private List<Long> insertReturningKeys(String prefix, int columns, List<Object[]> rows) {
+        String sql = multiRowSql(prefix, columns, rows.size());
+        Object[] args = flatten(rows, columns);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            for (int i = 0; i < args.length; i++) {
+                ps.setObject(i + 1, args[i]);
+            }
+            return ps;
+        }, keyHolder);
+
+        List<Long> keys = new ArrayList<>(rows.size());
+        for (Map<String, Object> key : keyHolder.getKeyList()) {
+            keys.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return keys;
+    }
+
+    private static String multiRowSql(String prefix, int columns, int rowCount) {
+        String rowPlaceholder = "(" + placeholders(columns) + ")";
+        StringBuilder sql = new StringBuilder(prefix.length() + rowCount * (rowPlaceholder.length() + 1));
+        sql.append(prefix);
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) sql.append(',');
+            sql.append(rowPlaceholder);
+        }
+        return sql.toString();
+    }
+
+    private static Object[] flatten(List<Object[]> rows, int columns) {
+        Object[] args = new Object[rows.size() * columns];
+        for (int i = 0; i < rows.size(); i++) {
+            System.arraycopy(rows.get(i), 0, args, i * columns, columns);
+        }
+        return args;
+    }
+
+    private static <T> void forEachChunk(List<T> items, Consumer<List<T>> action) {
+        for (int from = 0; from < items.size(); from += MAX_ROWS_PER_STATEMENT) {
+            action.accept(items.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, items.size())));
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
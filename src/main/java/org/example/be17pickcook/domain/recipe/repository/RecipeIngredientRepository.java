@@ -7,6 +7,11 @@ import org.springframework.data.jpa.repository.Query;
 import java.util.List;
 
 public interface RecipeIngredientRepository extends JpaRepository<RecipeIngredient, Long> {
-    @Query(value = "SELECT ri.recipe_id, ri.ingredient_name FROM recipe_ingredient ri", nativeQuery = true)
+    // 재료 색인 구축용 (recipe_id 순으로 읽어 posting list를 정렬된 상태로 만든다)
+    @Query(value = "SELECT ri.recipe_id, ri.ingredient_name FROM recipe_ingredient ri ORDER BY ri.recipe_id", nativeQuery = true)
     List<Object[]> findAllRecipeIngredients();
+
+    // 재료-상품 매칭 색인 구축용
+    @Query(value = "SELECT DISTINCT ri.ingredient_name FROM recipe_ingredient ri WHERE ri.ingredient_name IS NOT NULL", nativeQuery = true)
+    List<String> findDistinctIngredientNames();
 }
@@ -1,14 +1,27 @@
 package org.example.be17pickcook.domain.recipe.repository;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
-import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import org.example.be17pickcook.common.BaseResponseStatus;
+import org.example.be17pickcook.common.CursorCodec;
 import org.example.be17pickcook.common.PageResponse;
+import org.example.be17pickcook.common.exception.BaseException;
 import org.example.be17pickcook.domain.recipe.model.QRecipe;
 import org.example.be17pickcook.domain.recipe.model.RecipeListResponseDto;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 @Repository
@@ -24,55 +37,185 @@ public class RecipeQueryRepository {
     public PageResponse<RecipeListResponseDto> getRecipesFiltered(
             String keyword, List<String> categories, List<String> difficulties, String sortBy, int page, int size) {
         QRecipe recipe = QRecipe.recipe;
+        BooleanBuilder where = filters(recipe, keyword, categories, difficulties);
 
-         JPQLQuery<RecipeListResponseDto> query = queryFactory
-                .select(Projections.constructor(
-                        RecipeListResponseDto.class,
-                        recipe.idx,
-                        recipe.title,
-                        recipe.cooking_method,
-                        recipe.category,
-                        recipe.time_taken,
-                        recipe.difficulty_level,
-                        recipe.serving_size,
-                        recipe.hashtags,
-                        recipe.image_large_url,
-                        recipe.likeCount,
-                        recipe.scrapCount
-                ))
-                .from(recipe);
+        return fetchPage(recipe, where, sortBy, page, size);
+    }
+
+    /**
+     * 검색 색인으로 찾은 레시피 ID 안에서 정렬 + 페이징
+     */
+    public PageResponse<RecipeListResponseDto> getRecipesByIds(List<Long> recipeIds, String sortBy, int page, int size) {
+        if (recipeIds.isEmpty()) {
+            return new PageResponse<>(Collections.emptyList(), page, 0, 0, size);
+        }
+        QRecipe recipe = QRecipe.recipe;
+        BooleanBuilder where = new BooleanBuilder(recipe.idx.in(recipeIds));
+
+        return fetchPage(recipe, where, sortBy, page, size);
+    }
+
+    /**
+     * 커서(keyset) 방식 조회
+     * - (정렬 키, idx) 내림차순으로 커서 다음 행부터 size + 1개만 읽어 다음 페이지 존재 여부 판단
+     * - OFFSET / 전체 개수 조회가 없어 깊은 페이지도 첫 페이지와 비용이 같음
+     *
+     * @param recipeIds 검색 색인 결과로 범위를 제한할 때 (null이면 제한 없음)
+     * @param withTotal true면 전체 개수도 조회 (커서 조건 적용 전 기준)
+     */
+    public PageResponse<RecipeListResponseDto> getRecipesByCursor(
+            String keyword, List<String> categories, List<String> difficulties, List<Long> recipeIds,
+            String sortBy, CursorCodec.Cursor cursor, int size, boolean withTotal) {
+        QRecipe recipe = QRecipe.recipe;
+
+        BooleanBuilder where = filters(recipe, keyword, categories, difficulties);
+        if (recipeIds != null) {
+            if (recipeIds.isEmpty()) {
+                return PageResponse.ofCursor(Collections.emptyList(), size, null, withTotal ? 0L : null);
+            }
+            where.and(recipe.idx.in(recipeIds));
+        }
+
+        Long total = withTotal ? count(recipe, where) : null;
+
+        if (cursor != null) {
+            where.and(after(recipe, sortBy, cursor));
+        }
+
+        Expression<?> sortKey = sortKey(recipe, sortBy);
+        List<Tuple> rows = queryFactory
+                .select(listProjection(recipe), sortKey)
+                .from(recipe)
+                .where(where)
+                .orderBy(orders(recipe, sortBy))
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<RecipeListResponseDto> content = new ArrayList<>(Math.min(rows.size(), size));
+        for (int i = 0; i < rows.size() && i < size; i++) {
+            content.add(rows.get(i).get(0, RecipeListResponseDto.class));
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = rows.get(size - 1);
+            nextCursor = CursorCodec.encode(String.valueOf(last.get(sortKey)),
+                    last.get(0, RecipeListResponseDto.class).getIdx());
+        }
+
+        return PageResponse.ofCursor(content, size, nextCursor, total);
+    }
+
+    // =================================================================
+    // 공통 조건 / 정렬
+    // =================================================================
+
+    private BooleanBuilder filters(QRecipe recipe, String keyword, List<String> categories, List<String> difficulties) {
+        BooleanBuilder where = new BooleanBuilder();
 
         // 검색어 조건
         if (keyword != null && !keyword.isBlank()) {
-            query.where(recipe.title.containsIgnoreCase(keyword));
+            where.and(recipe.title.containsIgnoreCase(keyword));
         }
 
         // 카테고리 조건
         if (categories != null && !categories.isEmpty()) {
-            query.where(recipe.category.in(categories));
+            where.and(recipe.category.in(categories));
         }
 
         // 난이도 조건
         if (difficulties != null && !difficulties.isEmpty()) {
-            query.where(recipe.difficulty_level.in(difficulties));
+            where.and(recipe.difficulty_level.in(difficulties));
         }
+        return where;
+    }
+
+    private Expression<RecipeListResponseDto> listProjection(QRecipe recipe) {
+        return Projections.constructor(
+                RecipeListResponseDto.class,
+                recipe.idx,
+                recipe.title,
+                recipe.cooking_method,
+                recipe.category,
+                recipe.time_taken,
+                recipe.difficulty_level,
+                recipe.serving_size,
+                recipe.hashtags,
+                recipe.image_large_url,
+                recipe.likeCount,
+                recipe.scrapCount
+        );
+    }
+
+    // 반정규화 카운트는 null일 수 있으므로 0으로 보정해 정렬/비교
+    private NumberExpression<Long> likes(QRecipe recipe) {
+        return Expressions.numberTemplate(Long.class, "coalesce({0}, 0)", recipe.likeCount);
+    }
+
+    private NumberExpression<Long> comments(QRecipe recipe) {
+        return Expressions.numberTemplate(Long.class, "coalesce({0}, 0)", recipe.commentCount);
+    }
 
-        // 정렬 조건
+    private Expression<?> sortKey(QRecipe recipe, String sortBy) {
+        if ("popular".equalsIgnoreCase(sortBy)) return likes(recipe);
+        if ("recent".equalsIgnoreCase(sortBy)) return recipe.createdAt;
+        if ("comments".equalsIgnoreCase(sortBy)) return comments(recipe);
+        return recipe.idx;
+    }
+
+    // 정렬 조건 (동점은 idx 내림차순으로 고정해 페이지 간 중복/누락 방지)
+    private OrderSpecifier<?>[] orders(QRecipe recipe, String sortBy) {
         if ("popular".equalsIgnoreCase(sortBy)) {
-            query.orderBy(recipe.likeCount.desc());
+            return new OrderSpecifier<?>[]{likes(recipe).desc(), recipe.idx.desc()};
         } else if ("recent".equalsIgnoreCase(sortBy)) {
-            query.orderBy(recipe.createdAt.desc());
+            return new OrderSpecifier<?>[]{recipe.createdAt.desc(), recipe.idx.desc()};
         } else if ("comments".equalsIgnoreCase(sortBy)) {
-            query.orderBy(recipe.commentCount.desc()); // 댓글 개수 기준
-        } else {
-            query.orderBy(recipe.idx.desc()); // 기본값: 최신순
+            return new OrderSpecifier<?>[]{comments(recipe).desc(), recipe.idx.desc()}; // 댓글 개수 기준
+        }
+        return new OrderSpecifier<?>[]{recipe.idx.desc()}; // 기본값: 최신순
+    }
+
+    // 커서 다음 행 조건: (key < k) OR (key = k AND idx < id)
+    private Predicate after(QRecipe recipe, String sortBy, CursorCodec.Cursor cursor) {
+        long id = cursor.id();
+        if ("popular".equalsIgnoreCase(sortBy) || "comments".equalsIgnoreCase(sortBy)) {
+            NumberExpression<Long> key = "popular".equalsIgnoreCase(sortBy) ? likes(recipe) : comments(recipe);
+            long value = cursor.sortKeyAsLong();
+            return key.lt(value).or(key.eq(value).and(recipe.idx.lt(id)));
         }
+        if ("recent".equalsIgnoreCase(sortBy)) {
+            LocalDateTime value;
+            try {
+                value = LocalDateTime.parse(cursor.sortKey());
+            } catch (DateTimeParseException e) {
+                throw BaseException.from(BaseResponseStatus.INVALID_CURSOR);
+            }
+            return recipe.createdAt.lt(value).or(recipe.createdAt.eq(value).and(recipe.idx.lt(id)));
+        }
+        return recipe.idx.lt(id);
+    }
+
+    private long count(QRecipe recipe, Predicate where) {
+        Long total = queryFactory
+                .select(recipe.count())
+                .from(recipe)
+                .where(where)
+                .fetchOne();
+        return total != null ? total : 0L;
+    }
 
-        // 전체 개수
-        long total = query.fetchCount();
+    private PageResponse<RecipeListResponseDto> fetchPage(
+            QRecipe recipe, Predicate where, String sortBy, int page, int size) {
+        // 전체 개수 (deprecated fetchCount 대신 별도 count 쿼리)
+        long total = count(recipe, where);
 
         // 페이징
-        List<RecipeListResponseDto> results = query
+        List<RecipeListResponseDto> results = queryFactory
+                .select(listProjection(recipe))
+                .from(recipe)
+                .where(where)
+                .orderBy(orders(recipe, sortBy))
                 .offset((long) page * size)
                 .limit(size)
                 .fetch();
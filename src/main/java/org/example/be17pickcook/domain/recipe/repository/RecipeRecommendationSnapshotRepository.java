@@ -0,0 +1,7 @@
+package org.example.be17pickcook.domain.recipe.repository;
+
+import org.example.be17pickcook.domain.recipe.model.RecipeRecommendationSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RecipeRecommendationSnapshotRepository extends JpaRepository<RecipeRecommendationSnapshot, Integer> {
+}
@@ -11,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -24,6 +25,23 @@ public interface RecipeRepository extends JpaRepository<Recipe, Long> {
             "WHERE r.idx = :id")
     Optional<Recipe> findDetailById(@Param("id") Long id);
 
+    // 여러 레시피의 좋아요/스크랩 수 (idx, likeCount, scrapCount)
+    @Query("SELECT r.idx, r.likeCount, r.scrapCount FROM Recipe r WHERE r.idx IN :ids")
+    List<Object[]> findCountsByIds(@Param("ids") Collection<Long> ids);
+
+    // =================================================================
+    // 검색 색인 구축용
+    // =================================================================
+
+    @Query("SELECT r.idx, r.title, r.hashtags, r.category, r.difficulty_level FROM Recipe r")
+    List<Object[]> findAllSearchFields();
+
+    @Query("SELECT h.recipe.idx, h.hashtag_name FROM RecipeHashTag h WHERE h.recipe IS NOT NULL")
+    List<Object[]> findAllHashTagNames();
+
+    @Query("SELECT COUNT(r), MAX(r.idx) FROM Recipe r")
+    List<Object[]> findCountAndMaxIdx();
+
     @Query("SELECT r.idx, r.title, r.cooking_method, r.category, r.time_taken, " +
             "r.difficulty_level, r.serving_size, r.hashtags, r.image_large_url, r.likeCount, r.scrapCount FROM Recipe r")
     Page<Object[]> findAllOnlyRecipe(Pageable pageable);
@@ -0,0 +1,293 @@
+package org.example.be17pickcook.domain.recipe.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.be17pickcook.common.counter.WriteBehindCounter;
+import org.example.be17pickcook.domain.likes.model.LikeTargetType;
+import org.example.be17pickcook.domain.likes.service.LikeCountBuffer;
+import org.example.be17pickcook.domain.recipe.model.RecipeDto;
+import org.example.be17pickcook.domain.recipe.repository.RecipeRepository;
+import org.example.be17pickcook.domain.scrap.model.ScrapTargetType;
+import org.example.be17pickcook.domain.scrap.service.ScrapCountBuffer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 레시피 상세 캐시 (read-through)
+ * - 레시피 본문/단계/재료/작성자와 로딩 시점의 좋아요/스크랩 수를 보관
+ * - 좋아요/스크랩 수는 카운트 버퍼가 DB에 반영한 증감을 받아 항목에 더함
+ *   → 조회마다 카운트를 다시 읽지 않음 (미반영 증감과 사용자별 여부는 호출 측에서 합산)
+ * - 항목마다 로딩 시점의 반영 세대를 기록해 그 이하 세대의 증감은 건너뜀,
+ *   로딩 도중 반영이 겹치면(읽은 값에 포함됐는지 알 수 없으므로) 캐시에 저장하지 않음
+ * - 추정 메모리 크기 합으로 제한, 넘치면 가장 오래 안 쓴 항목부터 제거
+ * - 같은 레시피 동시 미스는 한 번만 DB 조회 (single-flight)
+ * - 만료 임박 항목은 기존 값을 돌려주면서 백그라운드에서 새로 읽음
+ */
+@Slf4j
+@Component
+public class RecipeDetailCache {
+
+    private final RecipeRepository recipeRepository;
+    private final TransactionTemplate readTx;
+    private final LikeCountBuffer likeCountBuffer;
+    private final ScrapCountBuffer scrapCountBuffer;
+
+    private final long maxBytes;
+    private final long ttlMillis;
+    private final long refreshAfterMillis;
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long totalBytes;
+
+    // 로딩 중인 레시피 ID → 로딩 결과 (같은 ID 요청은 이 future를 기다림)
+    private final ConcurrentHashMap<Long, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+
+    // 만료 임박 갱신 전용 (큐가 차면 이번 갱신은 건너뜀)
+    private final ThreadPoolExecutor refresher = new ThreadPoolExecutor(1, 2, 30L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(256), runnable -> {
+                Thread thread = new Thread(runnable, "recipe-detail-refresh");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+
+    public RecipeDetailCache(RecipeRepository recipeRepository,
+                             PlatformTransactionManager transactionManager,
+                             LikeCountBuffer likeCountBuffer,
+                             ScrapCountBuffer scrapCountBuffer,
+                             @Value("${recipe.detail-cache.max-bytes:67108864}") long maxBytes,
+                             @Value("${recipe.detail-cache.ttl-seconds:600}") long ttlSeconds,
+                             @Value("${recipe.detail-cache.refresh-after-seconds:480}") long refreshAfterSeconds) {
+        this.recipeRepository = recipeRepository;
+        this.readTx = new TransactionTemplate(transactionManager);
+        this.readTx.setReadOnly(true);
+        this.likeCountBuffer = likeCountBuffer;
+        this.scrapCountBuffer = scrapCountBuffer;
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.refreshAfterMillis = refreshAfterSeconds * 1000L;
+
+        likeCountBuffer.addFlushListener((generation, applied) ->
+                applyFlushed(generation, applied, LikeTargetType.RECIPE, true));
+        scrapCountBuffer.addFlushListener((generation, applied) ->
+                applyFlushed(generation, applied, ScrapTargetType.RECIPE, false));
+    }
+
+    // =================================================================
+    // 조회
+    // =================================================================
+
+    /**
+     * 레시피 상세 (없는 레시피면 null)
+     * - 캐시 항목의 복사본에 현재 좋아요/스크랩 수를 채워 반환하므로 호출 측에서 수정해도 됨
+     */
+    public RecipeDto.RecipeResponseDto get(Long recipeId) {
+        Entry entry = lookup(recipeId);
+        if (entry != null) {
+            long age = System.currentTimeMillis() - entry.loadedAt;
+            if (age < ttlMillis) {
+                if (age >= refreshAfterMillis) {
+                    refreshAsync(recipeId);
+                }
+                return entry.snapshot();
+            }
+        }
+
+        try {
+            Entry loaded = loadOnce(recipeId, null).join();
+            return loaded != null ? loaded.snapshot() : null;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    private synchronized Entry lookup(Long recipeId) {
+        return entries.get(recipeId);
+    }
+
+    // =================================================================
+    // 카운트 보정
+    // =================================================================
+
+    /**
+     * 카운트 버퍼가 DB에 반영한 레시피 증감을 캐시 항목에 더함
+     * - 항목이 로딩된 세대 이하의 반영은 이미 읽은 값에 포함되어 있으므로 건너뜀
+     */
+    private synchronized <T extends Enum<T>> void applyFlushed(long generation, Map<WriteBehindCounter.Key<T>, Long> applied,
+                                                               T recipeType, boolean like) {
+        applied.forEach((key, delta) -> {
+            if (key.type() != recipeType) return;
+            Entry entry = entries.get(key.targetId());
+            if (entry == null) return;
+            if (generation <= (like ? entry.likeGeneration : entry.scrapGeneration)) return;
+            (like ? entry.likeCount : entry.scrapCount).addAndGet(delta);
+        });
+    }
+
+    // =================================================================
+    // 로딩
+    // =================================================================
+
+    private void refreshAsync(Long recipeId) {
+        if (inFlight.containsKey(recipeId)) return;
+        loadOnce(recipeId, refresher).exceptionally(e -> {
+            log.warn("레시피 상세 캐시 갱신 실패: id={}, {}", recipeId, e.getMessage());
+            return null;
+        });
+    }
+
+    /**
+     * 같은 ID의 로딩은 하나만 실행
+     * @param executor null이면 호출 스레드에서 직접 로딩
+     */
+    private CompletableFuture<Entry> loadOnce(Long recipeId, Executor executor) {
+        CompletableFuture<Entry> created = new CompletableFuture<>();
+        CompletableFuture<Entry> existing = inFlight.putIfAbsent(recipeId, created);
+        if (existing != null) return existing;
+
+        Runnable task = () -> {
+            try {
+                Entry entry = load(recipeId);
+                if (entry != null) {
+                    store(recipeId, entry);
+                }
+                created.complete(entry);
+            } catch (Throwable t) {
+                created.completeExceptionally(t);
+            } finally {
+                inFlight.remove(recipeId, created);
+            }
+        };
+
+        if (executor == null) {
+            task.run();
+        } else {
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(recipeId, created);
+                created.complete(null);
+            }
+        }
+        return created;
+    }
+
+    /**
+     * DB에서 읽고 읽기 전 카운트 반영 세대를 기록
+     * - steps는 지연 로딩이므로 DTO 변환까지 같은 트랜잭션에서 수행
+     */
+    private Entry load(Long recipeId) {
+        long likeGeneration = likeCountBuffer.flushGeneration();
+        long scrapGeneration = scrapCountBuffer.flushGeneration();
+        boolean idle = !likeCountBuffer.isFlushing() && !scrapCountBuffer.isFlushing();
+
+        RecipeDto.RecipeResponseDto dto = readTx.execute(status -> recipeRepository.findDetailById(recipeId)
+                .map(RecipeDto.RecipeResponseDto::fromEntity)
+                .orElse(null));
+        if (dto == null) return null;
+        return new Entry(dto, estimateBytes(dto), System.currentTimeMillis(), likeGeneration, scrapGeneration, idle);
+    }
+
+    /**
+     * 로딩과 카운트 반영이 겹치지 않았을 때만 저장 (겹친 반영의 증감은 읽은 값에 들어갔는지 알 수 없음)
+     * - 반영 리스너(applyFlushed)와 같은 잠금 안에서 세대를 확인하므로, 확인 뒤 시작된 반영은
+     *   저장된 항목에 빠짐없이 더해짐
+     */
+    private synchronized void store(Long recipeId, Entry entry) {
+        if (!entry.loadedWhileIdle
+                || likeCountBuffer.flushGeneration() != entry.likeGeneration
+                || scrapCountBuffer.flushGeneration() != entry.scrapGeneration) {
+            return;
+        }
+
+        Entry previous = entries.put(recipeId, entry);
+        if (previous != null) totalBytes -= previous.bytes;
+        totalBytes += entry.bytes;
+
+        Iterator<Entry> it = entries.values().iterator();
+        while (totalBytes > maxBytes && it.hasNext()) {
+            Entry eldest = it.next();
+            if (eldest == entry) break;
+            totalBytes -= eldest.bytes;
+            it.remove();
+        }
+    }
+
+    // =================================================================
+    // 크기 추정 (문자열은 char당 2byte + 객체 헤더)
+    // =================================================================
+
+    private static final int OBJECT_OVERHEAD = 48;
+
+    static long estimateBytes(RecipeDto.RecipeResponseDto dto) {
+        long bytes = OBJECT_OVERHEAD * 2L;
+        bytes += sizeOf(dto.getTitle()) + sizeOf(dto.getCooking_method()) + sizeOf(dto.getCategory())
+                + sizeOf(dto.getTime_taken()) + sizeOf(dto.getDifficulty_level()) + sizeOf(dto.getServing_size())
+                + sizeOf(dto.getHashtags()) + sizeOf(dto.getImage_small_url()) + sizeOf(dto.getImage_large_url())
+                + sizeOf(dto.getTip());
+
+        List<RecipeDto.RecipeStepDto> steps = dto.getSteps();
+        if (steps != null) {
+            for (RecipeDto.RecipeStepDto step : steps) {
+                bytes += OBJECT_OVERHEAD + sizeOf(step.getDescription()) + sizeOf(step.getImage_url());
+            }
+        }
+        List<RecipeDto.RecipeIngredientDto> ingredients = dto.getIngredients();
+        if (ingredients != null) {
+            for (RecipeDto.RecipeIngredientDto ingredient : ingredients) {
+                bytes += OBJECT_OVERHEAD + sizeOf(ingredient.getIngredient_name()) + sizeOf(ingredient.getQuantity());
+            }
+        }
+        return bytes;
+    }
+
+    private static long sizeOf(String value) {
+        return value == null ? 0 : OBJECT_OVERHEAD + 2L * value.length();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    private static class Entry {
+        private final RecipeDto.RecipeResponseDto dto;
+        private final long bytes;
+        private final long loadedAt;
+        private final AtomicLong likeCount;
+        private final AtomicLong scrapCount;
+        // 로딩 시 이미 끝난 마지막 반영 세대 (이하 세대의 증감은 likeCount/scrapCount에 포함됨)
+        private final long likeGeneration;
+        private final long scrapGeneration;
+        // 읽기 시작 시 진행 중인 반영이 없었는지
+        private final boolean loadedWhileIdle;
+
+        private Entry(RecipeDto.RecipeResponseDto dto, long bytes, long loadedAt,
+                      long likeGeneration, long scrapGeneration, boolean loadedWhileIdle) {
+            this.dto = dto;
+            this.bytes = bytes;
+            this.loadedAt = loadedAt;
+            this.likeGeneration = likeGeneration;
+            this.scrapGeneration = scrapGeneration;
+            this.loadedWhileIdle = loadedWhileIdle;
+            this.likeCount = new AtomicLong(dto.getLikeCount() != null ? dto.getLikeCount() : 0L);
+            this.scrapCount = new AtomicLong(dto.getScrapCount() != null ? dto.getScrapCount() : 0L);
+        }
+
+        private RecipeDto.RecipeResponseDto snapshot() {
+            return dto.toBuilder()
+                    .likeCount(Math.max(likeCount.get(), 0L))
+                    .scrapCount(Math.max(scrapCount.get(), 0L))
+                    .build();
+        }
+    }
+}
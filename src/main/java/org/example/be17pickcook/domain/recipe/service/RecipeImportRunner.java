@@ -0,0 +1,37 @@
+package org.example.be17pickcook.domain.recipe.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * recipe.import.file 설정 시 기동 후 레시피 가져오기 실행
+ * 예) --recipe.import.file=/data/recipes.jsonl
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "recipe.import.file")
+public class RecipeImportRunner {
+
+    private final RecipeImportService recipeImportService;
+
+    @Value("${recipe.import.file}")
+    private String file;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        try {
+            recipeImportService.importFile(Paths.get(file));
+        } catch (IOException | RuntimeException e) {
+            log.error("레시피 가져오기를 완료하지 못했습니다. 다시 실행하면 마지막 체크포인트부터 이어서 진행합니다.", e);
+        }
+    }
+}
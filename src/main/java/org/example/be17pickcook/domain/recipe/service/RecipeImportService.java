@@ -0,0 +1,305 @@
+package org.example.be17pickcook.domain.recipe.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.extern.slf4j.Slf4j;
+import org.example.be17pickcook.common.model.BatchJobCheckpoint;
+import org.example.be17pickcook.common.repository.BatchJobCheckpointRepository;
+import org.example.be17pickcook.domain.recipe.model.Recipe;
+import org.example.be17pickcook.domain.recipe.model.RecipeImportDto;
+import org.example.be17pickcook.domain.recipe.model.RecipeIngredient;
+import org.example.be17pickcook.domain.recipe.repository.RecipeImportJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 레시피 대량 가져오기 (JSON Lines)
+ * - 파일을 한 줄씩 읽어 레코드 단위로 파싱/검증 (파일 전체를 메모리에 올리지 않음)
+ * - batch-size건마다 한 트랜잭션으로 multi-row INSERT (레시피 + 단계 + 재료 + 영양)
+ * - source_id가 이미 있으면 건너뜀 → 같은 파일을 다시 돌려도 중복 저장 없음
+ * - 배치 커밋과 같은 트랜잭션에서 처리한 줄 번호를 체크포인트로 기록 → 중단 시 이어서 실행
+ * - 저장된 레시피는 커밋 후 추천/검색 색인에 반영
+ */
+@Slf4j
+@Service
+public class RecipeImportService {
+
+    private static final String JOB_PREFIX = "recipe-import:";
+    private static final int MAX_REJECT_SAMPLES = 20;
+    private static final int MAX_SOURCE_ID_LENGTH = 100;
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_STEPS = 100;
+    private static final int MAX_INGREDIENTS = 100;
+
+    private final ObjectReader recordReader;
+    private final RecipeImportJdbcRepository recipeImportJdbcRepository;
+    private final BatchJobCheckpointRepository checkpointRepository;
+    private final RecipeIngredientIndex recipeIngredientIndex;
+    private final RecipeSearchIndex recipeSearchIndex;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+    private final Integer ownerUserIdx;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public RecipeImportService(ObjectMapper objectMapper,
+                               RecipeImportJdbcRepository recipeImportJdbcRepository,
+                               BatchJobCheckpointRepository checkpointRepository,
+                               RecipeIngredientIndex recipeIngredientIndex,
+                               RecipeSearchIndex recipeSearchIndex,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${recipe.import.batch-size:500}") int batchSize,
+                               @Value("${recipe.import.user-idx:#{null}}") Integer ownerUserIdx) {
+        this.recordReader = objectMapper.readerFor(RecipeImportDto.Record.class);
+        this.recipeImportJdbcRepository = recipeImportJdbcRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.recipeIngredientIndex = recipeIngredientIndex;
+        this.recipeSearchIndex = recipeSearchIndex;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.ownerUserIdx = ownerUserIdx;
+    }
+
+    public RecipeImportDto.Result importFile(Path file) throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("레시피 가져오기가 이미 실행 중입니다.");
+        }
+
+        String jobName = jobName(file);
+        long startedAt = System.currentTimeMillis();
+        Stats stats = new Stats();
+
+        try {
+            // 1. 체크포인트 (지난 실행이 중간에 끝났으면 그 다음 줄부터)
+            long resumeFrom = tx.execute(status -> {
+                BatchJobCheckpoint cp = checkpointRepository.findById(jobName)
+                        .orElseGet(() -> BatchJobCheckpoint.of(jobName));
+                if (cp.getStatus() == BatchJobCheckpoint.Status.COMPLETED) {
+                    cp.start();
+                } else {
+                    cp.resume();
+                }
+                return checkpointRepository.save(cp).getLastProcessedId();
+            });
+            log.info("레시피 가져오기 시작: {} ({}번째 줄부터, batch={})", file, resumeFrom + 1, batchSize);
+
+            // 2. 한 줄씩 파싱/검증 후 batch-size건마다 저장
+            List<RecipeImportDto.Record> batch = new ArrayList<>(batchSize);
+            long lineNo = 0;
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNo++;
+                    if (lineNo <= resumeFrom || line.isBlank()) continue;
+                    stats.read++;
+
+                    RecipeImportDto.Record record;
+                    try {
+                        record = recordReader.readValue(line);
+                    } catch (JsonProcessingException e) {
+                        stats.reject(lineNo, "JSON 형식 오류");
+                        continue;
+                    }
+
+                    String error = validate(record);
+                    if (error != null) {
+                        stats.reject(lineNo, error);
+                        continue;
+                    }
+
+                    batch.add(record);
+                    if (batch.size() >= batchSize) {
+                        writeBatch(jobName, batch, lineNo, stats);
+                        batch.clear();
+                        logProgress(stats, startedAt);
+                    }
+                }
+            }
+            writeBatch(jobName, batch, lineNo, stats);
+
+            tx.executeWithoutResult(status -> checkpointRepository.findById(jobName)
+                    .ifPresent(BatchJobCheckpoint::complete));
+
+            long elapsed = Math.max(System.currentTimeMillis() - startedAt, 1);
+            RecipeImportDto.Result result = RecipeImportDto.Result.builder()
+                    .file(file.toString())
+                    .resumedFromLine(resumeFrom)
+                    .readRecords(stats.read)
+                    .insertedRecords(stats.inserted)
+                    .skippedRecords(stats.skipped)
+                    .rejectedRecords(stats.rejected)
+                    .elapsedMillis(elapsed)
+                    .recordsPerSecond(stats.read * 1000.0 / elapsed)
+                    .rejectSamples(stats.rejectSamples)
+                    .build();
+            log.info("레시피 가져오기 완료: 읽음 {}, 저장 {}, 건너뜀 {}, 거부 {}, {}ms, {}건/초",
+                    stats.read, stats.inserted, stats.skipped, stats.rejected, elapsed,
+                    String.format("%.1f", result.getRecordsPerSecond()));
+            return result;
+        } catch (IOException | RuntimeException e) {
+            try {
+                tx.executeWithoutResult(status -> checkpointRepository.findById(jobName)
+                        .ifPresent(BatchJobCheckpoint::fail));
+            } catch (RuntimeException checkpointError) {
+                log.error("레시피 가져오기 체크포인트 갱신 실패", checkpointError);
+            }
+            log.error("레시피 가져오기 실패: {} (저장 {}건 후 중단)", file, stats.inserted, e);
+            throw e;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // =================================================================
+    // 검증
+    // =================================================================
+
+    private String validate(RecipeImportDto.Record record) {
+        if (record.getSource_id() == null || record.getSource_id().isBlank()) return "source_id 누락";
+        if (record.getSource_id().length() > MAX_SOURCE_ID_LENGTH) return "source_id 길이 초과";
+        if (record.getTitle() == null || record.getTitle().isBlank()) return "title 누락";
+        if (record.getTitle().length() > MAX_TITLE_LENGTH) return "title 길이 초과";
+        if (record.getSteps() != null && record.getSteps().size() > MAX_STEPS) return "조리 단계 수 초과";
+        if (record.getIngredients() != null) {
+            if (record.getIngredients().size() > MAX_INGREDIENTS) return "재료 수 초과";
+            for (RecipeImportDto.Ingredient ingredient : record.getIngredients()) {
+                if (ingredient == null || ingredient.getIngredient_name() == null
+                        || ingredient.getIngredient_name().isBlank()) {
+                    return "재료명 누락";
+                }
+            }
+        }
+        return null;
+    }
+
+    // =================================================================
+    // 저장
+    // =================================================================
+
+    private void writeBatch(String jobName, List<RecipeImportDto.Record> batch, long lineNo, Stats stats) {
+        List<RecipeImportDto.Record> inserted = new ArrayList<>();
+        Map<String, Long> ids = new HashMap<>();
+
+        tx.executeWithoutResult(status -> {
+            inserted.clear();
+            ids.clear();
+            if (!batch.isEmpty()) {
+                // 이미 가져온 source_id와 배치 안 중복 제외
+                // (그 사이 다른 작업이 같은 source_id를 저장하면 이 배치는 롤백, 재실행 시 체크포인트부터 건너뜀)
+                Set<String> seen = recipeImportJdbcRepository.findExistingSourceIds(
+                        batch.stream().map(RecipeImportDto.Record::getSource_id).toList());
+                for (RecipeImportDto.Record record : batch) {
+                    if (seen.add(record.getSource_id())) inserted.add(record);
+                }
+
+                if (!inserted.isEmpty()) {
+                    ids.putAll(recipeImportJdbcRepository.insertRecipes(inserted, ownerUserIdx, LocalDateTime.now()));
+                    insertChildren(inserted, ids);
+                }
+            }
+
+            checkpointRepository.findById(jobName).ifPresent(cp -> cp.advance(lineNo));
+        });
+
+        stats.inserted += inserted.size();
+        stats.skipped += batch.size() - inserted.size();
+
+        // 커밋 후 추천/검색 색인 반영
+        for (RecipeImportDto.Record record : inserted) {
+            Long recipeId = ids.get(record.getSource_id());
+            if (recipeId != null) addToIndexes(recipeId, record);
+        }
+    }
+
+    private void insertChildren(List<RecipeImportDto.Record> records, Map<String, Long> ids) {
+        List<Object[]> steps = new ArrayList<>();
+        List<Object[]> ingredients = new ArrayList<>();
+        List<Object[]> nutritions = new ArrayList<>();
+
+        for (RecipeImportDto.Record record : records) {
+            Long recipeId = ids.get(record.getSource_id());
+            if (recipeId == null) continue;
+
+            if (record.getSteps() != null) {
+                int order = 1;
+                for (RecipeImportDto.Step step : record.getSteps()) {
+                    if (step == null) continue;
+                    steps.add(new Object[]{recipeId,
+                            step.getStep_order() != null ? step.getStep_order() : order,
+                            step.getDescription(), step.getImage_url()});
+                    order++;
+                }
+            }
+            if (record.getIngredients() != null) {
+                for (RecipeImportDto.Ingredient ingredient : record.getIngredients()) {
+                    ingredients.add(new Object[]{recipeId, ingredient.getIngredient_name(), ingredient.getQuantity()});
+                }
+            }
+            RecipeImportDto.Nutrition n = record.getNutrition();
+            if (n != null) {
+                nutritions.add(new Object[]{recipeId, n.getCalories(), n.getCarbs(), n.getProtein(), n.getFat(), n.getSodium()});
+            }
+        }
+
+        recipeImportJdbcRepository.insertSteps(steps);
+        recipeImportJdbcRepository.insertIngredients(ingredients);
+        recipeImportJdbcRepository.insertNutritions(nutritions);
+    }
+
+    private void addToIndexes(Long recipeId, RecipeImportDto.Record record) {
+        List<String> ingredientNames = record.getIngredients() != null
+                ? record.getIngredients().stream().map(RecipeImportDto.Ingredient::getIngredient_name).toList()
+                : Collections.emptyList();
+        recipeIngredientIndex.addRecipe(recipeId, ingredientNames);
+
+        recipeSearchIndex.index(Recipe.builder()
+                .idx(recipeId)
+                .title(record.getTitle())
+                .hashtags(record.getHashtags())
+                .category(record.getCategory())
+                .difficulty_level(record.getDifficulty_level())
+                .ingredients(ingredientNames.stream()
+                        .map(name -> RecipeIngredient.builder().ingredient_name(name).build())
+                        .toList())
+                .build());
+    }
+
+    private void logProgress(Stats stats, long startedAt) {
+        long elapsed = Math.max(System.currentTimeMillis() - startedAt, 1);
+        log.info("레시피 가져오기 진행: 읽음 {}, 저장 {}, 건너뜀 {}, 거부 {}, {}건/초",
+                stats.read, stats.inserted, stats.skipped, stats.rejected,
+                String.format("%.1f", stats.read * 1000.0 / elapsed));
+    }
+
+    private String jobName(Path file) {
+        String name = JOB_PREFIX + file.getFileName();
+        return name.length() > 100 ? name.substring(0, 100) : name;
+    }
+
+    private static class Stats {
+        long read;
+        long inserted;
+        long skipped;
+        long rejected;
+        final List<String> rejectSamples = new ArrayList<>();
+
+        void reject(long lineNo, String reason) {
+            rejected++;
+            if (rejectSamples.size() < MAX_REJECT_SAMPLES) {
+                rejectSamples.add(lineNo + "번째 줄: " + reason);
+            }
+        }
+    }
+}
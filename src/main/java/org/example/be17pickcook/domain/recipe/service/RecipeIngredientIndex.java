@@ -0,0 +1,386 @@
+package org.example.be17pickcook.domain.recipe.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.be17pickcook.common.ingredient.IngredientDictionary;
+import org.example.be17pickcook.common.ingredient.IngredientDictionaryReloadedEvent;
+import org.example.be17pickcook.common.search.TopKCollector;
+import org.example.be17pickcook.domain.recipe.repository.RecipeIngredientRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 냉장고 기반 레시피 추천용 재료 역색인
+ * - 재료명 사전: 대표 재료명(IngredientDictionary로 정규화, 계란 → 달걀) → int 재료 ID
+ * - posting list: 재료 ID → 해당 재료를 쓰는 레시피 ID (오름차순 int 배열)
+ * - 레시피 벡터: 레시피 ID → 해당 레시피의 재료 ID (오름차순 int 배열)
+ * - 애플리케이션 시작 시 1회 구축, 레시피 등록 시 증분 갱신
+ * - 추천 비용이 전체 레시피 수가 아니라 냉장고 재료 수에 비례하도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeIngredientIndex {
+
+    private static final int INITIAL_POSTING_CAPACITY = 4;
+
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final IngredientDictionary ingredientDictionary;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 재료명 → 재료 ID
+    private final Map<String, Integer> termIds = new HashMap<>();
+    // 재료 ID → 레시피 ID 목록 (앞에서부터 postingSizes[termId]개만 유효)
+    private int[][] postings = new int[16][];
+    private int[] postingSizes = new int[16];
+    // 레시피 ID → 재료 ID 목록 (앞에서부터 recipeTermSizes[recipeId]개만 유효)
+    private int[][] recipeTerms = new int[16][];
+    private int[] recipeTermSizes = new int[16];
+    private int recipeCount;
+    // 재구축 중 들어온 레시피 추가 (재구축 후 다시 적용), 쓰기 락으로 보호
+    private List<Runnable> replay;
+
+    // =================================================================
+    // 구축 / 갱신
+    // =================================================================
+
+    /**
+     * 애플리케이션 기동 완료 후 recipe_ingredient 전체를 1회 읽어 색인 구축
+     * - DB를 읽는 동안 들어온 레시피 추가는 재구축 후 다시 적용 (읽은 행에 없을 수 있으므로)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void build() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            replay = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        List<Object[]> rows;
+        try {
+            rows = recipeIngredientRepository.findAllRecipeIngredients();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                replay = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        int recipes;
+        int terms;
+        lock.writeLock().lock();
+        try {
+            termIds.clear();
+            postings = new int[16][];
+            postingSizes = new int[16];
+            recipeTerms = new int[16][];
+            recipeTermSizes = new int[16];
+            recipeCount = 0;
+
+            for (Object[] row : rows) {
+                if (row[0] == null || row[1] == null) continue;
+                addPosting(((Number) row[0]).intValue(), (String) row[1]);
+            }
+            // 이미 읽은 행에 포함된 추가는 addPosting에서 중복으로 걸러짐
+            replay.forEach(Runnable::run);
+            replay = null;
+
+            recipes = recipeCount;
+            terms = termIds.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("레시피 재료 색인 구축 완료: 레시피 {}개, 재료 {}종, 행 {}개, {}ms",
+                recipes, terms, rows.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 재료 사전이 바뀌면 대표 재료명이 달라지므로 재구축
+     */
+    @EventListener
+    public void onDictionaryReloaded(IngredientDictionaryReloadedEvent event) {
+        build();
+    }
+
+    /**
+     * 레시피 등록 시 해당 레시피의 재료를 색인에 추가
+     */
+    public void addRecipe(Long recipeId, Collection<String> ingredientNames) {
+        if (recipeId == null || ingredientNames == null) return;
+        int id = Math.toIntExact(recipeId);
+        List<String> names = new ArrayList<>(ingredientNames);
+        Runnable change = () -> {
+            for (String name : names) {
+                if (name != null) addPosting(id, name);
+            }
+        };
+
+        lock.writeLock().lock();
+        try {
+            change.run();
+            if (replay != null) replay.add(change);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 쓰기 락을 잡은 상태에서만 호출
+    private void addPosting(int recipeId, String ingredientName) {
+        String term = term(ingredientName);
+        if (term.isEmpty()) return;
+
+        Integer termId = termIds.get(term);
+        if (termId == null) {
+            termId = termIds.size();
+            termIds.put(term, termId);
+            if (termId >= postings.length) {
+                int newLength = postings.length * 2;
+                postings = Arrays.copyOf(postings, newLength);
+                postingSizes = Arrays.copyOf(postingSizes, newLength);
+            }
+            postings[termId] = new int[INITIAL_POSTING_CAPACITY];
+        }
+
+        // 같은 레시피에 같은 재료가 여러 번 등록된 경우 한 번만 반영
+        if (!insertSorted(postings, postingSizes, termId, recipeId)) return;
+
+        if (recipeId >= recipeTerms.length) {
+            int newLength = Math.max(recipeTerms.length * 2, recipeId + 1);
+            recipeTerms = Arrays.copyOf(recipeTerms, newLength);
+            recipeTermSizes = Arrays.copyOf(recipeTermSizes, newLength);
+        }
+        if (recipeTerms[recipeId] == null) {
+            recipeTerms[recipeId] = new int[INITIAL_POSTING_CAPACITY];
+            recipeCount++;
+        }
+        insertSorted(recipeTerms, recipeTermSizes, recipeId, termId);
+    }
+
+    /**
+     * lists[row]에 value를 정렬 순서로 삽입 (이미 있으면 false)
+     * - 대부분 끝에 붙는 경우이므로 마지막 원소부터 확인
+     */
+    private static boolean insertSorted(int[][] lists, int[] sizes, int row, int value) {
+        int[] list = lists[row];
+        int size = sizes[row];
+
+        if (size > 0 && list[size - 1] == value) return false;
+
+        if (size > 0 && list[size - 1] > value) {
+            int pos = Arrays.binarySearch(list, 0, size, value);
+            if (pos >= 0) return false;
+            pos = -pos - 1;
+            if (size == list.length) list = lists[row] = Arrays.copyOf(list, size * 2);
+            System.arraycopy(list, pos, list, pos + 1, size - pos);
+            list[pos] = value;
+        } else {
+            if (size == list.length) list = lists[row] = Arrays.copyOf(list, size * 2);
+            list[size] = value;
+        }
+        sizes[row] = size + 1;
+        return true;
+    }
+
+    // =================================================================
+    // 조회
+    // =================================================================
+
+    /**
+     * 냉장고 재료명 목록으로 레시피별 매칭 재료 수 집계
+     * - 냉장고 재료의 posting list만 순회하므로 전체 레시피 수와 무관
+     */
+    public MatchCounter countMatches(Collection<String> fridgeIngredientNames) {
+        MatchCounter counter = new MatchCounter();
+
+        // 같은 재료가 냉장고에 여러 개 있어도 한 번만 센다
+        Set<String> terms = new HashSet<>();
+        for (String name : fridgeIngredientNames) {
+            if (name != null) terms.add(term(name));
+        }
+
+        lock.readLock().lock();
+        try {
+            for (String term : terms) {
+                Integer termId = termIds.get(term);
+                if (termId == null) continue;
+
+                int[] list = postings[termId];
+                int size = postingSizes[termId];
+                for (int i = 0; i < size; i++) {
+                    counter.increment(list[i]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return counter;
+    }
+
+    /**
+     * 재료별 가중치로 레시피 점수 계산 후 topK에 제출
+     * - 점수 = 매칭된 냉장고 재료 가중치 합 / 레시피 재료 수 (재료 커버리지)
+     * - 후보는 냉장고 재료의 posting list에서만 나오고,
+     *   후보별 점수는 정렬된 두 int 배열의 병합 교집합으로 할당 없이 계산
+     *
+     * @param fridgeWeights term()으로 정규화한 재료명 → 가중치 (같은 재료는 호출 측에서 최댓값으로 합침)
+     */
+    public void scoreWeighted(Map<String, Float> fridgeWeights, TopKCollector topK) {
+        lock.readLock().lock();
+        try {
+            // 냉장고 재료를 재료 ID 오름차순의 병렬 배열로 변환
+            int n = 0;
+            long[] packed = new long[fridgeWeights.size()];
+            for (Map.Entry<String, Float> e : fridgeWeights.entrySet()) {
+                Integer termId = termIds.get(e.getKey());
+                if (termId == null) continue;
+                packed[n++] = ((long) termId << 32) | (Float.floatToIntBits(e.getValue()) & 0xFFFFFFFFL);
+            }
+            Arrays.sort(packed, 0, n);
+
+            int[] fridgeTerms = new int[n];
+            float[] weights = new float[n];
+            MatchCounter candidates = new MatchCounter();
+            for (int i = 0; i < n; i++) {
+                fridgeTerms[i] = (int) (packed[i] >>> 32);
+                weights[i] = Float.intBitsToFloat((int) packed[i]);
+
+                int[] list = postings[fridgeTerms[i]];
+                int size = postingSizes[fridgeTerms[i]];
+                for (int j = 0; j < size; j++) {
+                    candidates.increment(list[j]);
+                }
+            }
+
+            final int fridgeSize = n;
+            candidates.forEach((recipeId, matchCount) -> {
+                int[] terms = recipeTerms[recipeId];
+                int termSize = recipeTermSizes[recipeId];
+
+                float sum = 0f;
+                int a = 0, b = 0;
+                while (a < termSize && b < fridgeSize) {
+                    int x = terms[a], y = fridgeTerms[b];
+                    if (x == y) {
+                        sum += weights[b];
+                        a++;
+                        b++;
+                    } else if (x < y) {
+                        a++;
+                    } else {
+                        b++;
+                    }
+                }
+                topK.offer(recipeId, sum / termSize);
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 색인된 레시피 수 */
+    public int recipeCount() {
+        lock.readLock().lock();
+        try {
+            return recipeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return termIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 재료명 → 색인 용어 (이름 전체가 사전의 동의어면 대표 재료명, 아니면 앞뒤 공백 제거 + 소문자)
+     */
+    public String term(String name) {
+        return ingredientDictionary.canonicalTerm(name);
+    }
+
+    // =================================================================
+    // 레시피 ID → 매칭 수 (open addressing, 박싱 없음)
+    // =================================================================
+
+    public static class MatchCounter {
+        private static final int EMPTY = -1;
+
+        private int[] keys = newKeys(64);
+        private int[] counts = new int[64];
+        private int size;
+
+        private static int[] newKeys(int capacity) {
+            int[] k = new int[capacity];
+            Arrays.fill(k, EMPTY);
+            return k;
+        }
+
+        void increment(int recipeId) {
+            if ((size + 1) * 2 > keys.length) resize();
+            int mask = keys.length - 1;
+            int slot = mix(recipeId) & mask;
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == recipeId) {
+                    counts[slot]++;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            keys[slot] = recipeId;
+            counts[slot] = 1;
+            size++;
+        }
+
+        private void resize() {
+            int[] oldKeys = keys;
+            int[] oldCounts = counts;
+            keys = newKeys(oldKeys.length * 2);
+            counts = new int[oldKeys.length * 2];
+            int mask = keys.length - 1;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] == EMPTY) continue;
+                int slot = mix(oldKeys[i]) & mask;
+                while (keys[slot] != EMPTY) slot = (slot + 1) & mask;
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+
+        private static int mix(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+
+        /** 매칭 재료가 1개 이상인 레시피 수 */
+        public int size() {
+            return size;
+        }
+
+        public void forEach(Visitor visitor) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != EMPTY) visitor.visit(keys[i], counts[i]);
+            }
+        }
+
+        @FunctionalInterface
+        public interface Visitor {
+            void visit(int recipeId, int matchCount);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package org.example.be17pickcook.domain.recipe.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.be17pickcook.common.ingredient.IngredientDictionary;
+import org.example.be17pickcook.common.model.BatchJobCheckpoint;
+import org.example.be17pickcook.common.repository.BatchJobCheckpointRepository;
+import org.example.be17pickcook.common.search.TopKCollector;
+import org.example.be17pickcook.domain.recipe.model.RecipeRecommendationSnapshot;
+import org.example.be17pickcook.domain.recipe.model.RecommendationMode;
+import org.example.be17pickcook.domain.recipe.repository.RecipeRecommendationSnapshotRepository;
+import org.example.be17pickcook.domain.refrigerator.model.RefrigeratorItem;
+import org.example.be17pickcook.domain.refrigerator.repository.RefrigeratorItemRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * 야간 추천 사전 계산 배치
+ * - 활성 냉장고가 있는 사용자를 ID 순 청크로 순회
+ * - 청크별 사용 가능한 재료를 스트리밍으로 읽어 작업자 풀에서 사용자별 상위 N개 계산
+ * - 결과는 recipe_recommendation_snapshot에, 진행 위치는 batch_job_checkpoint에 청크마다 기록
+ * - 중단/실패 시 다음 실행은 마지막으로 처리한 사용자 ID 다음부터 이어서 진행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeRecommendationBatchJob {
+
+    public static final String JOB_NAME = "recipe-recommendation-snapshot";
+
+    private final RefrigeratorItemRepository refrigeratorItemRepository;
+    private final RecipeRecommendationSnapshotRepository snapshotRepository;
+    private final BatchJobCheckpointRepository checkpointRepository;
+    private final RecipeRecommendationScorer recipeRecommendationScorer;
+    private final IngredientDictionary ingredientDictionary;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${recommendation.batch.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${recommendation.batch.workers:4}")
+    private int workers;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Scheduled(cron = "${recommendation.batch.cron:0 0 4 * * *}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("추천 배치가 이미 실행 중입니다.");
+            return;
+        }
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        TransactionTemplate readTx = new TransactionTemplate(transactionManager);
+        readTx.setReadOnly(true);
+
+        // 작업 큐도 청크 크기로 제한, 넘치면 호출 스레드에서 직접 처리
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(chunkSize), new ThreadPoolExecutor.CallerRunsPolicy());
+
+        LocalDate today = LocalDate.now();
+        long startedAt = System.currentTimeMillis();
+        long processed = 0;
+        long failed = 0;
+
+        try {
+            // 1. 체크포인트 로드 (지난 실행이 완료됐으면 처음부터, 아니면 이어서)
+            BatchJobCheckpoint checkpoint = tx.execute(status -> {
+                BatchJobCheckpoint cp = checkpointRepository.findById(JOB_NAME)
+                        .orElseGet(() -> BatchJobCheckpoint.of(JOB_NAME));
+                if (cp.getStatus() == BatchJobCheckpoint.Status.COMPLETED) {
+                    cp.start();
+                } else {
+                    cp.resume();
+                }
+                return checkpointRepository.save(cp);
+            });
+            long lastUserIdx = checkpoint.getLastProcessedId();
+            log.info("추천 배치 시작: userIdx > {}, chunk={}, workers={}", lastUserIdx, chunkSize, workers);
+
+            while (true) {
+                List<Integer> userIds = refrigeratorItemRepository.findActiveUserIdsAfter(
+                        (int) lastUserIdx, PageRequest.of(0, chunkSize));
+                if (userIds.isEmpty()) break;
+
+                // 2. 청크 사용자들의 재료를 스트리밍으로 읽어 사용자별로 묶음
+                Map<Integer, List<RefrigeratorItem>> itemsByUser = readTx.execute(status -> loadUsableItems(userIds, today));
+
+                // 3. 작업자 풀에서 사용자별 추천 계산
+                List<Future<RecipeRecommendationSnapshot>> futures = new ArrayList<>(userIds.size());
+                for (Integer userIdx : userIds) {
+                    List<RefrigeratorItem> items = itemsByUser.getOrDefault(userIdx, Collections.emptyList());
+                    futures.add(pool.submit(() -> computeSnapshot(userIdx, items, today)));
+                }
+
+                List<RecipeRecommendationSnapshot> snapshots = new ArrayList<>(futures.size());
+                for (Future<RecipeRecommendationSnapshot> future : futures) {
+                    try {
+                        snapshots.add(future.get());
+                    } catch (ExecutionException e) {
+                        failed++;
+                        log.warn("추천 계산 실패: {}", e.getCause().getMessage());
+                    }
+                }
+
+                // 4. 결과 저장 + 체크포인트 전진 (같은 트랜잭션)
+                long chunkLastUserIdx = userIds.get(userIds.size() - 1);
+                tx.executeWithoutResult(status -> {
+                    snapshotRepository.saveAll(snapshots);
+                    checkpointRepository.findById(JOB_NAME)
+                            .ifPresent(cp -> cp.advance(chunkLastUserIdx));
+                });
+
+                lastUserIdx = chunkLastUserIdx;
+                processed += snapshots.size();
+
+                long elapsed = Math.max(System.currentTimeMillis() - startedAt, 1);
+                log.info("추천 배치 진행: 처리 {}명, 실패 {}명, 마지막 userIdx={}, {}명/초",
+                        processed, failed, lastUserIdx, String.format("%.1f", processed * 1000.0 / elapsed));
+            }
+
+            tx.executeWithoutResult(status -> checkpointRepository.findById(JOB_NAME)
+                    .ifPresent(BatchJobCheckpoint::complete));
+
+            long elapsed = Math.max(System.currentTimeMillis() - startedAt, 1);
+            log.info("추천 배치 완료: 처리 {}명, 실패 {}명, {}ms, {}명/초",
+                    processed, failed, elapsed, String.format("%.1f", processed * 1000.0 / elapsed));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            markFailed(tx);
+            log.error("추천 배치 중단: 처리 {}명", processed);
+        } catch (RuntimeException e) {
+            markFailed(tx);
+            log.error("추천 배치 실패: 처리 {}명", processed, e);
+        } finally {
+            pool.shutdown();
+            running.set(false);
+        }
+    }
+
+    private Map<Integer, List<RefrigeratorItem>> loadUsableItems(List<Integer> userIds, LocalDate today) {
+        Map<Integer, List<RefrigeratorItem>> itemsByUser = new HashMap<>();
+        try (Stream<Object[]> rows = refrigeratorItemRepository.streamUsableItemsByUserIds(userIds, today)) {
+            rows.forEach(row -> itemsByUser
+                    .computeIfAbsent((Integer) row[0], k -> new ArrayList<>())
+                    .add(RefrigeratorItem.builder()
+                            .ingredientName((String) row[1])
+                            .expirationDate((LocalDate) row[2])
+                            .build()));
+        }
+        return itemsByUser;
+    }
+
+    private RecipeRecommendationSnapshot computeSnapshot(Integer userIdx, List<RefrigeratorItem> items, LocalDate today) {
+        int limit = RecipeRecommendationSnapshot.MAX_RANKED_IDS;
+        TopKCollector match = recipeRecommendationScorer.score(items, RecommendationMode.MATCH, limit, today);
+        TopKCollector expiry = recipeRecommendationScorer.score(items, RecommendationMode.EXPIRY, limit, today);
+
+        return RecipeRecommendationSnapshot.builder()
+                .userIdx(userIdx)
+                .fridgeFingerprint(RecipeRecommendationCache.fingerprint(items, ingredientDictionary.checksum()))
+                .matchCandidateCount(match.getCandidateCount())
+                .matchRecipeIds(RecipeRecommendationSnapshot.encode(match.drainRankedIds()))
+                .expiryCandidateCount(expiry.getCandidateCount())
+                .expiryRecipeIds(RecipeRecommendationSnapshot.encode(expiry.drainRankedIds()))
+                .computedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void markFailed(TransactionTemplate tx) {
+        try {
+            tx.executeWithoutResult(status -> checkpointRepository.findById(JOB_NAME)
+                    .ifPresent(BatchJobCheckpoint::fail));
+        } catch (RuntimeException e) {
+            log.error("추천 배치 체크포인트 갱신 실패", e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.be17pickcook.domain.recipe.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.be17pickcook.common.ingredient.IngredientDictionary;
+import org.example.be17pickcook.common.ingredient.IngredientDictionaryReloadedEvent;
+import org.example.be17pickcook.domain.recipe.model.RecommendationMode;
+import org.example.be17pickcook.domain.refrigerator.model.RefrigeratorChangedEvent;
+import org.example.be17pickcook.domain.refrigerator.model.RefrigeratorItem;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 사용자별 추천 순위 캐시
+ * - (사용자, 추천 방식)별로 상위 CACHED_RANK_LIMIT개 레시피 ID와 당시 냉장고 fingerprint 보관
+ * - 크기 제한(LRU) + TTL 만료, 날짜가 바뀌면(사용 가능 재료가 달라지므로) 무효
+ * - 조회 시 현재 냉장고 fingerprint와 다르면 제거 (이벤트를 놓친 변경도 TTL까지 남지 않음)
+ * - 냉장고 변경 이벤트(커밋 후)로 해당 사용자 항목 즉시 제거, 재료 사전이 바뀌면 전체 제거
+ * - 무효화마다 사용자 구역(stripe)의 세대 번호를 올리고, put은 냉장고를 읽기 전에 받아 둔 세대와
+ *   같을 때만 저장 (계산 도중 냉장고가 바뀌었으면 이전 냉장고로 만든 순위를 캐시하지 않음)
+ * → 같은 냉장고 상태에서 2페이지 이후는 냉장고 조회 + DTO 조회로 끝남 (점수 계산 없음)
+ */
+@Component
+public class RecipeRecommendationCache {
+
+    // 캐시에 보관하는 순위 깊이 (이보다 뒤 페이지는 실시간 계산)
+    public static final int CACHED_RANK_LIMIT = 200;
+    private static final int MAX_ENTRIES = 10_000;
+    private static final long TTL_MILLIS = 10 * 60 * 1000L;
+    // 세대 번호 구역 수 (2의 거듭제곱, 같은 구역 사용자끼리는 무효화가 서로 캐시 저장을 건너뛰게 할 뿐)
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final long[] generations = new long[GENERATION_STRIPES];
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * 오늘, 같은 냉장고 상태(fingerprint)로 계산한 항목만 반환 (아니면 제거 후 null)
+     */
+    public synchronized Entry get(Integer userIdx, RecommendationMode mode, LocalDate today, long fingerprint) {
+        String key = key(userIdx, mode);
+        Entry entry = entries.get(key);
+        if (entry == null) return null;
+
+        if (entry.getFingerprint() != fingerprint || !entry.getDay().equals(today)
+                || System.currentTimeMillis() - entry.getCreatedAt() > TTL_MILLIS) {
+            entries.remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * 현재 세대 번호 (냉장고를 읽기 전에 받아 put에 전달)
+     */
+    public synchronized long generation(Integer userIdx) {
+        return generations[stripe(userIdx)];
+    }
+
+    /**
+     * generation 이후 해당 사용자 항목이 무효화되지 않았을 때만 저장
+     */
+    public synchronized void put(Integer userIdx, RecommendationMode mode, long generation, Entry entry) {
+        if (generations[stripe(userIdx)] != generation) return;
+        entries.put(key(userIdx, mode), entry);
+    }
+
+    public synchronized void evictUser(Integer userIdx) {
+        generations[stripe(userIdx)]++;
+        for (RecommendationMode mode : RecommendationMode.values()) {
+            entries.remove(key(userIdx, mode));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRefrigeratorChanged(RefrigeratorChangedEvent event) {
+        evictUser(event.getUserIdx());
+    }
+
+    @EventListener
+    public synchronized void onDictionaryReloaded(IngredientDictionaryReloadedEvent event) {
+        for (int i = 0; i < generations.length; i++) generations[i]++;
+        entries.clear();
+    }
+
+    private String key(Integer userIdx, RecommendationMode mode) {
+        return userIdx + ":" + mode;
+    }
+
+    private static int stripe(Integer userIdx) {
+        int h = Objects.hashCode(userIdx) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    /**
+     * 사용 가능한 냉장고 재료 구성의 64bit 해시 (재료명 + 유통기한, 순서 무관)
+     *
+     * @param seed 재료 사전 checksum (사전이 바뀌면 같은 냉장고라도 다른 값 → 이전 배치 결과 미사용)
+     */
+    public static long fingerprint(List<RefrigeratorItem> items, long seed) {
+        List<String> parts = new ArrayList<>(items.size());
+        for (RefrigeratorItem item : items) {
+            if (item.getIngredientName() == null) continue;
+            parts.add(IngredientDictionary.normalize(item.getIngredientName()) + "|" + item.getExpirationDate());
+        }
+        Collections.sort(parts);
+
+        // FNV-1a 64bit
+        long hash = 0xcbf29ce484222325L ^ seed;
+        for (String part : parts) {
+            for (int i = 0; i < part.length(); i++) {
+                hash ^= part.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= '\n';
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final long fingerprint;
+        private final LocalDate day;
+        private final long createdAt;
+        // 점수 내림차순 레시피 ID (최대 CACHED_RANK_LIMIT개)
+        private final long[] rankedIds;
+        // 점수가 0보다 큰 전체 레시피 수
+        private final int candidateCount;
+
+        /** 요청 페이지가 캐시된 순위 범위 안에 있는지 */
+        public boolean covers(int page, int size) {
+            long end = (long) (page + 1) * size;
+            return end <= rankedIds.length || rankedIds.length == candidateCount;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.be17pickcook.domain.recipe.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.be17pickcook.common.search.TopKCollector;
+import org.example.be17pickcook.domain.recipe.model.RecommendationMode;
+import org.example.be17pickcook.domain.refrigerator.model.RefrigeratorItem;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 냉장고 재료 기반 레시피 추천 점수 계산
+ * - MATCH: 매칭 재료 개수
+ * - EXPIRY: 유통기한이 가까운 재료일수록 큰 가중치, 레시피 재료 수로 정규화
+ */
+@Component
+@RequiredArgsConstructor
+public class RecipeRecommendationScorer {
+
+    // 이 기간(일) 안에 만료되는 재료부터 가중치가 붙는다
+    private static final int EXPIRY_HORIZON_DAYS = 7;
+    // 오늘 만료되는 재료의 추가 가중치 (최종 가중치 1 + EXPIRY_BOOST)
+    private static final float EXPIRY_BOOST = 2.0f;
+
+    private final RecipeIngredientIndex recipeIngredientIndex;
+
+    /**
+     * 상위 limit개 레시피를 점수 순으로 수집
+     */
+    public TopKCollector score(List<RefrigeratorItem> items, RecommendationMode mode, int limit, LocalDate today) {
+        TopKCollector topK = new TopKCollector(Math.min(limit, recipeIngredientIndex.recipeCount()));
+
+        if (mode == RecommendationMode.EXPIRY) {
+            recipeIngredientIndex.scoreWeighted(expiryWeights(items, today), topK);
+        } else {
+            List<String> names = items.stream()
+                    .map(RefrigeratorItem::getIngredientName)
+                    .toList();
+            recipeIngredientIndex.countMatches(names).forEach(topK::offer);
+        }
+        return topK;
+    }
+
+    /**
+     * 재료명별 유통기한 가중치 (같은 재료가 여러 개면 가장 임박한 것 기준)
+     */
+    private Map<String, Float> expiryWeights(List<RefrigeratorItem> items, LocalDate today) {
+        Map<String, Float> weights = new HashMap<>();
+        for (RefrigeratorItem item : items) {
+            if (item.getIngredientName() == null) continue;
+            weights.merge(recipeIngredientIndex.term(item.getIngredientName()),
+                    expiryWeight(item.getExpirationDate(), today), Math::max);
+        }
+        return weights;
+    }
+
+    private float expiryWeight(LocalDate expirationDate, LocalDate today) {
+        if (expirationDate == null) return 1.0f;
+        long daysLeft = Math.max(0, ChronoUnit.DAYS.between(today, expirationDate));
+        if (daysLeft >= EXPIRY_HORIZON_DAYS) return 1.0f;
+        return 1.0f + EXPIRY_BOOST * (EXPIRY_HORIZON_DAYS - daysLeft) / EXPIRY_HORIZON_DAYS;
+    }
+}
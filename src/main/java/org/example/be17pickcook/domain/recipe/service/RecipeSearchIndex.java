@@ -0,0 +1,295 @@
+package org.example.be17pickcook.domain.recipe.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.be17pickcook.common.ingredient.IngredientDictionary;
+import org.example.be17pickcook.common.ingredient.IngredientDictionaryReloadedEvent;
+import org.example.be17pickcook.common.search.Bm25Index;
+import org.example.be17pickcook.common.search.FacetBitSets;
+import org.example.be17pickcook.common.search.TopKCollector;
+import org.example.be17pickcook.domain.recipe.model.Recipe;
+import org.example.be17pickcook.domain.recipe.model.RecipeIngredient;
+import org.example.be17pickcook.domain.recipe.repository.RecipeIngredientRepository;
+import org.example.be17pickcook.domain.recipe.repository.RecipeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 레시피 전문 검색 색인
+ * - 제목 / 해시태그(문자열 + RecipeHashTag) / 재료명을 bigram 토큰으로 BM25 색인
+ * - 색인/검색어 모두 재료 사전으로 동의어를 대표 재료명으로 바꾼 뒤 토큰화 (계란 검색 → 달걀 레시피)
+ * - 카테고리, 난이도 필터는 값별 BitSet 교집합으로 적용
+ * - 레시피 등록 시 증분 갱신, 변경분은 주기적으로 로컬 파일에 저장
+ * - 재구축/파일 로드는 새 색인을 따로 만든 뒤 참조 하나로 교체 (그동안 검색은 기존 색인 사용)
+ * - 기동 시 파일의 레시피 수/최대 ID/사전 checksum이 현재와 같으면 파일에서 로드, 다르면 재구축
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecipeSearchIndex {
+
+    private static final int FILE_MAGIC = 0x52534959;
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float HASHTAG_WEIGHT = 2f;
+    private static final float INGREDIENT_WEIGHT = 1f;
+
+    private final RecipeRepository recipeRepository;
+    private final RecipeIngredientRepository recipeIngredientRepository;
+    private final IngredientDictionary ingredientDictionary;
+
+    @Value("${recipe.search.index-path:./data/recipe-search.idx}")
+    private String indexPath;
+
+    private volatile Segments segments = new Segments();
+
+    // 재구축 중 들어온 증분 갱신 (새 색인에 다시 적용), swapLock으로 보호
+    private final Object swapLock = new Object();
+    private List<Consumer<Segments>> replay;
+
+    private volatile boolean ready;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    // =================================================================
+    // 구축 / 갱신
+    // =================================================================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        long start = System.currentTimeMillis();
+        Segments loaded = loadFromFile();
+        if (loaded != null) {
+            segments = loaded;
+            log.info("레시피 검색 색인 파일 로드: 레시피 {}개, 용어 {}종, {}ms",
+                    loaded.index.docCount(), loaded.index.termCount(), System.currentTimeMillis() - start);
+        } else {
+            rebuild();
+            save();
+            Segments built = segments;
+            log.info("레시피 검색 색인 구축: 레시피 {}개, 용어 {}종, {}ms",
+                    built.index.docCount(), built.index.termCount(), System.currentTimeMillis() - start);
+        }
+        ready = true;
+    }
+
+    /**
+     * DB 전체를 읽어 새 색인을 만든 뒤 교체
+     * - 구축 중 들어온 등록/삭제는 기존 색인에 반영하면서 기록해 두었다가 새 색인에도 적용
+     */
+    public synchronized void rebuild() {
+        synchronized (swapLock) {
+            replay = new ArrayList<>();
+        }
+
+        Segments built;
+        try {
+            built = build();
+        } catch (RuntimeException e) {
+            synchronized (swapLock) {
+                replay = null;
+            }
+            throw e;
+        }
+
+        synchronized (swapLock) {
+            replay.forEach(change -> change.accept(built));
+            replay = null;
+            segments = built;
+        }
+    }
+
+    private Segments build() {
+        Segments built = new Segments();
+        Map<Integer, Bm25Index.Document> documents = new HashMap<>();
+
+        // idx, title, hashtags, category, difficulty_level
+        for (Object[] row : recipeRepository.findAllSearchFields()) {
+            int recipeId = ((Number) row[0]).intValue();
+            documents.put(recipeId, new Bm25Index.Document()
+                    .add(ingredientDictionary.rewrite((String) row[1]), TITLE_WEIGHT)
+                    .add(ingredientDictionary.rewrite((String) row[2]), HASHTAG_WEIGHT));
+            built.categories.put(recipeId, (String) row[3]);
+            built.difficulties.put(recipeId, (String) row[4]);
+        }
+
+        for (Object[] row : recipeRepository.findAllHashTagNames()) {
+            Bm25Index.Document document = documents.get(((Number) row[0]).intValue());
+            if (document != null) document.add(ingredientDictionary.rewrite((String) row[1]), HASHTAG_WEIGHT);
+        }
+
+        for (Object[] row : recipeIngredientRepository.findAllRecipeIngredients()) {
+            if (row[0] == null) continue;
+            Bm25Index.Document document = documents.get(((Number) row[0]).intValue());
+            if (document != null) document.add(ingredientDictionary.rewrite((String) row[1]), INGREDIENT_WEIGHT);
+        }
+
+        documents.forEach(built.index::put);
+        return built;
+    }
+
+    /** 레시피 등록 시 호출 */
+    public void index(Recipe recipe) {
+        if (recipe.getIdx() == null) return;
+        int recipeId = Math.toIntExact(recipe.getIdx());
+
+        Bm25Index.Document document = new Bm25Index.Document()
+                .add(ingredientDictionary.rewrite(recipe.getTitle()), TITLE_WEIGHT)
+                .add(ingredientDictionary.rewrite(recipe.getHashtags()), HASHTAG_WEIGHT);
+        if (recipe.getIngredients() != null) {
+            for (RecipeIngredient ingredient : recipe.getIngredients()) {
+                document.add(ingredientDictionary.rewrite(ingredient.getIngredient_name()), INGREDIENT_WEIGHT);
+            }
+        }
+
+        String category = recipe.getCategory();
+        String difficulty = recipe.getDifficulty_level();
+        apply(target -> {
+            target.index.put(recipeId, document);
+            target.categories.put(recipeId, category);
+            target.difficulties.put(recipeId, difficulty);
+        });
+    }
+
+    /** 재료 사전이 바뀌면 동의어 치환 결과가 달라지므로 재구축 */
+    @EventListener
+    public void onDictionaryReloaded(IngredientDictionaryReloadedEvent event) {
+        rebuild();
+        dirty.set(true);
+    }
+
+    public void remove(Long recipeId) {
+        int id = Math.toIntExact(recipeId);
+        apply(target -> {
+            target.index.remove(id);
+            target.categories.remove(id);
+            target.difficulties.remove(id);
+        });
+    }
+
+    private void apply(Consumer<Segments> change) {
+        synchronized (swapLock) {
+            change.accept(segments);
+            if (replay != null) replay.add(change);
+        }
+        dirty.set(true);
+    }
+
+    // =================================================================
+    // 검색
+    // =================================================================
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** 색인된 레시피 수 (검색 결과 수의 상한) */
+    public int docCount() {
+        return segments.index.docCount();
+    }
+
+    /**
+     * 검색어를 모두 포함하고 필터를 통과한 레시피를 BM25 점수로 topK에 제출
+     */
+    public void search(String keyword, List<String> categoryValues, List<String> difficultyValues,
+                       TopKCollector topK) {
+        Segments current = segments;
+        BitSet filter = FacetBitSets.and(current.categories.anyOf(categoryValues), current.difficulties.anyOf(difficultyValues));
+        if (filter != null && filter.isEmpty()) return;
+        current.index.search(ingredientDictionary.rewrite(keyword), filter, topK::offer);
+    }
+
+    // =================================================================
+    // 파일 저장 / 로드
+    // =================================================================
+
+    @Scheduled(fixedDelayString = "${recipe.search.flush-interval-ms:60000}")
+    public void flush() {
+        if (dirty.getAndSet(false)) save();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void save() {
+        Path path = Paths.get(indexPath);
+        try {
+            Path dir = path.toAbsolutePath().getParent();
+            if (dir != null) Files.createDirectories(dir);
+
+            // 임시 파일에 쓴 뒤 교체 (쓰는 도중 종료돼도 기존 파일 유지)
+            Path tmp = Files.createTempFile(dir, "recipe-search", ".tmp");
+            Segments current = segments;
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                writeHeader(out, current.index.docCount(), current.index.maxDocId(), ingredientDictionary.checksum());
+                current.index.writeTo(out);
+                current.categories.writeTo(out);
+                current.difficulties.writeTo(out);
+            }
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            dirty.set(true);
+            log.warn("레시피 검색 색인 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /** 파일에서 읽은 새 색인 (파일이 없거나 현재 DB/사전과 맞지 않으면 null) */
+    private Segments loadFromFile() {
+        Path path = Paths.get(indexPath);
+        if (!Files.exists(path)) return null;
+
+        Object[] stats = recipeRepository.findCountAndMaxIdx().get(0);
+        long recipeCount = stats[0] != null ? ((Number) stats[0]).longValue() : 0;
+        long maxIdx = stats[1] != null ? ((Number) stats[1]).longValue() : -1;
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (!headerMatches(in, recipeCount, maxIdx, ingredientDictionary.checksum())) return null;
+
+            Segments loaded = new Segments();
+            loaded.index.readFrom(in);
+            loaded.categories.readFrom(in);
+            loaded.difficulties.readFrom(in);
+            return loaded;
+        } catch (IOException e) {
+            log.warn("레시피 검색 색인 파일 로드 실패, 재구축합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    static void writeHeader(DataOutputStream out, int docCount, int maxDocId, long dictionaryChecksum) throws IOException {
+        out.writeInt(FILE_MAGIC);
+        out.writeInt(docCount);
+        out.writeInt(maxDocId);
+        out.writeLong(dictionaryChecksum);
+    }
+
+    /**
+     * 파일 헤더가 현재 상태와 같은지 확인
+     * - 파일 저장 이후 레시피가 추가/삭제됐거나 다른 사전으로 만든 색인이면 false (재구축)
+     */
+    static boolean headerMatches(DataInputStream in, long recipeCount, long maxIdx, long dictionaryChecksum) throws IOException {
+        if (in.readInt() != FILE_MAGIC) return false;
+        if (in.readInt() != recipeCount || in.readInt() != maxIdx) return false;
+        return in.readLong() == dictionaryChecksum;
+    }
+
+    // 함께 교체되는 색인 묶음
+    private static class Segments {
+        private final Bm25Index index = new Bm25Index();
+        private final FacetBitSets categories = new FacetBitSets();
+        private final FacetBitSets difficulties = new FacetBitSets();
+    }
+}
@@ -1,19 +1,24 @@
 package org.example.be17pickcook.domain.recipe.service;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.example.be17pickcook.common.BaseResponseStatus;
+import org.example.be17pickcook.common.CursorCodec;
 import org.example.be17pickcook.common.PageResponse;
-import org.example.be17pickcook.common.service.S3UploadService;
+import org.example.be17pickcook.common.exception.BaseException;
+import org.example.be17pickcook.common.ingredient.IngredientDictionary;
+import org.example.be17pickcook.common.search.TopKCollector;
+import org.example.be17pickcook.common.service.ParallelUploadService;
 import org.example.be17pickcook.domain.likes.model.LikeTargetType;
-import org.example.be17pickcook.domain.likes.repository.LikeRepository;
+import org.example.be17pickcook.domain.likes.service.LikeCountBuffer;
 import org.example.be17pickcook.domain.likes.service.LikeService;
 import org.example.be17pickcook.domain.recipe.model.*;
 import org.example.be17pickcook.domain.recipe.repository.RecipeIngredientRepository;
 import org.example.be17pickcook.domain.recipe.repository.RecipeQueryRepository;
+import org.example.be17pickcook.domain.recipe.repository.RecipeRecommendationSnapshotRepository;
 import org.example.be17pickcook.domain.refrigerator.model.RefrigeratorItem;
 import org.example.be17pickcook.domain.refrigerator.repository.RefrigeratorItemRepository;
 import org.example.be17pickcook.domain.scrap.model.ScrapTargetType;
-import org.example.be17pickcook.domain.scrap.repository.ScrapRepository;
+import org.example.be17pickcook.domain.scrap.service.ScrapCountBuffer;
 import org.example.be17pickcook.domain.scrap.service.ScrapService;
 import org.example.be17pickcook.domain.user.model.User;
 import org.example.be17pickcook.domain.user.model.UserDto;
@@ -22,6 +27,7 @@ import org.example.be17pickcook.domain.user.repository.UserRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -37,63 +43,102 @@ public class RecipeService {
     private final RecipeRepository recipeRepository;
     private final RecipeIngredientRepository recipeIngredientRepository;
     private final RefrigeratorItemRepository refrigeratorItemRepository;
-    private final S3UploadService s3UploadService;
+    private final ParallelUploadService parallelUploadService;
+    private final TransactionTemplate transactionTemplate;
     private final LikeService likesService;
     private final ScrapService scrapService;
-    private final LikeRepository likesRepository;
-    private final ScrapRepository scrapRepository;
 
     // 기본 이미지
     private static final String DEFAULT_SMALL_IMAGE = "https://example.com/default-small.jpg";
     private static final String DEFAULT_LARGE_IMAGE = "https://example.com/default-large.jpg";
     private static final String DEFAULT_STEP_IMAGE  = "https://example.com/default-step.jpg";
+    // 검색 + 인기/최신/댓글순 정렬 시 DB로 넘기는 최대 후보 수 (BM25 상위)
+    private static final int MAX_SORTED_SEARCH_CANDIDATES = 5000;
+    // 목록 한 페이지 최대 크기
+    static final int MAX_PAGE_SIZE = 100;
     private final UserRepository userRepository;
     private final RecipeQueryRepository recipeQueryRepository;
+    private final RecipeIngredientIndex recipeIngredientIndex;
+    private final RecipeRecommendationScorer recipeRecommendationScorer;
+    private final RecipeRecommendationCache recipeRecommendationCache;
+    private final RecipeRecommendationSnapshotRepository recipeRecommendationSnapshotRepository;
+    private final RecipeDetailCache recipeDetailCache;
+    private final RecipeSearchIndex recipeSearchIndex;
+    private final IngredientDictionary ingredientDictionary;
+    private final LikeCountBuffer likeCountBuffer;
+    private final ScrapCountBuffer scrapCountBuffer;
 
 
     // 레시피 등록
-    @Transactional
+    // - 이미지는 트랜잭션 밖에서 병렬 업로드 후, 저장만 짧은 트랜잭션으로 수행
+    // - 저장 실패 시 업로드한 이미지 삭제
     public void register(UserDto.AuthUser authUser,
                          RecipeDto.RecipeRequestDto dto,
                          List<MultipartFile> files) throws SQLException, IOException {
 
-        // 대표 이미지 업로드 (첫 2장은 대표 이미지 small, large)
-        String imageSmallUrl = (files.size() > 0 && !files.get(0).isEmpty()) ?
-                s3UploadService.upload(files.get(0)) : DEFAULT_SMALL_IMAGE;
-
-        String imageLargeUrl = (files.size() > 1 && !files.get(1).isEmpty()) ?
-                s3UploadService.upload(files.get(1)) : DEFAULT_LARGE_IMAGE;
-
-
-        // 기본 Recipe 엔티티 생성
-        Recipe recipe = dto.toEntity(User.builder().idx(authUser.getIdx()).build());
-
-        // 대표 이미지 적용
-        recipe.setImage_small_url(imageSmallUrl);
-        recipe.setImage_large_url(imageLargeUrl);
+        // 이미지 병렬 업로드 (첫 2장은 대표 이미지 small, large, 이후는 단계별 이미지)
+        // 단계 수를 넘는 파일은 쓰이지 않으므로 올리지 않음 (남는 파일이 스토리지에 고아로 남지 않도록)
+        int stepCount = dto.getSteps() != null ? dto.getSteps().size() : 0;
+        List<MultipartFile> usedFiles = files != null
+                ? files.subList(0, Math.min(files.size(), 2 + stepCount))
+                : Collections.emptyList();
+        List<String> uploadedUrls = parallelUploadService.uploadAll(usedFiles);
+
+        // 업로드 이후 어느 단계에서 실패해도 올린 파일은 삭제
+        Recipe recipe;
+        try {
+            String imageSmallUrl = urlOrDefault(uploadedUrls, 0, DEFAULT_SMALL_IMAGE);
+            String imageLargeUrl = urlOrDefault(uploadedUrls, 1, DEFAULT_LARGE_IMAGE);
+
+            // 기본 Recipe 엔티티 생성
+            recipe = dto.toEntity(User.builder().idx(authUser.getIdx()).build());
+
+            // 대표 이미지 적용
+            recipe.setImage_small_url(imageSmallUrl);
+            recipe.setImage_large_url(imageLargeUrl);
+
+            // Steps 매핑
+            if (dto.getSteps() != null) {
+                for (int i = 0; i < dto.getSteps().size(); i++) {
+                    RecipeDto.RecipeStepDto stepDto = dto.getSteps().get(i);
+                    RecipeStep step = stepDto.toEntity(recipe);
+                    step.setImage_url(urlOrDefault(uploadedUrls, i + 2, DEFAULT_STEP_IMAGE));
+
+                    recipe.addSteps(step);
+                }
+            }
 
-        // Steps 매핑 및 이미지 업로드
-        if (dto.getSteps() != null) {
-            for (int i = 0; i < dto.getSteps().size(); i++) {
-                RecipeDto.RecipeStepDto stepDto = dto.getSteps().get(i);
-                String stepImageUrl = (files.size() > i + 2 && !files.get(i + 2).isEmpty()) ?
-                        s3UploadService.upload(files.get(i + 2)) : DEFAULT_STEP_IMAGE;
-                RecipeStep step = stepDto.toEntity(recipe);
-                step.setImage_url(stepImageUrl);
+            transactionTemplate.executeWithoutResult(status -> recipeRepository.save(recipe));
+        } catch (RuntimeException e) {
+            parallelUploadService.deleteAll(uploadedUrls);
+            throw e;
+        }
 
-                recipe.addSteps(step);
-            }
+        // 추천용 재료 색인 증분 갱신
+        if (recipe.getIngredients() != null) {
+            recipeIngredientIndex.addRecipe(recipe.getIdx(), recipe.getIngredients().stream()
+                    .map(RecipeIngredient::getIngredient_name)
+                    .toList());
         }
 
-        recipeRepository.save(recipe);
+        // 검색 색인 증분 갱신
+        recipeSearchIndex.index(recipe);
     }
 
 
 
+    private String urlOrDefault(List<String> urls, int index, String defaultUrl) {
+        String url = index < urls.size() ? urls.get(index) : null;
+        return url != null ? url : defaultUrl;
+    }
+
     // 특정 레시피 조회 + 좋아요 정보 + 스크랩 정보 포함
     public RecipeDto.RecipeResponseDto getRecipe(Long recipeId, Integer userIdx) {
-        Recipe recipe = recipeRepository.findDetailById(recipeId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 레시피가 존재하지 않습니다. id=" + recipeId));
+        // 본문/단계/재료/좋아요·스크랩 수는 상세 캐시에서 (미스 시 한 번만 fetch join 조회)
+        RecipeDto.RecipeResponseDto dto = recipeDetailCache.get(recipeId);
+        if (dto == null) {
+            throw new IllegalArgumentException("해당 레시피가 존재하지 않습니다. id=" + recipeId);
+        }
 
 //        Integer likeCount = likesService.getLikeCount(LikeTargetType.RECIPE, recipeId);
         Boolean likedByUser = userIdx != null &&
@@ -103,7 +148,10 @@ public class RecipeService {
         Boolean scrapedByUser = userIdx != null &&
                 scrapService.hasUserScrapped(userIdx, ScrapTargetType.RECIPE, recipeId);
 
-        RecipeDto.RecipeResponseDto dto = RecipeDto.RecipeResponseDto.fromEntity(recipe);
+        // DB에 아직 반영되지 않은 증감까지 더해 방금 누른 좋아요/스크랩도 바로 보이게 함
+        dto.addPendingCounts(
+                likeCountBuffer.pending(LikeTargetType.RECIPE, recipeId),
+                scrapCountBuffer.pending(ScrapTargetType.RECIPE, recipeId));
         dto.setLikeInfo(likedByUser);
         dto.setScrapInfo(scrapedByUser);
 
@@ -162,12 +210,10 @@ public class RecipeService {
 //                        .collect(Collectors.toMap(arr -> (Long) arr[0], arr -> (Long) arr[1]));
 
         // 4. 로그인 사용자 기준 좋아요 여부
-        Set<Long> likedByUser = (userIdx == null || recipeIds.isEmpty()) ? Collections.emptySet() :
-                new HashSet<>(likesRepository.findLikedRecipeIdsByUser(LikeTargetType.RECIPE, userIdx, recipeIds));
+        Set<Long> likedByUser = likesService.findLikedIds(userIdx, LikeTargetType.RECIPE, recipeIds);
 
         // 5. 로그인 사용자 기준 스크랩 여부
-        Set<Long> scrappedByUser = (userIdx == null || recipeIds.isEmpty()) ? Collections.emptySet() :
-                new HashSet<>(scrapRepository.findScrappedRecipeIdsByUser(ScrapTargetType.RECIPE, userIdx, recipeIds));
+        Set<Long> scrappedByUser = scrapService.findScrappedIds(userIdx, ScrapTargetType.RECIPE, recipeIds);
 
         // 6. 좋아요/스크랩 정보 DTO에 세팅
         dtoPage.forEach(dto -> {
@@ -175,69 +221,189 @@ public class RecipeService {
 //                    likeCounts.getOrDefault(dto.getIdx(), 0L).intValue(),
                     likedByUser.contains(dto.getIdx()));
             dto.setScrapInfo(scrappedByUser.contains(dto.getIdx()));
+            dto.addPendingCounts(
+                    likeCountBuffer.pending(LikeTargetType.RECIPE, dto.getIdx()),
+                    scrapCountBuffer.pending(ScrapTargetType.RECIPE, dto.getIdx()));
         });
 
         return PageResponse.from(dtoPage);
     }
 
     public PageResponse<RecipeListResponseDto> getRecipesFiltered(String keyword, List<String> categories, List<String> difficulties, String sortBy, int page, int size, String dir) {
-        return recipeQueryRepository.getRecipesFiltered(keyword, categories, difficulties, sortBy, page, size);
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page는 0 이상, size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        // 검색어가 없거나 색인 준비 전이면 기존 DB 조회
+        if (keyword == null || keyword.isBlank() || !recipeSearchIndex.isReady()) {
+            return withPendingCounts(recipeQueryRepository.getRecipesFiltered(keyword, categories, difficulties, sortBy, page, size));
+        }
+
+        // 정렬 지정이 없으면 검색 정확도(BM25) 순
+        if (isRelevanceSort(sortBy)) {
+            // 색인된 레시피 수보다 많이 모을 수 없으므로 깊은 페이지도 그만큼만 확보
+            long needed = (long) (page + 1) * size;
+            TopKCollector topK = new TopKCollector((int) Math.min(needed, recipeSearchIndex.docCount()));
+            recipeSearchIndex.search(keyword, categories, difficulties, topK);
+            return toRankedPage(topK.drainRankedIds(), topK.getCandidateCount(), page, size);
+        }
+
+        // 그 외 정렬은 색인으로 찾은 레시피 ID 안에서 DB 정렬
+        TopKCollector topK = new TopKCollector(MAX_SORTED_SEARCH_CANDIDATES);
+        recipeSearchIndex.search(keyword, categories, difficulties, topK);
+        List<Long> recipeIds = Arrays.stream(topK.drainRankedIds()).boxed().toList();
+        return withPendingCounts(recipeQueryRepository.getRecipesByIds(recipeIds, sortBy, page, size));
     }
 
 
-    public PageResponse<RecipeListResponseDto> getRecommendations(Integer userIdx, int page, int size) {
-        // 1. 사용자 냉장고 재료 조회
-        Set<String> userItemNames = refrigeratorItemRepository.findUsableItems(userIdx, LocalDate.now()).stream()
-                .map(item -> item.getIngredientName().toLowerCase())
-                .collect(Collectors.toSet());
-
-        // 2. 레시피 재료 조회
-        List<Object[]> rawIngredients = recipeIngredientRepository.findAllRecipeIngredients();
-
-        Map<Long, List<String>> recipeIngredientMap = rawIngredients.stream()
-                .collect(Collectors.groupingBy(
-                        row -> ((Number) row[0]).longValue(),
-                        Collectors.mapping(row -> ((String) row[1]).toLowerCase(), Collectors.toList())
-                ));
-
-        // 3. 매칭 개수 계산
-        Map<Long, Integer> recipeMatchCount = recipeIngredientMap.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> (int) e.getValue().stream().filter(userItemNames::contains).count()
-                ));
-
-        // 4. 추천 레시피 ID 정렬
-        List<Long> recommendedRecipeIds = recipeMatchCount.entrySet().stream()
-                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed())
-                .map(Map.Entry::getKey)
-                .toList();
+    /**
+     * 커서(keyset) 방식 레시피 검색/필터 목록
+     * - cursor가 비어 있으면 첫 페이지, 응답의 nextCursor를 다음 요청에 그대로 전달
+     * - 전체 개수는 withTotal=true일 때만 조회 (정확도 순은 색인에서 바로 나오므로 항상 포함)
+     */
+    public PageResponse<RecipeListResponseDto> getRecipesFilteredByCursor(String keyword, List<String> categories, List<String> difficulties, String sortBy, String cursor, int size, boolean withTotal) {
+        if (size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        CursorCodec.Cursor decoded = CursorCodec.decode(cursor);
+
+        if (keyword == null || keyword.isBlank() || !recipeSearchIndex.isReady()) {
+            return withPendingCounts(recipeQueryRepository.getRecipesByCursor(keyword, categories, difficulties, null, sortBy, decoded, size, withTotal));
+        }
+
+        if (isRelevanceSort(sortBy)) {
+            // 정확도 순위는 메모리에서 계산되므로 커서에는 순위 위치를 담음
+            // 색인된 레시피 수를 넘는 위치는 발급된 적 없는 커서
+            int docCount = recipeSearchIndex.docCount();
+            long offset = decoded != null ? decoded.sortKeyAsLong() : 0;
+            if (offset < 0 || offset > docCount) throw BaseException.from(BaseResponseStatus.INVALID_CURSOR);
+
+            long needed = offset + size + 1;
+            TopKCollector topK = new TopKCollector((int) Math.min(needed, docCount));
+            recipeSearchIndex.search(keyword, categories, difficulties, topK);
+            int totalElements = topK.getCandidateCount();
+            long[] rankedIds = topK.drainRankedIds();
+
+            int from = (int) Math.min(offset, rankedIds.length);
+            int to = (int) Math.min(offset + size, rankedIds.length);
+            List<Long> pageIds = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                pageIds.add(rankedIds[i]);
+            }
+
+            String nextCursor = rankedIds.length > to ? CursorCodec.encode(String.valueOf(to), rankedIds[to - 1]) : null;
+            return PageResponse.ofCursor(findInRankOrder(pageIds), size, nextCursor, (long) totalElements);
+        }
+
+        TopKCollector topK = new TopKCollector(MAX_SORTED_SEARCH_CANDIDATES);
+        recipeSearchIndex.search(keyword, categories, difficulties, topK);
+        List<Long> recipeIds = Arrays.stream(topK.drainRankedIds()).boxed().toList();
+        return withPendingCounts(recipeQueryRepository.getRecipesByCursor(null, null, null, recipeIds, sortBy, decoded, size, withTotal));
+    }
+
+    private boolean isRelevanceSort(String sortBy) {
+        return sortBy == null || sortBy.isBlank() || "relevance".equalsIgnoreCase(sortBy);
+    }
+
+    public PageResponse<RecipeListResponseDto> getRecommendations(Integer userIdx, int page, int size, RecommendationMode mode) {
+        if (page < 0 || size <= 0) {
+            throw new IllegalArgumentException("page는 0 이상, size는 1 이상이어야 합니다.");
+        }
+
+        LocalDate today = LocalDate.now();
+        long[] rankedIds;
+        int totalElements;
+
+        // 1. 사용자 냉장고 재료 조회 (캐시 세대는 먼저 읽어 둠 → 그 사이 냉장고가 바뀌면 저장 안 함)
+        long generation = recipeRecommendationCache.generation(userIdx);
+        List<RefrigeratorItem> userItems = refrigeratorItemRepository.findUsableItems(userIdx, today);
+        long fingerprint = RecipeRecommendationCache.fingerprint(userItems, ingredientDictionary.checksum());
+
+        // 2. 같은 냉장고 상태로 계산해 둔 순위가 요청 페이지를 포함하면 그대로 사용
+        RecipeRecommendationCache.Entry cached = recipeRecommendationCache.get(userIdx, mode, today, fingerprint);
+        if (cached != null && cached.covers(page, size)) {
+            rankedIds = cached.getRankedIds();
+            totalElements = cached.getCandidateCount();
+        } else {
+            // 3. 야간 배치 결과가 현재 냉장고 기준으로 유효하고 요청 페이지를 포함하면 사용
+            RecipeRecommendationSnapshot snapshot = recipeRecommendationSnapshotRepository.findById(userIdx)
+                    .filter(s -> s.isUsableFor(fingerprint, today))
+                    .orElse(null);
+            long[] snapshotIds = snapshot != null ? snapshot.getRankedIds(mode) : null;
+
+            if (snapshotIds != null && ((long) (page + 1) * size <= snapshotIds.length
+                    || snapshotIds.length >= snapshot.getCandidateCount(mode))) {
+                rankedIds = snapshotIds;
+                totalElements = snapshot.getCandidateCount(mode);
+            } else {
+                // 4. 재료 색인으로 점수 계산 후 상위 max((page+1)*size, 캐시 깊이)개만 수집
+                //    (냉장고 재료의 posting list만 순회, 점수 0 레시피는 제외)
+                long needed = Math.max((long) (page + 1) * size, RecipeRecommendationCache.CACHED_RANK_LIMIT);
+                TopKCollector topK = recipeRecommendationScorer.score(
+                        userItems, mode, (int) Math.min(needed, Integer.MAX_VALUE), today);
+
+                rankedIds = topK.drainRankedIds();
+                totalElements = topK.getCandidateCount();
+            }
 
-        if (recommendedRecipeIds.isEmpty()) {
-            return new PageResponse<>(Collections.emptyList(), page, size, 0, 0);
+            recipeRecommendationCache.put(userIdx, mode, generation, new RecipeRecommendationCache.Entry(
+                    fingerprint,
+                    today,
+                    System.currentTimeMillis(),
+                    rankedIds.length > RecipeRecommendationCache.CACHED_RANK_LIMIT
+                            ? Arrays.copyOf(rankedIds, RecipeRecommendationCache.CACHED_RANK_LIMIT)
+                            : rankedIds,
+                    totalElements));
         }
 
-        // 5. DTO 조회
-        List<RecipeListResponseDto> dtos = recipeRepository.findAllOnlyRecipeWithIds(recommendedRecipeIds);
+        return toRankedPage(rankedIds, totalElements, page, size);
+    }
+
+    // 순위(추천/검색)에서 요청 페이지만 잘라 DTO로 변환 (해당 페이지 ID만 조회)
+    private PageResponse<RecipeListResponseDto> toRankedPage(long[] rankedIds, int totalElements, int page, int size) {
+        int totalPages = (int) Math.ceil((double) totalElements / size);
 
-        // 6. 추천 순서대로 정렬
-        Map<Long, RecipeListResponseDto> dtoMap = dtos.stream()
+        // 요청 페이지에 해당하는 ID만 추출
+        long from = (long) page * size;
+        if (from >= rankedIds.length) {
+            return new PageResponse<>(Collections.emptyList(), page, totalPages, totalElements, size);
+        }
+        int fromIndex = (int) from;
+        int toIndex = Math.min(fromIndex + size, rankedIds.length);
+
+        List<Long> pageIds = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            pageIds.add(rankedIds[i]);
+        }
+
+        return new PageResponse<>(findInRankOrder(pageIds), page, totalPages, totalElements, size);
+    }
+
+    // 해당 ID의 DTO만 조회해 순위 순서대로 정렬 (그 사이 삭제된 레시피는 제외)
+    private List<RecipeListResponseDto> findInRankOrder(List<Long> rankedIds) {
+        if (rankedIds.isEmpty()) return Collections.emptyList();
+
+        Map<Long, RecipeListResponseDto> dtoMap = recipeRepository.findAllOnlyRecipeWithIds(rankedIds).stream()
                 .collect(Collectors.toMap(RecipeListResponseDto::getIdx, Function.identity()));
 
-        List<RecipeListResponseDto> scoredRecipes = recommendedRecipeIds.stream()
+        List<RecipeListResponseDto> ordered = rankedIds.stream()
                 .map(dtoMap::get)
+                .filter(Objects::nonNull)
                 .toList();
+        ordered.forEach(this::addPendingCounts);
+        return ordered;
+    }
 
-        // 7. 페이징
-        int fromIndex = page * size;
-        int toIndex = Math.min(fromIndex + size, scoredRecipes.size());
-        List<RecipeListResponseDto> pageContent =
-                fromIndex < toIndex ? scoredRecipes.subList(fromIndex, toIndex) : Collections.emptyList();
-
-        int totalElements = scoredRecipes.size();
-        int totalPages = (int) Math.ceil((double) totalElements / size);
+    // DB 조회 결과에 아직 반영되지 않은 좋아요/스크랩 증감 합산
+    private PageResponse<RecipeListResponseDto> withPendingCounts(PageResponse<RecipeListResponseDto> page) {
+        page.getContent().forEach(this::addPendingCounts);
+        return page;
+    }
 
-        return new PageResponse<>(pageContent, page, size, totalElements, totalPages);
+    private void addPendingCounts(RecipeListResponseDto dto) {
+        dto.addPendingCounts(
+                likeCountBuffer.pending(LikeTargetType.RECIPE, dto.getIdx()),
+                scrapCountBuffer.pending(ScrapTargetType.RECIPE, dto.getIdx()));
     }
 
 
@@ -0,0 +1,15 @@
+package org.example.be17pickcook.domain.refrigerator.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 냉장고 내용 변경 이벤트
+ * - 생성/수정/삭제/복원/일괄 등록 시 발행
+ * - 냉장고 기반 추천 캐시 무효화 등에 사용
+ */
+@Getter
+@AllArgsConstructor
+public class RefrigeratorChangedEvent {
+    private final Integer userIdx;
+}
@@ -1,13 +1,19 @@
 package org.example.be17pickcook.domain.refrigerator.repository;
 
 import org.example.be17pickcook.domain.refrigerator.model.RefrigeratorItem;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * 냉장고 아이템 리포지토리
@@ -64,4 +70,30 @@ public interface RefrigeratorItemRepository extends JpaRepository<RefrigeratorIt
         ORDER BY ri.expirationDate ASC
     """)
     List<RefrigeratorItem> findUsableItems(Integer userIdx, LocalDate today);
-}
\ No newline at end of file
+
+    // =================================================================
+    // 추천 배치
+    // =================================================================
+
+    /** lastUserIdx 이후, 활성 냉장고 아이템이 있는 탈퇴하지 않은 사용자 ID (오름차순) */
+    @Query("""
+        SELECT DISTINCT ri.user.idx FROM RefrigeratorItem ri
+        WHERE ri.user.idx > :lastUserIdx
+        AND ri.isDeleted = false
+        AND (ri.user.deleted IS NULL OR ri.user.deleted = false)
+        ORDER BY ri.user.idx ASC
+    """)
+    List<Integer> findActiveUserIdsAfter(@Param("lastUserIdx") Integer lastUserIdx, Pageable pageable);
+
+    /** 사용자 묶음의 사용 가능한 재료 (사용자 ID, 재료명, 유통기한) 스트리밍 - 트랜잭션 안에서 사용 */
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        SELECT ri.user.idx, ri.ingredientName, ri.expirationDate FROM RefrigeratorItem ri
+        WHERE ri.user.idx IN :userIds
+        AND ri.isDeleted = false
+        AND ri.expirationDate IS NOT NULL
+        AND ri.expirationDate >= :today
+        ORDER BY ri.user.idx ASC
+    """)
+    Stream<Object[]> streamUsableItemsByUserIds(@Param("userIds") List<Integer> userIds, @Param("today") LocalDate today);
+}
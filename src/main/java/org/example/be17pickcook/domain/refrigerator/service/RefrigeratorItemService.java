@@ -7,6 +7,7 @@ import org.example.be17pickcook.domain.common.model.Category;
 import org.example.be17pickcook.domain.common.repository.CategoryRepository;
 import org.example.be17pickcook.domain.refrigerator.enums.SyncPromptMessage;
 import org.example.be17pickcook.domain.refrigerator.mapper.RefrigeratorItemMapper;
+import org.example.be17pickcook.domain.refrigerator.model.RefrigeratorChangedEvent;
 import org.example.be17pickcook.domain.refrigerator.model.RefrigeratorItem;
 import org.example.be17pickcook.domain.refrigerator.model.RefrigeratorItemDeleteLog;
 import org.example.be17pickcook.domain.refrigerator.model.RefrigeratorItemDto;
@@ -14,6 +15,7 @@ import org.example.be17pickcook.domain.refrigerator.repository.RefrigeratorItemD
 import org.example.be17pickcook.domain.refrigerator.repository.RefrigeratorItemRepository;
 import org.example.be17pickcook.domain.user.model.User;
 import org.example.be17pickcook.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -46,6 +48,7 @@ public class RefrigeratorItemService {
     private final UserRepository userRepository;
     private final RefrigeratorItemMapper refrigeratorItemMapper;
     private final RefrigeratorItemDeleteLogRepository deleteLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     // =================================================================
@@ -72,6 +75,7 @@ public class RefrigeratorItemService {
 
         // 저장
         RefrigeratorItem savedEntity = refrigeratorItemRepository.save(entity);
+        publishChanged(userId);
 
         return refrigeratorItemMapper.entityToResponse(savedEntity);
     }
@@ -133,6 +137,7 @@ public class RefrigeratorItemService {
 
         // 저장
         RefrigeratorItem updatedItem = refrigeratorItemRepository.save(existingItem);
+        publishChanged(userId);
 
         return refrigeratorItemMapper.entityToResponse(updatedItem);
     }
@@ -154,6 +159,7 @@ public class RefrigeratorItemService {
         // 소프트 삭제 처리
         item.markAsDeleted();
         refrigeratorItemRepository.save(item);
+        publishChanged(userId);
     }
 
     /**
@@ -171,6 +177,7 @@ public class RefrigeratorItemService {
         item.restoreFromDeleted();
 
         refrigeratorItemRepository.save(item);
+        publishChanged(userId);
     }
 
     // =================================================================
@@ -223,6 +230,7 @@ public class RefrigeratorItemService {
     @Transactional
     public List<RefrigeratorItemDto.Response> createBulk(RefrigeratorItemDto.BulkRequest dto, Integer userId) {
         User user = findUserById(userId);
+        publishChanged(userId);
 
         return dto.getItems().stream()
                 .map(itemDto -> {
@@ -269,6 +277,13 @@ public class RefrigeratorItemService {
     // 유틸리티 메서드들
     // =================================================================
 
+    /**
+     * 냉장고 변경 이벤트 발행 (추천 캐시 등은 커밋 후 처리)
+     */
+    private void publishChanged(Integer userId) {
+        eventPublisher.publishEvent(new RefrigeratorChangedEvent(userId));
+    }
+
     /**
      * 사용자 ID로 User 엔티티 조회
      */
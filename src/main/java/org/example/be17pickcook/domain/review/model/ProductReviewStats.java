@@ -0,0 +1,69 @@
+package org.example.be17pickcook.domain.review.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 리뷰 집계 (상품당 1행)
+ * - 리뷰 작성/수정/삭제 시 같은 트랜잭션에서 증감 UPSERT로 갱신
+ * - 리뷰 통계는 이 행 하나를 PK로 읽어 계산 (평균 = rating_sum / review_count)
+ * - version은 갱신마다 1 증가 (보정 배치가 읽은 뒤 바뀐 행은 덮어쓰지 않도록)
+ */
+@Entity
+@Table(name = "product_review_stats")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductReviewStats {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private Long ratingSum;
+
+    // 별점별 개수 (1~5점)
+    @Column(name = "rating1_count", nullable = false)
+    private Long rating1Count;
+
+    @Column(name = "rating2_count", nullable = false)
+    private Long rating2Count;
+
+    @Column(name = "rating3_count", nullable = false)
+    private Long rating3Count;
+
+    @Column(name = "rating4_count", nullable = false)
+    private Long rating4Count;
+
+    @Column(name = "rating5_count", nullable = false)
+    private Long rating5Count;
+
+    // 이미지가 1장 이상 있는 리뷰 수
+    @Column(name = "with_image_count", nullable = false)
+    private Long withImageCount;
+
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /** [1점, 2점, 3점, 4점, 5점] 개수 */
+    public Long[] getRatingCounts() {
+        return new Long[]{rating1Count, rating2Count, rating3Count, rating4Count, rating5Count};
+    }
+
+    public double getAverageRating() {
+        return reviewCount > 0 ? (double) ratingSum / reviewCount : 0.0;
+    }
+}
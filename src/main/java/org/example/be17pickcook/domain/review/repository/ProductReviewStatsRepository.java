@@ -0,0 +1,43 @@
+package org.example.be17pickcook.domain.review.repository;
+
+import org.example.be17pickcook.domain.review.model.ProductReviewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 상품별 리뷰 집계 Repository
+ */
+public interface ProductReviewStatsRepository extends JpaRepository<ProductReviewStats, Long> {
+
+    /**
+     * 집계 행에 증감 반영 (행이 없으면 증감값으로 생성) - 단일 문장이라 동시 요청끼리 덮어쓰지 않음
+     */
+    @Modifying
+    @Query(value = "INSERT INTO product_review_stats " +
+            "(product_id, review_count, rating_sum, rating1_count, rating2_count, rating3_count, rating4_count, rating5_count, " +
+            "with_image_count, version, updated_at) " +
+            "VALUES (:productId, :countDelta, :ratingSumDelta, :rating1Delta, :rating2Delta, :rating3Delta, :rating4Delta, :rating5Delta, " +
+            ":withImageDelta, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "review_count = review_count + VALUES(review_count), " +
+            "rating_sum = rating_sum + VALUES(rating_sum), " +
+            "rating1_count = rating1_count + VALUES(rating1_count), " +
+            "rating2_count = rating2_count + VALUES(rating2_count), " +
+            "rating3_count = rating3_count + VALUES(rating3_count), " +
+            "rating4_count = rating4_count + VALUES(rating4_count), " +
+            "rating5_count = rating5_count + VALUES(rating5_count), " +
+            "with_image_count = with_image_count + VALUES(with_image_count), " +
+            "version = version + 1, " +
+            "updated_at = NOW()", nativeQuery = true)
+    int applyDelta(@Param("productId") Long productId,
+                   @Param("countDelta") long countDelta,
+                   @Param("ratingSumDelta") long ratingSumDelta,
+                   @Param("rating1Delta") long rating1Delta,
+                   @Param("rating2Delta") long rating2Delta,
+                   @Param("rating3Delta") long rating3Delta,
+                   @Param("rating4Delta") long rating4Delta,
+                   @Param("rating5Delta") long rating5Delta,
+                   @Param("withImageDelta") long withImageDelta);
+}
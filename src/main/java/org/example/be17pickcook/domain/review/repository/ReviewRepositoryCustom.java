@@ -49,11 +49,6 @@ public interface ReviewRepositoryCustom {
             String sortType
     );
 
-    /**
-     * 리뷰 통계 조회 (특정 상품)
-     */
-    ReviewStatistics getReviewStatistics(Long productId);
-
     /**
      * 내부 클래스: 리뷰 통계 결과
      */
@@ -119,54 +119,6 @@ public class ReviewRepositoryCustomImpl implements ReviewRepositoryCustom {
                 .fetch();
     }
 
-    @Override
-    public ReviewStatistics getReviewStatistics(Long productId) {
-
-        // 총 리뷰 수
-        Long totalReviews = queryFactory
-                .select(review.count())
-                .from(review)
-                .where(review.product.id.eq(productId), review.isDeleted.eq(false))
-                .fetchOne();
-
-        // 평균 별점
-        Double averageRating = queryFactory
-                .select(review.rating.avg())
-                .from(review)
-                .where(review.product.id.eq(productId), review.isDeleted.eq(false))
-                .fetchOne();
-
-        // 별점별 개수 조회
-        Long[] ratingCounts = new Long[5]; // [1점, 2점, 3점, 4점, 5점]
-        for (int i = 1; i <= 5; i++) {
-            Long count = queryFactory
-                    .select(review.count())
-                    .from(review)
-                    .where(
-                            review.product.id.eq(productId),
-                            review.isDeleted.eq(false),
-                            review.rating.eq(i)
-                    )
-                    .fetchOne();
-            ratingCounts[i-1] = count != null ? count : 0L;
-        }
-
-        // 이미지 있는 리뷰 수
-        Long reviewsWithImages = queryFactory
-                .select(review.countDistinct())
-                .from(review)
-                .join(review.images, reviewImage)
-                .where(review.product.id.eq(productId), review.isDeleted.eq(false))
-                .fetchOne();
-
-        return new ReviewStatistics(
-                totalReviews != null ? totalReviews : 0L,
-                averageRating != null ? averageRating : 0.0,
-                ratingCounts,
-                reviewsWithImages != null ? reviewsWithImages : 0L
-        );
-    }
-
     // =================================================================
     // 조건별 private 메서드들
     // =================================================================
@@ -0,0 +1,221 @@
+package org.example.be17pickcook.domain.review.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 상품별 리뷰 집계 보정 배치
+ * - 상품 ID 순 청크마다 저장된 집계(product_review_stats)와 reviews GROUP BY 결과를 비교
+ * - 다른 행만 "읽은 뒤 version이 그대로일 때만" 덮어씀 (그 사이 리뷰가 바뀐 상품은 다음 실행에서 보정)
+ * - 집계 행이 없는 상품은 INSERT IGNORE로 생성, 이어서 products.review_count를 집계 값으로 맞춤
+ * - 기동 시 집계 테이블이 비어 있으면 1회 실행해 초기 집계를 채움
+ */
+@Slf4j
+@Component
+public class ProductReviewStatsRebuildJob {
+
+    private static final String PRODUCT_IDS_SQL =
+            "SELECT product_id FROM products WHERE product_id > ? ORDER BY product_id LIMIT ?";
+    private static final String STORED_SQL =
+            "SELECT product_id, review_count, rating_sum, rating1_count, rating2_count, rating3_count, rating4_count, " +
+                    "rating5_count, with_image_count, version FROM product_review_stats WHERE product_id BETWEEN ? AND ?";
+    private static final String ACTUAL_SQL =
+            "SELECT r.product_id, COUNT(*), COALESCE(SUM(r.rating), 0), " +
+                    "SUM(r.rating = 1), SUM(r.rating = 2), SUM(r.rating = 3), SUM(r.rating = 4), SUM(r.rating = 5), " +
+                    "SUM(EXISTS (SELECT 1 FROM review_images ri WHERE ri.review_id = r.review_id)) " +
+                    "FROM reviews r WHERE r.is_deleted = 0 AND r.product_id BETWEEN ? AND ? GROUP BY r.product_id";
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO product_review_stats (product_id, review_count, rating_sum, rating1_count, rating2_count, " +
+                    "rating3_count, rating4_count, rating5_count, with_image_count, version, updated_at) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 1, NOW())";
+    private static final String UPDATE_SQL =
+            "UPDATE product_review_stats SET review_count = ?, rating_sum = ?, rating1_count = ?, rating2_count = ?, " +
+                    "rating3_count = ?, rating4_count = ?, rating5_count = ?, with_image_count = ?, " +
+                    "version = version + 1, updated_at = NOW() WHERE product_id = ? AND version = ?";
+    private static final String SYNC_PRODUCT_COUNT_SQL =
+            "UPDATE products p LEFT JOIN product_review_stats s ON s.product_id = p.product_id " +
+                    "SET p.review_count = COALESCE(s.review_count, 0) " +
+                    "WHERE p.product_id BETWEEN ? AND ? AND COALESCE(p.review_count, -1) <> COALESCE(s.review_count, 0)";
+
+    // 집계 값 개수 (review_count, rating_sum, 1~5점, with_image_count)
+    private static final int VALUE_COUNT = 8;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate tx;
+
+    @Value("${review.stats.rebuild.chunk-size:1000}")
+    private int chunkSize;
+
+    // 청크 사이 대기 시간 (ms)
+    @Value("${review.stats.rebuild.pause-ms:200}")
+    private long pauseMs;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile boolean stopping;
+    private volatile LocalDateTime lastRunAt;
+
+    public ProductReviewStatsRebuildJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initIfEmpty() {
+        Long rows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product_review_stats", Long.class);
+        if (rows != null && rows == 0) run();
+    }
+
+    @Scheduled(cron = "${review.stats.rebuild.cron:0 0 5 * * *}")
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("리뷰 집계 보정 배치가 이미 실행 중입니다.");
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long scanned = 0;
+        long corrected = 0;
+        long productCounts = 0;
+        try {
+            long lastId = 0;
+            while (!stopping) {
+                List<Long> productIds = jdbcTemplate.queryForList(PRODUCT_IDS_SQL, Long.class, lastId, chunkSize);
+                if (productIds.isEmpty()) break;
+
+                long fromId = productIds.get(0);
+                long toId = productIds.get(productIds.size() - 1);
+                corrected += reconcile(fromId, toId);
+                Integer synced = tx.execute(status -> jdbcTemplate.update(SYNC_PRODUCT_COUNT_SQL, fromId, toId));
+                productCounts += synced != null ? synced : 0;
+
+                scanned += productIds.size();
+                lastId = toId;
+                if (productIds.size() < chunkSize) break;
+
+                // 서비스 트래픽을 위해 청크 사이 대기
+                Thread.sleep(pauseMs);
+            }
+
+            lastRunAt = LocalDateTime.now();
+            log.info("리뷰 집계 보정 완료: 상품 {}개 검사, 집계 보정 {}행, 리뷰 수 보정 {}행, {}ms",
+                    scanned, corrected, productCounts, System.currentTimeMillis() - startedAt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("리뷰 집계 보정 중단: 상품 {}개 검사, 집계 보정 {}행", scanned, corrected);
+        } catch (RuntimeException e) {
+            log.error("리뷰 집계 보정 실패: 상품 {}개 검사, 집계 보정 {}행", scanned, corrected, e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 상품 ID 범위의 집계를 보정하고 보정한 행 수 반환
+     */
+    private long reconcile(long fromId, long toId) {
+        // 1. 저장된 집계 (version 포함) - 원본보다 먼저 읽어야 그 사이 변경을 version으로 감지
+        Map<Long, long[]> stored = new HashMap<>();
+        Map<Long, Long> versions = new HashMap<>();
+        jdbcTemplate.query(STORED_SQL, rs -> {
+            long[] values = new long[VALUE_COUNT];
+            for (int i = 0; i < VALUE_COUNT; i++) values[i] = rs.getLong(i + 2);
+            stored.put(rs.getLong(1), values);
+            versions.put(rs.getLong(1), rs.getLong(VALUE_COUNT + 2));
+        }, fromId, toId);
+
+        // 2. 원본 reviews 집계
+        Map<Long, long[]> actual = new HashMap<>();
+        jdbcTemplate.query(ACTUAL_SQL, rs -> {
+            long[] values = new long[VALUE_COUNT];
+            for (int i = 0; i < VALUE_COUNT; i++) values[i] = rs.getLong(i + 2);
+            actual.put(rs.getLong(1), values);
+        }, fromId, toId);
+
+        // 3. 다른 행만 INSERT IGNORE / version 조건부 UPDATE
+        Plan plan = plan(stored, versions, actual);
+        List<Object[]> inserts = plan.inserts();
+        List<Object[]> updates = plan.updates();
+        if (inserts.isEmpty() && updates.isEmpty()) return 0;
+
+        Long corrected = tx.execute(status -> {
+            long count = 0;
+            if (!inserts.isEmpty()) count += countUpdated(jdbcTemplate.batchUpdate(INSERT_SQL, inserts));
+            if (!updates.isEmpty()) count += countUpdated(jdbcTemplate.batchUpdate(UPDATE_SQL, updates));
+            return count;
+        });
+        return corrected != null ? corrected : 0;
+    }
+
+    /**
+     * 저장된 집계와 원본 집계를 비교해 보정할 행 결정
+     * - 집계 행이 없으면 INSERT 파라미터 (product_id, 값 8개)
+     * - 값이 다르면 UPDATE 파라미터 (값 8개, product_id, 읽은 version)
+     * - 리뷰가 모두 삭제된 상품은 0으로 맞춤, 상품 ID 순
+     */
+    static Plan plan(Map<Long, long[]> stored, Map<Long, Long> versions, Map<Long, long[]> actual) {
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        Set<Long> productIds = new TreeSet<>(stored.keySet());
+        productIds.addAll(actual.keySet());
+        for (Long productId : productIds) {
+            long[] expected = actual.getOrDefault(productId, new long[VALUE_COUNT]);
+            long[] current = stored.get(productId);
+            if (current == null) {
+                inserts.add(row(productId, expected));
+            } else if (!Arrays.equals(current, expected)) {
+                Object[] update = Arrays.copyOf(valuesOf(expected), VALUE_COUNT + 2);
+                update[VALUE_COUNT] = productId;
+                update[VALUE_COUNT + 1] = versions.get(productId);
+                updates.add(update);
+            }
+        }
+        return new Plan(inserts, updates);
+    }
+
+    record Plan(List<Object[]> inserts, List<Object[]> updates) {
+    }
+
+    private static Object[] row(Long productId, long[] values) {
+        Object[] row = new Object[VALUE_COUNT + 1];
+        row[0] = productId;
+        System.arraycopy(valuesOf(values), 0, row, 1, VALUE_COUNT);
+        return row;
+    }
+
+    private static Object[] valuesOf(long[] values) {
+        Object[] boxed = new Object[values.length];
+        for (int i = 0; i < values.length; i++) boxed[i] = values[i];
+        return boxed;
+    }
+
+    // version이 바뀌어 0행 갱신된 UPDATE는 보정 건수에서 제외
+    static long countUpdated(int[] results) {
+        long count = 0;
+        for (int result : results) {
+            if (result > 0 || result == Statement.SUCCESS_NO_INFO) count++;
+        }
+        return count;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+    }
+
+    public LocalDateTime getLastRunAt() {
+        return lastRunAt;
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.be17pickcook.domain.review.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.be17pickcook.domain.product.repository.ProductRepository;
+import org.example.be17pickcook.domain.review.model.ProductReviewStats;
+import org.example.be17pickcook.domain.review.model.Review;
+import org.example.be17pickcook.domain.review.repository.ProductReviewStatsRepository;
+import org.example.be17pickcook.domain.review.repository.ReviewRepositoryCustom;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 상품별 리뷰 집계 관리
+ * - 리뷰 작성/수정/삭제 트랜잭션 안에서 product_review_stats 증감 + products.review_count 증감
+ *   (리뷰 변경이 롤백되면 집계도 함께 롤백)
+ * - 리뷰 통계 조회는 집계 행 PK 조회 1회 (행이 없으면 리뷰 0건)
+ * - 어긋난 집계는 ProductReviewStatsRebuildJob이 원본 reviews 기준으로 보정
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductReviewStatsService {
+
+    private final ProductReviewStatsRepository productReviewStatsRepository;
+    private final ProductRepository productRepository;
+
+    // =================================================================
+    // 증감 반영
+    // =================================================================
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(Review review) {
+        apply(review.getProduct().getId(), 1, review.getRating(), review.hasImages());
+    }
+
+    /**
+     * 별점/이미지 유무가 바뀐 만큼만 반영 (개수는 그대로)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(Review review, Integer previousRating, boolean previousHasImages) {
+        int rating = review.getRating();
+        boolean hasImages = review.hasImages();
+        if (previousRating != null && previousRating == rating && previousHasImages == hasImages) return;
+
+        write(review.getProduct().getId(), 0, updateDelta(previousRating, previousHasImages, rating, hasImages));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(Review review) {
+        apply(review.getProduct().getId(), -1, review.getRating(), review.hasImages());
+    }
+
+    private void apply(Long productId, int sign, Integer rating, boolean hasImages) {
+        long[] delta = new long[7];
+        add(delta, sign, rating, hasImages);
+        write(productId, sign, delta);
+    }
+
+    // 수정 전 값을 빼고 수정 후 값을 더한 delta
+    static long[] updateDelta(Integer previousRating, boolean previousHasImages, Integer rating, boolean hasImages) {
+        long[] delta = new long[7];
+        add(delta, -1, previousRating, previousHasImages);
+        add(delta, 1, rating, hasImages);
+        return delta;
+    }
+
+    // delta: [별점 합, 1점, 2점, 3점, 4점, 5점, 이미지 리뷰]
+    private static void add(long[] delta, int sign, Integer rating, boolean hasImages) {
+        if (rating != null) {
+            delta[0] += (long) sign * rating;
+            if (rating >= 1 && rating <= 5) delta[rating] += sign;
+        }
+        if (hasImages) delta[6] += sign;
+    }
+
+    private void write(Long productId, int countDelta, long[] delta) {
+        productReviewStatsRepository.applyDelta(productId, countDelta, delta[0],
+                delta[1], delta[2], delta[3], delta[4], delta[5], delta[6]);
+        if (countDelta != 0) productRepository.addReviewCount(productId, countDelta);
+    }
+
+    // =================================================================
+    // 조회
+    // =================================================================
+
+    /**
+     * 리뷰 통계 (집계 행 1건 조회)
+     */
+    public ReviewRepositoryCustom.ReviewStatistics getStatistics(Long productId) {
+        if (productId == null) return empty();
+        return productReviewStatsRepository.findById(productId)
+                .map(stats -> new ReviewRepositoryCustom.ReviewStatistics(
+                        stats.getReviewCount(),
+                        stats.getAverageRating(),
+                        stats.getRatingCounts(),
+                        stats.getWithImageCount()))
+                .orElseGet(ProductReviewStatsService::empty);
+    }
+
+    private static ReviewRepositoryCustom.ReviewStatistics empty() {
+        return new ReviewRepositoryCustom.ReviewStatistics(0L, 0.0, new Long[]{0L, 0L, 0L, 0L, 0L}, 0L);
+    }
+}
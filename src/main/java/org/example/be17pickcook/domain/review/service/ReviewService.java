@@ -37,6 +37,7 @@ public class ReviewService {
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
     private final ReviewMapper reviewMapper;
+    private final ProductReviewStatsService productReviewStatsService;
 
     // =================================================================
     // 리뷰 작성
@@ -89,6 +90,9 @@ public class ReviewService {
             }
         }
 
+        // 상품별 리뷰 집계 반영
+        productReviewStatsService.recordCreated(savedReview);
+
         // =================================================================
         // 6. MapStruct로 응답 DTO 생성
         // =================================================================
@@ -114,6 +118,10 @@ public class ReviewService {
             throw BaseException.from(BaseResponseStatus.REVIEW_MODIFICATION_PERIOD_EXPIRED);
         }
 
+        // 집계 보정용 수정 전 값
+        Integer previousRating = review.getRating();
+        boolean previousHasImages = review.hasImages();
+
         // 내용 수정
         review.updateContent(dto.getTitle(), dto.getContent(), dto.getRating());
 
@@ -135,6 +143,8 @@ public class ReviewService {
             }
         }
 
+        productReviewStatsService.recordUpdated(review, previousRating, previousHasImages);
+
         return ReviewDto.Response.fromEntityWithUserContext(review, userId);
     }
 
@@ -154,6 +164,7 @@ public class ReviewService {
 
         // 소프트 삭제
         review.softDelete();
+        productReviewStatsService.recordDeleted(review);
     }
 
     // =================================================================
@@ -194,11 +205,11 @@ public class ReviewService {
                 .toList();
 
         // =================================================================
-        // 4. 리뷰 통계 조회 (첫 페이지일 때만)
+        // 4. 리뷰 통계 조회 (첫 페이지일 때만, 집계 행 1건 조회)
         // =================================================================
         ReviewRepositoryCustom.ReviewStatistics statistics = null;
         if (filter.getPage() == null || filter.getPage() == 0) {
-            statistics = reviewRepository.getReviewStatistics(filter.getProductId());
+            statistics = productReviewStatsService.getStatistics(filter.getProductId());
         }
 
         // =================================================================
@@ -2,6 +2,7 @@ package org.example.be17pickcook.domain.scrap.controller;
 
 import lombok.RequiredArgsConstructor;
 import org.example.be17pickcook.common.BaseResponse;
+import org.example.be17pickcook.domain.scrap.model.ScrapDto;
 import org.example.be17pickcook.domain.scrap.model.ScrapTargetType;
 import org.example.be17pickcook.domain.scrap.service.ScrapService;
 import org.example.be17pickcook.domain.user.model.UserDto;
@@ -15,13 +16,10 @@ public class ScrapController {
     private final ScrapService scrapService;
 
     @PostMapping
-    public BaseResponse scrap(
+    public BaseResponse<ScrapDto.Response> scrap(
             @AuthenticationPrincipal UserDto.AuthUser authUser,
             @RequestParam ScrapTargetType targetType,
             @RequestParam Long targetId) {
-        scrapService.toggleScrap(authUser, targetType, targetId);
-
-
-        return BaseResponse.success("스크랩 기능 성공");
+        return BaseResponse.success(scrapService.toggleScrap(authUser, targetType, targetId), "스크랩 기능 성공");
     }
 }
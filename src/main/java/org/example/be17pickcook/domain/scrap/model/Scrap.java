@@ -16,7 +16,9 @@ import org.example.be17pickcook.domain.user.model.User;
         name = "scraps",
         uniqueConstraints =
                 {@UniqueConstraint(columnNames =
-                        {"user_id", "target_type", "target_id"})}
+                        {"user_id", "target_type", "target_id"})},
+        // 대상별 개수 집계용 (카운트 보정 배치)
+        indexes = @Index(name = "idx_scraps_target", columnList = "target_type, target_id")
 )
 public class Scrap {
     @Id
@@ -28,7 +28,7 @@ public class ScrapDto {
     @AllArgsConstructor
     @NoArgsConstructor
     public static class Response {
-        private int scrapCount;
+        private long scrapCount;
         private boolean hasScrapped;
     }
 }
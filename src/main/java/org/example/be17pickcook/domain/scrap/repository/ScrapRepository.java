@@ -3,6 +3,7 @@ package org.example.be17pickcook.domain.scrap.repository;
 import org.example.be17pickcook.domain.scrap.model.ScrapTargetType;
 import org.example.be17pickcook.domain.scrap.model.Scrap;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -21,4 +22,25 @@ public interface ScrapRepository extends JpaRepository<Scrap, Long> {
     List<Long> findScrappedRecipeIdsByUser(@Param("targetType") ScrapTargetType targetType,
                                               @Param("userId") Integer userId,
                                               @Param("recipeIds") List<Long> recipeIds);
+
+    // 사용자가 스크랩한 대상 ID 전체 (여부 캐시 로딩용)
+    @Query("SELECT s.targetId FROM Scrap s WHERE s.targetType = :targetType AND s.user.idx = :userId")
+    List<Long> findTargetIdsByUser(@Param("targetType") ScrapTargetType targetType,
+                                   @Param("userId") Integer userId);
+
+    // 토글용: 유니크 키 기준 삭제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM Scrap s " +
+            "WHERE s.user.idx = :userIdx AND s.targetType = :targetType AND s.targetId = :targetId")
+    int deleteByUniqueKey(@Param("userIdx") Integer userIdx,
+                          @Param("targetType") ScrapTargetType targetType,
+                          @Param("targetId") Long targetId);
+
+    // 토글용: 유니크 키 충돌 시 무시 (동시 요청이 이미 넣었으면 0 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scraps (user_id, target_type, target_id) " +
+            "VALUES (:userIdx, :targetType, :targetId)", nativeQuery = true)
+    int insertIgnore(@Param("userIdx") Integer userIdx,
+                     @Param("targetType") String targetType,
+                     @Param("targetId") Long targetId);
 }
@@ -0,0 +1,34 @@
+package org.example.be17pickcook.domain.scrap.service;
+
+import org.example.be17pickcook.common.counter.WriteBehindCounter;
+import org.example.be17pickcook.domain.scrap.model.ScrapTargetType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 스크랩 수 지연 반영 (recipe / posts 의 scrap_count)
+ */
+@Component
+public class ScrapCountBuffer extends WriteBehindCounter<ScrapTargetType> {
+
+    public ScrapCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        super(jdbcTemplate, transactionManager);
+    }
+
+    @Override
+    protected String updateSql(ScrapTargetType type) {
+        return switch (type) {
+            case RECIPE -> "UPDATE recipe SET scrap_count = GREATEST(COALESCE(scrap_count, 0) + ?, 0) WHERE idx = ?";
+            case POST -> "UPDATE posts SET scrap_count = GREATEST(COALESCE(scrap_count, 0) + ?, 0) WHERE post_id = ?";
+        };
+    }
+
+    @Override
+    protected String countSql(ScrapTargetType type) {
+        return switch (type) {
+            case RECIPE -> "SELECT COALESCE(scrap_count, 0) FROM recipe WHERE idx = ?";
+            case POST -> "SELECT COALESCE(scrap_count, 0) FROM posts WHERE post_id = ?";
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.be17pickcook.domain.scrap.service;
+
+import org.example.be17pickcook.common.membership.UserMembershipCache;
+import org.example.be17pickcook.domain.scrap.model.ScrapTargetType;
+import org.example.be17pickcook.domain.scrap.repository.ScrapRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 사용자별 스크랩 여부 캐시
+ */
+@Component
+public class ScrapMembershipCache extends UserMembershipCache<ScrapTargetType> {
+
+    private final ScrapRepository scrapRepository;
+
+    public ScrapMembershipCache(ScrapRepository scrapRepository,
+                                @Value("${membership.cache.max-entries:10000}") int maxEntries) {
+        super(maxEntries);
+        this.scrapRepository = scrapRepository;
+    }
+
+    @Override
+    protected List<Long> loadTargetIds(Integer userIdx, ScrapTargetType type) {
+        return scrapRepository.findTargetIdsByUser(type, userIdx);
+    }
+}
@@ -2,56 +2,58 @@ package org.example.be17pickcook.domain.scrap.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.example.be17pickcook.domain.community.repository.CommentRepository;
-import org.example.be17pickcook.domain.community.repository.PostRepository;
-import org.example.be17pickcook.domain.recipe.repository.RecipeRepository;
-import org.example.be17pickcook.domain.scrap.model.ScrapCountable;
 import org.example.be17pickcook.domain.scrap.model.ScrapTargetType;
-import org.example.be17pickcook.domain.scrap.model.Scrap;
+import org.example.be17pickcook.domain.scrap.model.ScrapDto;
 import org.example.be17pickcook.domain.scrap.repository.ScrapRepository;
-import org.example.be17pickcook.domain.user.model.User;
 import org.example.be17pickcook.domain.user.model.UserDto;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ScrapService {
     private final ScrapRepository scrapRepository;
-    private final RecipeRepository recipeRepository;
-    private final PostRepository postRepository;
-
-    private ScrapCountable getTargetEntity(ScrapTargetType targetType, Long targetId) {
-        return switch (targetType) {
-            case RECIPE -> recipeRepository.findById(targetId)
-                    .orElseThrow(() -> new IllegalArgumentException("레시피가 없습니다."));
-            case POST -> postRepository.findById(targetId)
-                    .orElseThrow(() -> new IllegalArgumentException("커뮤니티 글이 없습니다."));
-        };
-    }
+    private final ScrapCountBuffer scrapCountBuffer;
+    private final ScrapMembershipCache scrapMembershipCache;
 
+    /**
+     * 스크랩 토글
+     * - 유니크 키 기준 DELETE → 지운 행이 없으면 INSERT IGNORE (좋아요 토글과 동일)
+     */
     @Transactional
-    public void toggleScrap(UserDto.AuthUser authUser, ScrapTargetType targetType, Long targetId) {
+    public ScrapDto.Response toggleScrap(UserDto.AuthUser authUser, ScrapTargetType targetType, Long targetId) {
         Integer userIdx = authUser.getIdx();
-        ScrapCountable target = getTargetEntity(targetType, targetId);
 
-        Optional<Scrap> existing = scrapRepository.findByUserIdxAndTargetTypeAndTargetId(userIdx, targetType, target.getIdxScrap());
+        Long count = scrapCountBuffer.currentCount(targetType, targetId);
+        if (count == null) {
+            throw new IllegalArgumentException(switch (targetType) {
+                case RECIPE -> "레시피가 없습니다.";
+                case POST -> "커뮤니티 글이 없습니다.";
+            });
+        }
 
-        if (existing.isPresent()) {
+        boolean hasScrapped;
+        long delta;
+        if (scrapRepository.deleteByUniqueKey(userIdx, targetType, targetId) > 0) {
             // 스크랩 삭제
-            scrapRepository.delete(existing.get());
-            target.decreaseScrap();
+            hasScrapped = false;
+            delta = -1;
         } else {
-            // 스크랩 생성
-            Scrap scrap = Scrap.builder()
-                    .user(User.builder().idx(userIdx).build())
-                    .targetType(targetType)
-                    .targetId(targetId)
-                    .build();
-            scrapRepository.save(scrap);
-            target.increaseScrap();
+            // 스크랩 생성 (동시 요청이 먼저 넣었으면 0 → 이미 스크랩 상태)
+            hasScrapped = true;
+            delta = scrapRepository.insertIgnore(userIdx, targetType.name(), targetId) > 0 ? 1 : 0;
+        }
+        if (delta != 0) {
+            scrapCountBuffer.add(targetType, targetId, delta);
         }
+        scrapMembershipCache.update(userIdx, targetType, targetId, hasScrapped);
+
+        return ScrapDto.Response.builder()
+                .scrapCount(Math.max(count + delta, 0L))
+                .hasScrapped(hasScrapped)
+                .build();
     }
 
     // 스크랩 개수 가져오기 (반정규화 전)
@@ -59,8 +61,13 @@ public class ScrapService {
 //        return scrapRepository.countByTargetTypeAndTargetId(targetType, targetId);
 //    }
 
-    // 사용자가 스크랩 눌렀는지 확인
+    // 사용자가 스크랩 눌렀는지 확인 (사용자별 여부 캐시)
     public boolean hasUserScrapped(Integer userIdx, ScrapTargetType targetType, Long targetId) {
-        return scrapRepository.existsByUserIdxAndTargetTypeAndTargetId(userIdx, targetType, targetId);
+        return scrapMembershipCache.contains(userIdx, targetType, targetId);
+    }
+
+    // 목록 페이지용: targetIds 중 사용자가 스크랩한 ID (비로그인이면 빈 Set)
+    public Set<Long> findScrappedIds(Integer userIdx, ScrapTargetType targetType, Collection<Long> targetIds) {
+        return scrapMembershipCache.filter(userIdx, targetType, targetIds);
     }
 }
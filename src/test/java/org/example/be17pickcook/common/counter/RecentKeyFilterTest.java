@@ -0,0 +1,81 @@
+package org.example.be17pickcook.common.counter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecentKeyFilterTest {
+
+    private static final long WINDOW = 1000L;
+
+    private final AtomicLong now = new AtomicLong(0L);
+    private final RecentKeyFilter filter = new RecentKeyFilter(1 << 16, WINDOW, now::get);
+
+    @Test
+    void addIfAbsent_reportsFirstSightingOnly() {
+        assertTrue(filter.addIfAbsent(42L));
+        assertFalse(filter.addIfAbsent(42L));
+        assertFalse(filter.addIfAbsent(42L));
+    }
+
+    @Test
+    void neverForgetsKeyWithinWindow() {
+        // 미탐 없음: 기록한 키는 모두 다시 걸러짐
+        for (long key = 0; key < 5000; key++) {
+            filter.addIfAbsent(key * 7919);
+        }
+        now.set(WINDOW - 1);
+        for (long key = 0; key < 5000; key++) {
+            assertFalse(filter.addIfAbsent(key * 7919), "key " + key);
+        }
+    }
+
+    @Test
+    void keyIsRememberedThroughOneRotation() {
+        filter.addIfAbsent(1L);
+
+        // 한 번 교대 → 이전 세대에서 찾음
+        now.set(WINDOW);
+        assertFalse(filter.addIfAbsent(1L));
+    }
+
+    @Test
+    void keySeenAgainIsCarriedIntoCurrentGeneration() {
+        filter.addIfAbsent(1L);
+        now.set(WINDOW);
+        assertFalse(filter.addIfAbsent(1L));
+
+        // 다시 본 키는 현재 세대로 옮겨져 다음 교대 후에도 기억
+        now.set(2 * WINDOW);
+        assertFalse(filter.addIfAbsent(1L));
+    }
+
+    @Test
+    void keyNotSeenForTwoRotationsIsForgotten() {
+        filter.addIfAbsent(1L);
+        filter.addIfAbsent(2L);
+
+        now.set(WINDOW);
+        filter.addIfAbsent(2L);
+        now.set(2 * WINDOW);
+
+        assertTrue(filter.addIfAbsent(1L));
+        assertFalse(filter.addIfAbsent(2L));
+    }
+
+    @Test
+    void falsePositivesStayRare() {
+        for (long key = 0; key < 1000; key++) {
+            filter.addIfAbsent(key);
+        }
+
+        // 조회한 키도 기록되므로 채움 정도가 크게 변하지 않는 만큼만 확인 (2000개 / 65536비트, 이론상 0.02% 수준)
+        int falsePositives = 0;
+        for (long key = 1_000_000; key < 1_001_000; key++) {
+            if (!filter.addIfAbsent(key)) falsePositives++;
+        }
+        assertTrue(falsePositives < 5, "false positives " + falsePositives);
+    }
+}
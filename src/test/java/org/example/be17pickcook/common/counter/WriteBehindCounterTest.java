@@ -0,0 +1,216 @@
+package org.example.be17pickcook.common.counter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindCounterTest {
+
+    enum Target {POST, COMMENT}
+
+    // batchUpdate 호출을 기록하고, 지정하면 실패시키는 JdbcTemplate
+    static class RecordingJdbcTemplate extends JdbcTemplate {
+        final Map<String, List<Object[]>> batches = new LinkedHashMap<>();
+        RuntimeException failure;
+        Runnable duringUpdate = () -> {
+        };
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            duringUpdate.run();
+            if (failure != null) throw failure;
+            batches.put(sql, new ArrayList<>(batchArgs));
+            return new int[batchArgs.size()];
+        }
+    }
+
+    static class NoOpTransactionManager implements PlatformTransactionManager {
+        int commits;
+        int rollbacks;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            commits++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            rollbacks++;
+        }
+    }
+
+    static class TestCounter extends WriteBehindCounter<Target> {
+        TestCounter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+            super(jdbcTemplate, transactionManager);
+        }
+
+        @Override
+        protected String updateSql(Target type) {
+            return "UPDATE " + type;
+        }
+
+        @Override
+        protected String countSql(Target type) {
+            return "SELECT " + type;
+        }
+    }
+
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+    private final NoOpTransactionManager transactionManager = new NoOpTransactionManager();
+    private final TestCounter counter = new TestCounter(jdbcTemplate, transactionManager);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void add_outsideTransactionIsPendingImmediately() {
+        counter.add(Target.POST, 1L, 1);
+        counter.add(Target.POST, 1L, 1);
+        counter.add(Target.POST, 2L, -1);
+
+        assertEquals(2L, counter.pending(Target.POST, 1L));
+        assertEquals(-1L, counter.pending(Target.POST, 2L));
+        assertEquals(0L, counter.pending(Target.COMMENT, 1L));
+    }
+
+    @Test
+    void add_insideTransactionIsBufferedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        counter.add(Target.POST, 1L, 1);
+
+        assertEquals(0L, counter.pending(Target.POST, 1L));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1L, counter.pending(Target.POST, 1L));
+    }
+
+    @Test
+    void add_insideRolledBackTransactionIsDiscarded() {
+        TransactionSynchronizationManager.initSynchronization();
+        counter.add(Target.POST, 1L, 1);
+        // 롤백되면 afterCommit이 호출되지 않음
+        TransactionSynchronizationManager.clearSynchronization();
+
+        counter.flush();
+
+        assertEquals(0L, counter.pending(Target.POST, 1L));
+        assertTrue(jdbcTemplate.batches.isEmpty());
+    }
+
+    @Test
+    void flush_writesBatchesPerTypeInIdOrderAndClearsPending() {
+        counter.add(Target.POST, 30L, 2);
+        counter.add(Target.POST, 10L, 1);
+        counter.add(Target.COMMENT, 20L, -1);
+        counter.add(Target.POST, 40L, 1);
+        counter.add(Target.POST, 40L, -1);
+
+        counter.flush();
+
+        assertEquals(1, transactionManager.commits);
+        assertEquals(Set.of("UPDATE POST", "UPDATE COMMENT"), jdbcTemplate.batches.keySet());
+        List<Object[]> posts = jdbcTemplate.batches.get("UPDATE POST");
+        // 합이 0인 키는 반영하지 않음
+        assertEquals(2, posts.size());
+        assertArrayEquals(new Object[]{1L, 10L}, posts.get(0));
+        assertArrayEquals(new Object[]{2L, 30L}, posts.get(1));
+        assertArrayEquals(new Object[]{-1L, 20L}, jdbcTemplate.batches.get("UPDATE COMMENT").get(0));
+
+        assertEquals(0L, counter.pending(Target.POST, 30L));
+        assertEquals(0L, counter.pending(Target.COMMENT, 20L));
+    }
+
+    @Test
+    void pending_includesInFlightDeltasWhileFlushing() {
+        counter.add(Target.POST, 1L, 3);
+        long[] seen = new long[1];
+        jdbcTemplate.duringUpdate = () -> {
+            // 반영 중에 들어온 증감도 합산
+            counter.add(Target.POST, 1L, 1);
+            seen[0] = counter.pending(Target.POST, 1L);
+        };
+
+        counter.flush();
+
+        assertEquals(4L, seen[0]);
+        assertEquals(1L, counter.pending(Target.POST, 1L));
+    }
+
+    @Test
+    void flush_failureRestoresDeltasForNextRun() {
+        counter.add(Target.POST, 1L, 2);
+        counter.add(Target.COMMENT, 5L, 1);
+        jdbcTemplate.failure = new IllegalStateException("db down");
+
+        counter.flush();
+
+        assertEquals(1, transactionManager.rollbacks);
+        assertEquals(2L, counter.pending(Target.POST, 1L));
+        assertEquals(1L, counter.pending(Target.COMMENT, 5L));
+
+        // 다음 주기에 그대로 반영
+        jdbcTemplate.failure = null;
+        counter.add(Target.POST, 1L, 1);
+        counter.flush();
+
+        assertArrayEquals(new Object[]{3L, 1L}, jdbcTemplate.batches.get("UPDATE POST").get(0));
+        assertEquals(0L, counter.pending(Target.POST, 1L));
+    }
+
+    @Test
+    void flushListeners_receiveOnlyCommittedDeltas() {
+        List<Map<WriteBehindCounter.Key<Target>, Long>> received = new ArrayList<>();
+        List<Long> generations = new ArrayList<>();
+        counter.addFlushListener((generation, applied) -> {
+            generations.add(generation);
+            received.add(applied);
+        });
+
+        counter.add(Target.POST, 1L, 2);
+        jdbcTemplate.failure = new IllegalStateException("db down");
+        counter.flush();
+        assertTrue(received.isEmpty());
+
+        jdbcTemplate.failure = null;
+        counter.flush();
+        assertEquals(List.of(Map.of(new WriteBehindCounter.Key<>(Target.POST, 1L), 2L)), received);
+        // 실패한 반영도 세대 번호는 소비
+        assertEquals(List.of(2L), generations);
+    }
+
+    @Test
+    void flushGeneration_advancesOnlyWhenThereIsSomethingToFlush() {
+        counter.flush();
+        assertEquals(0L, counter.flushGeneration());
+
+        boolean[] flushingDuringUpdate = new boolean[1];
+        jdbcTemplate.duringUpdate = () -> flushingDuringUpdate[0] = counter.isFlushing();
+        counter.add(Target.POST, 1L, 1);
+        counter.flush();
+
+        assertEquals(1L, counter.flushGeneration());
+        assertTrue(flushingDuringUpdate[0]);
+        assertFalse(counter.isFlushing());
+    }
+}
@@ -0,0 +1,79 @@
+package org.example.be17pickcook.common.ingredient;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IngredientDictionaryTest {
+
+    private final IngredientDictionary dictionary = TestIngredientDictionaries.of(
+            "# 주석",
+            "달걀 = 계란, 에그, egg | 메추리알",
+            "토마토 = 방울토마토",
+            "돼지고기 = 돈육, 돼지 고기 | 삼겹살",
+            "가지 = eggplant");
+
+    private List<String> matched(String text) {
+        return dictionary.matches(text).stream()
+                .map(match -> text.substring(match.start(), match.end()))
+                .toList();
+    }
+
+    @Test
+    void matches_prefersLongestAtSameStartWithoutOverlap() {
+        // "방울토마토"가 안쪽 "토마토"보다 우선, 겹치는 일치는 버림
+        assertEquals(List.of("방울토마토", "계란"), matched("방울토마토 계란볶음"));
+        assertEquals(List.of("돼지 고기"), matched("돼지 고기"));
+    }
+
+    @Test
+    void matches_leftmostWinsOverLongerLaterOverlap() {
+        // 왼쪽에서 먼저 시작한 "토마토"가 뒤에서 시작하는 일치보다 우선
+        assertEquals(List.of("토마토", "계란"), matched("토마토계란"));
+    }
+
+    @Test
+    void matches_englishPatternsRequireWordBoundaries() {
+        assertEquals(List.of("Eggplant"), matched("Eggplant"));
+        assertEquals(List.of("egg"), matched("fried egg"));
+        assertTrue(matched("eggs").isEmpty());
+    }
+
+    @Test
+    void canonicalTerm_mapsOnlyWholeNameSynonyms() {
+        assertEquals("달걀", dictionary.canonicalTerm(" 계란 "));
+        assertEquals("달걀", dictionary.canonicalTerm("EGG"));
+        assertEquals("돼지고기", dictionary.canonicalTerm("돼지 고기"));
+        assertEquals("토마토", dictionary.canonicalTerm("방울토마토"));
+
+        // 사전 재료를 포함하기만 한 이름은 다른 재료로 합치지 않음
+        assertEquals("토마토케첩", dictionary.canonicalTerm("토마토케첩"));
+        assertEquals("국산 계란 30구", dictionary.canonicalTerm("국산 계란 30구"));
+        assertEquals("", dictionary.canonicalTerm(null));
+    }
+
+    @Test
+    void canonicalIds_findIngredientsContainedInProductTitles() {
+        int egg = dictionary.canonicalId("달걀");
+        int tomato = dictionary.canonicalId("토마토");
+
+        assertArrayEquals(new int[]{egg}, dictionary.canonicalIds("국산 계란 30구"));
+        assertArrayEquals(new int[]{tomato, egg}, dictionary.canonicalIds("토마토케첩과 계란, 달걀"));
+        assertEquals(-1, dictionary.canonicalId("토마토케첩"));
+    }
+
+    @Test
+    void rewrite_replacesSynonymSpansWithCanonicalNames() {
+        assertEquals("달걀말이와 돼지고기 볶음", dictionary.rewrite("계란말이와 돈육 볶음"));
+        assertEquals("", dictionary.rewrite(null));
+    }
+
+    @Test
+    void relatedTerms_areKeptPerCanonicalIngredient() {
+        assertEquals(List.of("메추리알"), dictionary.relatedTerms("달걀"));
+        assertEquals(List.of(), dictionary.relatedTerms("토마토"));
+        assertEquals(List.of(), dictionary.relatedTerms("없는재료"));
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.be17pickcook.common.ingredient;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 테스트용 재료 사전 (주어진 줄로 임시 사전 파일을 만들어 로드)
+ */
+public final class TestIngredientDictionaries {
+
+    private TestIngredientDictionaries() {
+    }
+
+    public static IngredientDictionary of(String... lines) {
+        try {
+            Path file = Files.createTempFile("ingredient-dictionary", ".txt");
+            file.toFile().deleteOnExit();
+            Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+
+            IngredientDictionary dictionary = new IngredientDictionary(event -> {
+            });
+            ReflectionTestUtils.setField(dictionary, "dictionaryPath", file.toString());
+            dictionary.init();
+            return dictionary;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
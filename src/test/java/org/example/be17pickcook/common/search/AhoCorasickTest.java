@@ -0,0 +1,64 @@
+package org.example.be17pickcook.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AhoCorasickTest {
+
+    private static List<String> scan(AhoCorasick automaton, String text) {
+        List<String> found = new ArrayList<>();
+        automaton.scan(text, (start, end, value) -> found.add(start + "-" + end + ":" + value));
+        return found;
+    }
+
+    @Test
+    void scan_reportsAllOverlappingMatchesByEndPosition() {
+        Map<String, Integer> patterns = new LinkedHashMap<>();
+        patterns.put("he", 1);
+        patterns.put("she", 2);
+        patterns.put("his", 3);
+        patterns.put("hers", 4);
+        AhoCorasick automaton = AhoCorasick.build(patterns);
+
+        // 같은 위치에서 끝나면 긴 일치부터 (출력 링크 순서)
+        assertEquals(List.of("1-4:2", "2-4:1", "2-6:4"), scan(automaton, "ushers"));
+        assertEquals(List.of("0-3:3"), scan(automaton, "his"));
+        assertTrue(scan(automaton, "xyz").isEmpty());
+    }
+
+    @Test
+    void scan_followsFailureLinksAcrossPartialMatches() {
+        Map<String, Integer> patterns = new LinkedHashMap<>();
+        patterns.put("토마토", 1);
+        patterns.put("마토", 2);
+        patterns.put("토마토케첩", 3);
+        AhoCorasick automaton = AhoCorasick.build(patterns);
+
+        assertEquals(List.of("0-3:1", "1-3:2", "2-5:1", "3-5:2", "2-7:3"), scan(automaton, "토마토마토케첩"));
+    }
+
+    @Test
+    void scan_findsPatternsWithSharedPrefixes() {
+        Map<String, Integer> patterns = new LinkedHashMap<>();
+        patterns.put("돼지", 1);
+        patterns.put("돼지고기", 2);
+        AhoCorasick automaton = AhoCorasick.build(patterns);
+
+        assertEquals(List.of("0-2:1", "0-4:2"), scan(automaton, "돼지고기"));
+        assertEquals(List.of("1-3:1"), scan(automaton, " 돼지고"));
+    }
+
+    @Test
+    void build_ignoresEmptyPatterns() {
+        Map<String, Integer> patterns = new HashMap<>();
+        patterns.put("", 1);
+        patterns.put("파", 2);
+        AhoCorasick automaton = AhoCorasick.build(patterns);
+
+        assertEquals(2, automaton.nodeCount());
+        assertEquals(List.of("0-1:2", "2-3:2"), scan(automaton, "파 파"));
+    }
+}
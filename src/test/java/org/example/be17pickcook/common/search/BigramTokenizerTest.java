@@ -0,0 +1,38 @@
+package org.example.be17pickcook.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BigramTokenizerTest {
+
+    @Test
+    void indexTokens_emitOverlappingBigramsWithUnigrams() {
+        assertEquals(List.of("김", "김치", "치", "치찌", "찌", "찌개", "개"), BigramTokenizer.indexTokens("김치찌개"));
+    }
+
+    @Test
+    void queryTokens_emitBigramsOnly() {
+        assertEquals(List.of("김치", "치찌", "찌개"), BigramTokenizer.queryTokens("김치찌개"));
+    }
+
+    @Test
+    void singleCharacterRun_isKeptAsUnigram() {
+        assertEquals(List.of("파"), BigramTokenizer.queryTokens("파"));
+        assertEquals(List.of("파"), BigramTokenizer.indexTokens("#파"));
+    }
+
+    @Test
+    void splitsOnSymbolsAndScriptChanges() {
+        // 공백/기호에서 나누고, 한글-영문/숫자 경계에서도 나눔
+        assertEquals(List.of("spam", "햄구", "구이", "2"), BigramTokenizer.queryTokens("SPAM햄구이 #2"));
+    }
+
+    @Test
+    void nullOrEmpty_givesNoTokens() {
+        assertTrue(BigramTokenizer.indexTokens(null).isEmpty());
+        assertTrue(BigramTokenizer.queryTokens("  #! ").isEmpty());
+    }
+}
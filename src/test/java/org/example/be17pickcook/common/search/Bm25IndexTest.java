@@ -0,0 +1,95 @@
+package org.example.be17pickcook.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Bm25IndexTest {
+
+    private static Map<Integer, Float> search(Bm25Index index, String query, BitSet filter) {
+        Map<Integer, Float> scores = new HashMap<>();
+        index.search(query, filter, scores::put);
+        return scores;
+    }
+
+    private static Bm25Index sample() {
+        Bm25Index index = new Bm25Index();
+        index.put(1, new Bm25Index.Document().add("김치찌개", 3f).add("돼지고기 김치", 1f));
+        index.put(2, new Bm25Index.Document().add("된장찌개", 3f).add("두부 애호박", 1f));
+        index.put(3, new Bm25Index.Document().add("김치볶음밥", 3f).add("김치 밥", 1f));
+        index.put(4, new Bm25Index.Document().add("제육볶음", 3f).add("돼지고기 김치", 1f));
+        return index;
+    }
+
+    @Test
+    void search_requiresAllQueryTokens() {
+        Bm25Index index = sample();
+
+        assertEquals(Set.of(1, 3, 4), search(index, "김치", null).keySet());
+        assertEquals(Set.of(1, 2), search(index, "찌개", null).keySet());
+        assertEquals(Set.of(1), search(index, "김치 찌개", null).keySet());
+        assertTrue(search(index, "김치 두부", null).isEmpty());
+        assertTrue(search(index, "없는말", null).isEmpty());
+    }
+
+    @Test
+    void search_higherFieldWeightScoresHigher() {
+        Map<Integer, Float> scores = search(sample(), "김치", null);
+
+        // 제목에 있는 문서가 재료에만 있는 문서보다 점수가 높음
+        assertTrue(scores.get(1) > scores.get(4));
+        assertTrue(scores.get(3) > scores.get(4));
+    }
+
+    @Test
+    void search_skipsDocumentsOutsideFilter() {
+        BitSet filter = new BitSet();
+        filter.set(3);
+        filter.set(4);
+
+        assertEquals(Set.of(3, 4), search(sample(), "김치", filter).keySet());
+    }
+
+    @Test
+    void putReplacesAndRemoveDeletesDocument() {
+        Bm25Index index = sample();
+        index.put(1, new Bm25Index.Document().add("부대찌개", 3f));
+        index.remove(3);
+
+        assertEquals(Set.of(4), search(index, "김치", null).keySet());
+        assertEquals(Set.of(1, 2), search(index, "찌개", null).keySet());
+        assertEquals(3, index.docCount());
+        assertEquals(4, index.maxDocId());
+    }
+
+    @Test
+    void writeToAndReadFrom_roundTripsScores() throws IOException {
+        Bm25Index index = sample();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+
+        Bm25Index loaded = new Bm25Index();
+        loaded.put(9, new Bm25Index.Document().add("남아있으면 안됨", 1f));
+        loaded.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(index.docCount(), loaded.docCount());
+        assertEquals(index.termCount(), loaded.termCount());
+        assertEquals(search(index, "김치", null), search(loaded, "김치", null));
+        assertTrue(search(loaded, "남아", null).isEmpty());
+
+        // 로드한 색인도 증분 갱신 가능
+        loaded.remove(1);
+        assertEquals(Set.of(3, 4), search(loaded, "김치", null).keySet());
+    }
+
+    @Test
+    void readFrom_rejectsUnknownFormatVersion() {
+        byte[] bytes = {0, 0, 0, 99};
+
+        assertThrows(IOException.class,
+                () -> new Bm25Index().readFrom(new DataInputStream(new ByteArrayInputStream(bytes))));
+    }
+}
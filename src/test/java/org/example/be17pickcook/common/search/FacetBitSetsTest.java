@@ -0,0 +1,74 @@
+package org.example.be17pickcook.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FacetBitSetsTest {
+
+    private static BitSet bits(int... docIds) {
+        BitSet bits = new BitSet();
+        for (int docId : docIds) bits.set(docId);
+        return bits;
+    }
+
+    private static FacetBitSets sample() {
+        FacetBitSets facets = new FacetBitSets();
+        facets.put(1, "한식");
+        facets.put(2, "양식");
+        facets.put(3, "한식");
+        facets.put(4, "중식");
+        facets.put(5, null);
+        return facets;
+    }
+
+    @Test
+    void anyOf_unionsValuesAndTreatsEmptyAsNoCondition() {
+        FacetBitSets facets = sample();
+
+        assertEquals(bits(1, 2, 3), facets.anyOf(List.of("한식", "양식")));
+        assertEquals(bits(), facets.anyOf(List.of("일식")));
+        assertNull(facets.anyOf(List.of()));
+        assertNull(facets.anyOf(null));
+    }
+
+    @Test
+    void and_intersectsAndIgnoresNull() {
+        assertEquals(bits(3), FacetBitSets.and(bits(1, 3), bits(2, 3)));
+        assertEquals(bits(1, 3), FacetBitSets.and(null, bits(1, 3)));
+        assertNull(FacetBitSets.and(null, null));
+    }
+
+    @Test
+    void put_movesDocumentToNewValue() {
+        FacetBitSets facets = sample();
+        facets.put(4, "한식");
+        facets.remove(2);
+
+        assertEquals(Map.of("한식", 3), facets.counts());
+    }
+
+    @Test
+    void counts_withFilterSkipsEmptyValues() {
+        assertEquals(Map.of("한식", 1, "중식", 1), sample().counts(bits(3, 4, 5)));
+        assertEquals(Map.of("한식", 2, "양식", 1, "중식", 1), sample().counts(null));
+    }
+
+    @Test
+    void writeToAndReadFrom_roundTrip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        sample().writeTo(new DataOutputStream(bytes));
+
+        FacetBitSets loaded = new FacetBitSets();
+        loaded.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(bits(1, 3), loaded.anyOf(List.of("한식")));
+        // 문서별 값도 복원되어 교체가 가능
+        loaded.put(1, "양식");
+        assertEquals(bits(1, 2), loaded.anyOf(List.of("양식")));
+        assertEquals(bits(3), loaded.anyOf(List.of("한식")));
+    }
+}
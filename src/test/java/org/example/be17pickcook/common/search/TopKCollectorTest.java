@@ -0,0 +1,100 @@
+package org.example.be17pickcook.common.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TopKCollectorTest {
+
+    @Test
+    void drainRankedIds_returnsHighestScoresFirst() {
+        TopKCollector topK = new TopKCollector(3);
+        topK.offer(1, 0.2f);
+        topK.offer(2, 0.9f);
+        topK.offer(3, 0.5f);
+        topK.offer(4, 0.7f);
+        topK.offer(5, 0.1f);
+
+        assertEquals(5, topK.getCandidateCount());
+        assertArrayEquals(new long[]{2, 4, 3}, topK.drainRankedIds());
+    }
+
+    @Test
+    void ties_preferHigherId() {
+        TopKCollector topK = new TopKCollector(3);
+        for (int id = 1; id <= 5; id++) {
+            topK.offer(id, 0.5f);
+        }
+
+        assertArrayEquals(new long[]{5, 4, 3}, topK.drainRankedIds());
+    }
+
+    @Test
+    void nonPositiveScores_areSkippedAndNotCounted() {
+        TopKCollector topK = new TopKCollector(5);
+        topK.offer(1, 0f);
+        topK.offer(2, -1f);
+        topK.offer(3, Float.NaN);
+        topK.offer(4, 0.3f);
+
+        assertEquals(1, topK.getCandidateCount());
+        assertArrayEquals(new long[]{4}, topK.drainRankedIds());
+    }
+
+    @Test
+    void capacityZero_onlyCountsCandidates() {
+        TopKCollector topK = new TopKCollector(0);
+        topK.offer(1, 0.5f);
+        topK.offer(2, 0.7f);
+
+        assertEquals(2, topK.getCandidateCount());
+        assertArrayEquals(new long[0], topK.drainRankedIds());
+    }
+
+    @Test
+    void negativeCapacity_isTreatedAsZero() {
+        TopKCollector topK = new TopKCollector(-5);
+        topK.offer(1, 0.5f);
+
+        assertArrayEquals(new long[0], topK.drainRankedIds());
+    }
+
+    @Test
+    void drainRankedIds_emptiesTheHeap() {
+        TopKCollector topK = new TopKCollector(2);
+        topK.offer(1, 0.5f);
+
+        assertArrayEquals(new long[]{1}, topK.drainRankedIds());
+        assertArrayEquals(new long[0], topK.drainRankedIds());
+    }
+
+    @Test
+    void matchesFullSortOnRandomInput() {
+        Random random = new Random(42);
+        int n = 2000;
+        int k = 37;
+        float[] scores = new float[n];
+        TopKCollector topK = new TopKCollector(k);
+        for (int id = 0; id < n; id++) {
+            // 동점이 생기도록 점수를 거칠게 양자화
+            scores[id] = random.nextInt(50) / 50f;
+            topK.offer(id, scores[id]);
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        for (int id = 0; id < n; id++) {
+            if (scores[id] > 0f) expected.add(id);
+        }
+        expected.sort(Comparator.<Integer>comparingDouble(id -> scores[id]).reversed()
+                .thenComparing(Comparator.reverseOrder()));
+
+        long[] ranked = topK.drainRankedIds();
+        assertEquals(expected.size(), topK.getCandidateCount());
+        assertEquals(k, ranked.length);
+        for (int i = 0; i < k; i++) {
+            assertEquals((long) expected.get(i), ranked[i], "rank " + i);
+        }
+    }
+}
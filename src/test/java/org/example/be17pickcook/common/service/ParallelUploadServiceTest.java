@@ -0,0 +1,111 @@
+package org.example.be17pickcook.common.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelUploadServiceTest {
+
+    // 업로드마다 잠깐 대기하고, 지정한 파일은 실패시키는 S3
+    static class FakeS3UploadService extends S3UploadService {
+        final Set<String> stored = ConcurrentHashMap.newKeySet();
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger maxActive = new AtomicInteger();
+        volatile String failOn;
+
+        FakeS3UploadService() {
+            super(null);
+        }
+
+        @Override
+        public String upload(MultipartFile file) throws IOException {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+                if (file.getOriginalFilename().equals(failOn)) throw new IOException("upload failed");
+                String url = "https://bucket/" + file.getOriginalFilename();
+                stored.add(url);
+                return url;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            } finally {
+                active.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void delete(String url) {
+            stored.remove(url);
+        }
+    }
+
+    private final FakeS3UploadService s3 = new FakeS3UploadService();
+    private ParallelUploadService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) service.shutdown();
+    }
+
+    private static List<MultipartFile> files(int count) {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            files.add(new MockMultipartFile("files", "f" + i + ".jpg", "image/jpeg", new byte[]{1}));
+        }
+        return files;
+    }
+
+    @Test
+    void saturatedPool_runsOnCallerInsteadOfRejecting() throws IOException {
+        // 스레드 1개 + 큐 1칸이어도 나머지는 요청 스레드가 직접 업로드
+        service = new ParallelUploadService(s3, 1, 1, 8, 5);
+
+        List<String> urls = service.uploadAll(files(6));
+
+        assertEquals(List.of("https://bucket/f1.jpg", "https://bucket/f2.jpg", "https://bucket/f3.jpg",
+                "https://bucket/f4.jpg", "https://bucket/f5.jpg", "https://bucket/f6.jpg"), urls);
+    }
+
+    @Test
+    void uploadsPerRequestAreBounded() throws IOException {
+        service = new ParallelUploadService(s3, 8, 64, 2, 5);
+
+        List<String> urls = service.uploadAll(files(8));
+
+        assertEquals(8, urls.size());
+        assertTrue(s3.maxActive.get() <= 2, "max active " + s3.maxActive.get());
+    }
+
+    @Test
+    void failure_deletesEveryUploadedFile() throws InterruptedException {
+        service = new ParallelUploadService(s3, 4, 64, 4, 5);
+        s3.failOn = "f3.jpg";
+
+        assertThrows(IOException.class, () -> service.uploadAll(files(6)));
+
+        // 진행 중이던 업로드도 끝나는 대로 삭제
+        for (int i = 0; i < 100 && !s3.stored.isEmpty(); i++) Thread.sleep(20);
+        assertEquals(Set.of(), s3.stored);
+    }
+
+    @Test
+    void nullAndEmptyFiles_keepTheirSlots() throws IOException {
+        service = new ParallelUploadService(s3, 2, 8, 2, 5);
+        List<MultipartFile> files = new ArrayList<>(files(2));
+        files.add(1, null);
+        files.add(new MockMultipartFile("files", "empty.jpg", "image/jpeg", new byte[0]));
+
+        List<String> urls = service.uploadAll(files);
+
+        assertEquals(Arrays.asList("https://bucket/f1.jpg", null, "https://bucket/f2.jpg", null), urls);
+    }
+}
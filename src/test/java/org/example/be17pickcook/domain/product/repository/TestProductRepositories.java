@@ -0,0 +1,24 @@
+package org.example.be17pickcook.domain.product.repository;
+
+import java.lang.reflect.Proxy;
+import java.util.function.Supplier;
+
+/**
+ * 테스트용 상품 저장소 (지정한 조회 메서드 하나만 응답, 나머지는 UnsupportedOperationException)
+ */
+public final class TestProductRepositories {
+
+    private TestProductRepositories() {
+    }
+
+    /**
+     * @param answer 호출될 때마다 결과를 만듦 (테스트 중 바뀐 데이터를 그대로 읽도록)
+     */
+    public static ProductRepository answering(String methodName, Supplier<?> answer) {
+        return (ProductRepository) Proxy.newProxyInstance(ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals(methodName)) return answer.get();
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
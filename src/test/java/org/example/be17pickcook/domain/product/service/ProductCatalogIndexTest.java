@@ -0,0 +1,191 @@
+package org.example.be17pickcook.domain.product.service;
+
+import org.example.be17pickcook.common.ingredient.TestIngredientDictionaries;
+import org.example.be17pickcook.domain.product.model.CatalogSort;
+import org.example.be17pickcook.domain.product.model.Product;
+import org.example.be17pickcook.domain.product.repository.ProductRepository;
+import org.example.be17pickcook.domain.product.repository.TestProductRepositories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCatalogIndexTest {
+
+    // id, title, subtitle, category, original_price, discount_rate, review_count
+    // 판매가: 1=3000(NONE), 2=1800(10_TO_19), 3=12000(20_TO_29), 4=3000(30_PLUS), 5=28500(UNDER_10)
+    private final List<Object[]> rows = new ArrayList<>(List.of(
+            new Object[]{1L, "양파 1kg", "국내산", "VEGETABLE", 3000, 0, 5L},
+            new Object[]{2L, "대파", "한 단", "VEGETABLE", 2000, 10, 20L},
+            new Object[]{3L, "돼지고기 목살", "구이용", "MEAT", 15000, 20, 3L},
+            new Object[]{4L, "양파 3kg", "대용량", "VEGETABLE", 6000, 50, 1L},
+            new Object[]{5L, "소고기", "", "MEAT", 30000, 5, 0L}));
+
+    private ProductCatalogIndex index;
+
+    // findCatalogFields만 응답하는 저장소 (rows를 그때그때 읽음)
+    private ProductRepository repository() {
+        return TestProductRepositories.answering("findCatalogFields", () -> new ArrayList<>(rows));
+    }
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductCatalogIndex(repository(), TestIngredientDictionaries.of("달걀 = 계란"));
+        index.build();
+    }
+
+    private ProductCatalogIndex.CatalogResult search(String keyword, List<String> categories, Integer minPrice,
+                                                     Integer maxPrice, List<String> discounts, CatalogSort sort,
+                                                     int page, int size) {
+        return index.search(keyword, categories, minPrice, maxPrice, discounts, sort, page, size);
+    }
+
+    private static Set<Integer> toSet(BitSet bits) {
+        Set<Integer> result = new HashSet<>();
+        bits.stream().forEach(result::add);
+        return result;
+    }
+
+    // =================================================================
+    // 가격 범위
+    // =================================================================
+
+    @Test
+    void priceRange_includesEveryProductAtTheBoundaryPrices() {
+        // 같은 가격이면 상품 ID가 가장 큰 상품까지 상한에 포함되어야 함
+        long[] byPrice = {
+                ProductCatalogIndex.pack(1800, 2),
+                ProductCatalogIndex.pack(3000, 0),
+                ProductCatalogIndex.pack(3000, 1),
+                ProductCatalogIndex.pack(3000, Integer.MAX_VALUE),
+                ProductCatalogIndex.pack(3001, 7)};
+
+        assertEquals(Set.of(0, 1, Integer.MAX_VALUE), toSet(ProductCatalogIndex.priceRange(byPrice, 3000, 3000)));
+        assertEquals(Set.of(2, 0, 1, Integer.MAX_VALUE), toSet(ProductCatalogIndex.priceRange(byPrice, null, 3000)));
+        assertEquals(Set.of(0, 1, Integer.MAX_VALUE, 7), toSet(ProductCatalogIndex.priceRange(byPrice, 3000, null)));
+        assertEquals(Set.of(), toSet(ProductCatalogIndex.priceRange(byPrice, 1801, 2999)));
+    }
+
+    @Test
+    void priceRange_negativeMinimumIsTreatedAsZero() {
+        long[] byPrice = {ProductCatalogIndex.pack(0, 3), ProductCatalogIndex.pack(500, 4)};
+
+        assertEquals(Set.of(3, 4), toSet(ProductCatalogIndex.priceRange(byPrice, -100, null)));
+        assertEquals(Set.of(3), toSet(ProductCatalogIndex.priceRange(byPrice, -100, 0)));
+    }
+
+    @Test
+    void pack_ordersByValueThenProductId() {
+        assertTrue(ProductCatalogIndex.pack(3000, Integer.MAX_VALUE) < ProductCatalogIndex.pack(3001, 0));
+        assertTrue(ProductCatalogIndex.pack(3000, 1) < ProductCatalogIndex.pack(3000, 2));
+        assertTrue(ProductCatalogIndex.pack(3000, Integer.MAX_VALUE) <= ProductCatalogIndex.pack(3000, -1));
+    }
+
+    @Test
+    void search_priceRangeUsesEffectivePrice() {
+        ProductCatalogIndex.CatalogResult result = search(null, null, 2000, 12000, null, CatalogSort.PRICE_ASC, 0, 10);
+
+        // 같은 판매가(3000)는 상품 ID 순
+        assertEquals(List.of(1L, 4L, 3L), result.productIds());
+        assertEquals(3, result.totalElements());
+
+        assertEquals(List.of(3L, 4L, 1L),
+                search(null, null, 2000, 12000, null, CatalogSort.PRICE_DESC, 0, 10).productIds());
+    }
+
+    // =================================================================
+    // 패싯
+    // =================================================================
+
+    @Test
+    void facets_ignoreTheirOwnFilterButApplyTheOthers() {
+        ProductCatalogIndex.CatalogResult result = search(null, List.of("VEGETABLE"), null, null,
+                List.of("NONE", "30_PLUS"), CatalogSort.NEWEST, 0, 10);
+
+        assertEquals(List.of(4L, 1L), result.productIds());
+        assertEquals(2, result.totalElements());
+        // 카테고리 개수: 할인 필터만 적용
+        assertEquals(Map.of("VEGETABLE", 2), result.categoryFacets());
+        // 할인 구간 개수: 카테고리 필터만 적용, 모든 구간을 순서대로 (0건 포함)
+        assertEquals(new ArrayList<>(ProductCatalogIndex.DISCOUNT_BUCKETS),
+                new ArrayList<>(result.discountFacets().keySet()));
+        assertEquals(Map.of("NONE", 1, "UNDER_10", 0, "10_TO_19", 1, "20_TO_29", 0, "30_PLUS", 1),
+                result.discountFacets());
+    }
+
+    @Test
+    void facets_areLimitedToKeywordAndPriceMatches() {
+        ProductCatalogIndex.CatalogResult result = search("양파", null, null, 3000, null, CatalogSort.RELEVANCE, 0, 10);
+
+        assertEquals(Set.of(1L, 4L), new HashSet<>(result.productIds()));
+        assertEquals(Map.of("VEGETABLE", 2), result.categoryFacets());
+        assertEquals(Map.of("NONE", 1, "UNDER_10", 0, "10_TO_19", 0, "20_TO_29", 0, "30_PLUS", 1),
+                result.discountFacets());
+
+        ProductCatalogIndex.CatalogResult meat = search(null, null, 10000, null, null, CatalogSort.NEWEST, 0, 10);
+        assertEquals(Map.of("MEAT", 2), meat.categoryFacets());
+    }
+
+    @Test
+    void discountBucket_boundaries() {
+        assertEquals("NONE", ProductCatalogIndex.discountBucket(null));
+        assertEquals("NONE", ProductCatalogIndex.discountBucket(0));
+        assertEquals("UNDER_10", ProductCatalogIndex.discountBucket(9));
+        assertEquals("10_TO_19", ProductCatalogIndex.discountBucket(10));
+        assertEquals("20_TO_29", ProductCatalogIndex.discountBucket(29));
+        assertEquals("30_PLUS", ProductCatalogIndex.discountBucket(30));
+    }
+
+    // =================================================================
+    // 페이지 / 갱신
+    // =================================================================
+
+    @Test
+    void paging_returnsOnlyTheRemainingItems() {
+        assertEquals(List.of(3L, 2L), search(null, null, null, null, null, CatalogSort.NEWEST, 1, 2).productIds());
+        assertEquals(List.of(1L), search(null, null, null, null, null, CatalogSort.NEWEST, 2, 2).productIds());
+        assertEquals(List.of(2L, 1L, 3L, 4L, 5L),
+                search(null, null, null, null, null, CatalogSort.REVIEWS, 0, 100).productIds());
+
+        ProductCatalogIndex.CatalogResult beyond = search(null, null, null, null, null, CatalogSort.PRICE_ASC, 5, 100);
+        assertEquals(List.of(), beyond.productIds());
+        assertEquals(5, beyond.totalElements());
+    }
+
+    @Test
+    void putAndRemove_outsideTransactionApplyImmediately() {
+        index.put(Product.builder().id(6L).title("양파 즙").subtitle("").category("PROCESSED")
+                .original_price(1000).discount_rate(0).review_count(0L).build());
+        index.remove(1L);
+
+        ProductCatalogIndex.CatalogResult result = search("양파", null, null, null, null, CatalogSort.PRICE_ASC, 0, 10);
+        assertEquals(List.of(6L, 4L), result.productIds());
+        assertEquals(Map.of("PROCESSED", 1, "VEGETABLE", 1), result.categoryFacets());
+    }
+
+    @Test
+    void build_swapsInAFreshCatalog() {
+        rows.remove(0);
+        rows.add(new Object[]{7L, "양파 링", "냉동", "PROCESSED", 4000, 0, 0L});
+        index.build();
+
+        ProductCatalogIndex.CatalogResult result = search("양파", null, null, null, null, CatalogSort.NEWEST, 0, 10);
+        assertEquals(List.of(7L, 4L), result.productIds());
+        assertEquals(5, search(null, null, null, null, null, CatalogSort.NEWEST, 0, 10).totalElements());
+    }
+
+    @Test
+    void search_beforeBuildIsRejected() {
+        ProductCatalogIndex notBuilt = new ProductCatalogIndex(repository(), TestIngredientDictionaries.of());
+
+        assertFalse(notBuilt.isReady());
+        assertThrows(IllegalStateException.class,
+                () -> notBuilt.search(null, null, null, null, null, CatalogSort.NEWEST, 0, 10));
+        // 구축 전 변경은 무시 (구축 시 DB에서 읽음)
+        notBuilt.remove(1L);
+        notBuilt.build();
+        assertEquals(5, notBuilt.search(null, null, null, null, null, CatalogSort.NEWEST, 0, 10).totalElements());
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.be17pickcook.domain.product.service;
+
+import org.example.be17pickcook.domain.product.repository.TestProductRepositories;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomProductSamplerTest {
+
+    // 카테고리 A: 1~60, B: 101~130, C: 201~210
+    private static RandomProductSampler sampler() {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= 60; id++) rows.add(new Object[]{id, "A"});
+        for (long id = 101; id <= 130; id++) rows.add(new Object[]{id, "B"});
+        for (long id = 201; id <= 210; id++) rows.add(new Object[]{id, "C"});
+        RandomProductSampler sampler = new RandomProductSampler(
+                TestProductRepositories.answering("findAllIdAndCategory", () -> rows));
+        sampler.build();
+        return sampler;
+    }
+
+    private static String categoryOf(long id) {
+        return id <= 60 ? "A" : id <= 130 ? "B" : "C";
+    }
+
+    @Test
+    void floyd_returnsDistinctIndicesInRange() {
+        for (int trial = 0; trial < 200; trial++) {
+            int[] picked = RandomProductSampler.floyd(50, 20);
+            Set<Integer> distinct = new HashSet<>();
+            for (int index : picked) {
+                assertTrue(index >= 0 && index < 50, "index " + index);
+                distinct.add(index);
+            }
+            assertEquals(20, distinct.size());
+        }
+    }
+
+    @Test
+    void floyd_edgeSizes() {
+        assertEquals(0, RandomProductSampler.floyd(10, 0).length);
+
+        int[] all = RandomProductSampler.floyd(10, 10);
+        Arrays.sort(all);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, all);
+    }
+
+    @Test
+    void floyd_picksEachIndexUniformly() {
+        int n = 10;
+        int k = 3;
+        int trials = 30000;
+        int[] hits = new int[n];
+        for (int trial = 0; trial < trials; trial++) {
+            for (int index : RandomProductSampler.floyd(n, k)) hits[index]++;
+        }
+        // 기대값 9000 (k / n * trials), 표준편차 약 80
+        for (int index = 0; index < n; index++) {
+            assertTrue(Math.abs(hits[index] - 9000) < 600, "index " + index + " hits " + hits[index]);
+        }
+    }
+
+    @Test
+    void quotas_splitProportionallyByLargestRemainder() {
+        assertArrayEquals(new int[]{5, 3, 2}, RandomProductSampler.quotas(new int[]{50, 30, 20}, 10));
+        // 몫 2.1 / 0.6 / 0.3 → 남는 1개는 나머지가 가장 큰 두 번째
+        assertArrayEquals(new int[]{2, 1, 0}, RandomProductSampler.quotas(new int[]{70, 20, 10}, 3));
+        // 나머지가 같으면 앞 카테고리 우선
+        assertArrayEquals(new int[]{1, 1, 0}, RandomProductSampler.quotas(new int[]{1, 1, 1}, 2));
+        assertArrayEquals(new int[]{0}, RandomProductSampler.quotas(new int[]{5}, 0));
+    }
+
+    @Test
+    void quotas_alwaysSumToTargetWithinCategorySizes() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 500; trial++) {
+            int[] sizes = new int[1 + random.nextInt(8)];
+            int total = 0;
+            for (int i = 0; i < sizes.length; i++) {
+                sizes[i] = 1 + random.nextInt(40);
+                total += sizes[i];
+            }
+            int target = random.nextInt(total + 1);
+
+            int[] quotas = RandomProductSampler.quotas(sizes, target);
+            int sum = 0;
+            for (int i = 0; i < sizes.length; i++) {
+                assertTrue(quotas[i] <= sizes[i], "trial " + trial);
+                sum += quotas[i];
+            }
+            assertEquals(target, sum, "trial " + trial);
+        }
+    }
+
+    @Test
+    void sampleStratified_followsCategoryShares() {
+        List<Long> sampled = sampler().sampleStratified(10, Set.of());
+
+        assertEquals(10, new HashSet<>(sampled).size());
+        Map<String, Integer> perCategory = new HashMap<>();
+        sampled.forEach(id -> perCategory.merge(categoryOf(id), 1, Integer::sum));
+        // 60 : 30 : 10
+        assertEquals(Map.of("A", 6, "B", 3, "C", 1), perCategory);
+    }
+
+    @Test
+    void sampleStratified_refillsWhenExcludedProductsAreDrawn() {
+        // C 카테고리 10개 중 9개 제외 → 배분 1개는 남은 하나로 채우고, 그래도 모자라면 전체에서 보충
+        Set<Long> excluded = new HashSet<>();
+        for (long id = 201; id <= 209; id++) excluded.add(id);
+
+        List<Long> sampled = sampler().sampleStratified(20, excluded);
+
+        assertEquals(20, new HashSet<>(sampled).size());
+        sampled.forEach(id -> assertFalse(excluded.contains(id), "excluded " + id));
+    }
+
+    @Test
+    void sample_skipsExcludedAndNeverRepeats() {
+        RandomProductSampler sampler = sampler();
+        Set<Long> excluded = new HashSet<>();
+        for (long id = 1; id <= 60; id++) excluded.add(id);
+
+        List<Long> sampled = sampler.sample(40, excluded);
+
+        assertEquals(40, new HashSet<>(sampled).size());
+        sampled.forEach(id -> assertNotEquals("A", categoryOf(id)));
+        assertEquals(100, sampler.size());
+        assertEquals(40, sampler.sample(500, excluded).size());
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.be17pickcook.domain.recipe.controller;
+
+import org.example.be17pickcook.common.BaseResponseStatus;
+import org.example.be17pickcook.common.CursorCodec;
+import org.example.be17pickcook.common.PageResponse;
+import org.example.be17pickcook.common.exception.GlobalExceptionHandler;
+import org.example.be17pickcook.domain.recipe.service.RecipeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class RecipeControllerTest {
+
+    private final RecipeService recipeService = mock(RecipeService.class);
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // 서비스의 첫 단계와 같이 실제 코덱으로 커서를 해석
+        when(recipeService.getRecipesFilteredByCursor(any(), any(), any(), any(), anyString(), anyInt(), anyBoolean()))
+                .thenAnswer(invocation -> {
+                    CursorCodec.decode(invocation.getArgument(4));
+                    return new PageResponse<>(List.of(), 0, 0, 0, 10);
+                });
+        mockMvc = MockMvcBuilders.standaloneSetup(new RecipeController(recipeService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    private static String base64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void search_garbageCursorIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/recipe/search").param("cursor", "!!not-a-cursor!!"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(BaseResponseStatus.INVALID_CURSOR.getCode()));
+    }
+
+    @Test
+    void search_tamperedCursorIsBadRequest() throws Exception {
+        // Base64로는 올바르지만 "정렬 키:ID" 형식이 아니거나 ID가 숫자가 아님
+        for (String raw : new String[]{"no-separator", "2024-01-01:abc"}) {
+            mockMvc.perform(get("/api/recipe/search").param("cursor", base64(raw)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.code").value(BaseResponseStatus.INVALID_CURSOR.getCode()));
+        }
+    }
+
+    @Test
+    void search_emptyCursorIsFirstPage() throws Exception {
+        mockMvc.perform(get("/api/recipe/search").param("cursor", ""))
+                .andExpect(status().isOk());
+    }
+}
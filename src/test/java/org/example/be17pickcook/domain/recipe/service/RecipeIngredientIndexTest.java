@@ -0,0 +1,148 @@
+package org.example.be17pickcook.domain.recipe.service;
+
+import org.example.be17pickcook.common.ingredient.TestIngredientDictionaries;
+import org.example.be17pickcook.common.search.TopKCollector;
+import org.example.be17pickcook.domain.recipe.repository.RecipeIngredientRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipeIngredientIndexTest {
+
+    private RecipeIngredientIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RecipeIngredientIndex(null, TestIngredientDictionaries.of("달걀 = 계란"));
+    }
+
+    private static Map<Integer, Integer> toMap(RecipeIngredientIndex.MatchCounter counter) {
+        Map<Integer, Integer> result = new HashMap<>();
+        counter.forEach(result::put);
+        return result;
+    }
+
+    @Test
+    void countMatches_countsEachFridgeIngredientOncePerRecipe() {
+        index.addRecipe(1L, List.of("양파", "당근", "감자"));
+        index.addRecipe(2L, List.of("양파", "돼지고기"));
+        index.addRecipe(3L, List.of("두부"));
+
+        // 같은 재료가 냉장고에 여러 번 있어도 한 번만 셈
+        Map<Integer, Integer> counts = toMap(index.countMatches(List.of("양파", " 양파 ", "감자", "없는재료")));
+
+        assertEquals(Map.of(1, 2, 2, 1), counts);
+    }
+
+    @Test
+    void addRecipe_outOfOrderAndDuplicateIdsKeepPostingsSortedAndUnique() {
+        // posting list 끝이 아닌 중간 삽입 + 같은 레시피/재료 중복 등록
+        for (long recipeId : new long[]{50, 10, 30, 10, 40, 20, 50, 5}) {
+            index.addRecipe(recipeId, List.of("양파", "양파"));
+        }
+        index.addRecipe(20L, List.of("양파"));
+
+        Map<Integer, Integer> counts = toMap(index.countMatches(List.of("양파")));
+
+        assertEquals(Map.of(5, 1, 10, 1, 20, 1, 30, 1, 40, 1, 50, 1), counts);
+        assertEquals(6, index.recipeCount());
+        assertEquals(1, index.termCount());
+    }
+
+    @Test
+    void addRecipe_growsPostingAndRecipeArraysBeyondInitialCapacity() {
+        List<String> many = new ArrayList<>();
+        for (int i = 0; i < 40; i++) many.add("재료" + i);
+
+        // 초기 용량(16)을 넘는 재료 수 / 레시피 ID
+        for (long recipeId = 1000; recipeId > 0; recipeId -= 7) {
+            index.addRecipe(recipeId, many);
+        }
+
+        RecipeIngredientIndex.MatchCounter counter = index.countMatches(List.of("재료0", "재료39"));
+        Map<Integer, Integer> counts = toMap(counter);
+
+        assertEquals(143, counter.size());
+        assertEquals(40, index.termCount());
+        for (int recipeId = 1000; recipeId > 0; recipeId -= 7) {
+            assertEquals(2, counts.get(recipeId), "recipe " + recipeId);
+        }
+    }
+
+    @Test
+    void build_keepsRecipesAddedWhileReadingTheTable() {
+        // DB를 읽는 사이에 등록된 레시피 2는 읽은 행에 없음
+        RecipeIngredientRepository repository = (RecipeIngredientRepository) Proxy.newProxyInstance(
+                RecipeIngredientRepository.class.getClassLoader(), new Class<?>[]{RecipeIngredientRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("findAllRecipeIngredients")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    index.addRecipe(2L, List.of("양파", "두부"));
+                    List<Object[]> rows = new ArrayList<>();
+                    rows.add(new Object[]{1L, "양파"});
+                    rows.add(new Object[]{1L, "계란"});
+                    return rows;
+                });
+        index = new RecipeIngredientIndex(repository, TestIngredientDictionaries.of("달걀 = 계란"));
+        index.addRecipe(9L, List.of("당근"));
+
+        index.build();
+
+        assertEquals(Map.of(1, 1, 2, 1), toMap(index.countMatches(List.of("양파"))));
+        assertEquals(Map.of(2, 1), toMap(index.countMatches(List.of("두부"))));
+        // 재구축 전에만 있던 레시피는 사라짐
+        assertEquals(Map.of(), toMap(index.countMatches(List.of("당근"))));
+        assertEquals(2, index.recipeCount());
+        assertEquals(3, index.termCount());
+
+        // 재구축이 끝난 뒤의 추가는 다시 쌓이지 않음
+        index.addRecipe(3L, List.of("두부"));
+        index.build();
+        assertEquals(Map.of(2, 1), toMap(index.countMatches(List.of("두부"))));
+    }
+
+    @Test
+    void synonymsShareOneTerm() {
+        index.addRecipe(1L, List.of("계란", "대파"));
+
+        assertEquals(Map.of(1, 1), toMap(index.countMatches(List.of("달걀"))));
+    }
+
+    @Test
+    void scoreWeighted_usesWeightedCoverageOfRecipeIngredients() {
+        index.addRecipe(1L, List.of("양파", "당근", "감자", "대파"));
+        index.addRecipe(2L, List.of("양파", "두부"));
+        index.addRecipe(3L, List.of("두부"));
+
+        TopKCollector topK = new TopKCollector(10);
+        index.scoreWeighted(Map.of("양파", 1.0f, "감자", 0.5f), topK);
+
+        // 1: (1.0 + 0.5) / 4 = 0.375, 2: 1.0 / 2 = 0.5, 3: 후보 아님
+        assertEquals(2, topK.getCandidateCount());
+        assertArrayEquals(new long[]{2, 1}, topK.drainRankedIds());
+    }
+
+    @Test
+    void matchCounter_resizesWithoutLosingCounts() {
+        RecipeIngredientIndex.MatchCounter counter = new RecipeIngredientIndex.MatchCounter();
+        for (int round = 0; round < 3; round++) {
+            for (int recipeId = 0; recipeId < 1000; recipeId++) {
+                if (recipeId % (round + 1) == 0) counter.increment(recipeId * 31);
+            }
+        }
+
+        Map<Integer, Integer> counts = toMap(counter);
+
+        assertEquals(1000, counter.size());
+        assertEquals(1000, counts.size());
+        for (int recipeId = 0; recipeId < 1000; recipeId++) {
+            int expected = 1 + (recipeId % 2 == 0 ? 1 : 0) + (recipeId % 3 == 0 ? 1 : 0);
+            assertEquals(expected, counts.get(recipeId * 31), "recipe " + recipeId);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.be17pickcook.domain.recipe.service;
+
+import org.example.be17pickcook.domain.recipe.model.RecommendationMode;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipeRecommendationCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+    private static final RecommendationMode MODE = RecommendationMode.values()[0];
+
+    private static RecipeRecommendationCache.Entry entry(long fingerprint) {
+        return new RecipeRecommendationCache.Entry(fingerprint, TODAY, System.currentTimeMillis(), new long[]{3, 2, 1}, 3);
+    }
+
+    @Test
+    void get_returnsEntryForTheSameFridge() {
+        RecipeRecommendationCache cache = new RecipeRecommendationCache();
+        cache.put(1, MODE, cache.generation(1), entry(42L));
+
+        assertNotNull(cache.get(1, MODE, TODAY, 42L));
+    }
+
+    @Test
+    void get_evictsEntryBuiltFromADifferentFridge() {
+        RecipeRecommendationCache cache = new RecipeRecommendationCache();
+        cache.put(1, MODE, cache.generation(1), entry(42L));
+
+        // 냉장고가 바뀐 뒤 조회하면 제거되어 이전 냉장고로 돌아가도 다시 쓰지 않음
+        assertNull(cache.get(1, MODE, TODAY, 43L));
+        assertNull(cache.get(1, MODE, TODAY, 42L));
+    }
+
+    @Test
+    void get_evictsEntryFromAnotherDay() {
+        RecipeRecommendationCache cache = new RecipeRecommendationCache();
+        cache.put(1, MODE, cache.generation(1), entry(42L));
+
+        assertNull(cache.get(1, MODE, TODAY.plusDays(1), 42L));
+        assertNull(cache.get(1, MODE, TODAY, 42L));
+    }
+
+    @Test
+    void put_skipsEntryComputedBeforeAnEviction() {
+        RecipeRecommendationCache cache = new RecipeRecommendationCache();
+        long generation = cache.generation(1);
+        cache.evictUser(1);
+        cache.put(1, MODE, generation, entry(42L));
+
+        assertNull(cache.get(1, MODE, TODAY, 42L));
+    }
+
+    @Test
+    void covers_pagesInsideTheCachedRanking() {
+        RecipeRecommendationCache.Entry partial =
+                new RecipeRecommendationCache.Entry(1L, TODAY, 0L, new long[]{5, 4, 3, 2}, 10);
+
+        assertTrue(partial.covers(1, 2));
+        assertFalse(partial.covers(2, 2));
+        // 후보 전체가 캐시되어 있으면 뒤 페이지도 (빈 페이지로) 처리 가능
+        assertTrue(entry(1L).covers(5, 10));
+    }
+}
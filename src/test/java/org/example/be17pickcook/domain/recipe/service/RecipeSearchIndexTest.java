@@ -0,0 +1,39 @@
+package org.example.be17pickcook.domain.recipe.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecipeSearchIndexTest {
+
+    private static DataInputStream header(int docCount, int maxDocId, long checksum) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RecipeSearchIndex.writeHeader(new DataOutputStream(bytes), docCount, maxDocId, checksum);
+        return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    @Test
+    void headerMatches_sameRecipeCountMaxIdAndDictionary() throws IOException {
+        assertTrue(RecipeSearchIndex.headerMatches(header(120, 300, 42L), 120, 300, 42L));
+        assertTrue(RecipeSearchIndex.headerMatches(header(0, -1, 7L), 0, -1, 7L));
+    }
+
+    @Test
+    void headerMatches_rejectsChangedRecipesOrDictionary() throws IOException {
+        // 레시피 추가/삭제
+        assertFalse(RecipeSearchIndex.headerMatches(header(120, 300, 42L), 121, 301, 42L));
+        assertFalse(RecipeSearchIndex.headerMatches(header(120, 300, 42L), 119, 300, 42L));
+        // 삭제 + 추가로 개수는 같지만 최대 ID가 다름
+        assertFalse(RecipeSearchIndex.headerMatches(header(120, 300, 42L), 120, 305, 42L));
+        // 다른 사전
+        assertFalse(RecipeSearchIndex.headerMatches(header(120, 300, 42L), 120, 300, 43L));
+    }
+
+    @Test
+    void headerMatches_rejectsOtherFiles() throws IOException {
+        byte[] bytes = new byte[24];
+        assertFalse(RecipeSearchIndex.headerMatches(new DataInputStream(new ByteArrayInputStream(bytes)), 0, 0, 0L));
+    }
+}
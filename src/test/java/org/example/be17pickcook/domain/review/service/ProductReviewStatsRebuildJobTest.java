@@ -0,0 +1,86 @@
+package org.example.be17pickcook.domain.review.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Statement;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductReviewStatsRebuildJobTest {
+
+    // 값: review_count, rating_sum, 1~5점, with_image_count
+    private static long[] values(long... values) {
+        return values;
+    }
+
+    @Test
+    void plan_updatesOnlyDifferingRowsWithTheVersionThatWasRead() {
+        Map<Long, long[]> stored = Map.of(
+                1L, values(2, 9, 0, 0, 0, 1, 1, 1),
+                2L, values(1, 5, 0, 0, 0, 0, 1, 0));
+        Map<Long, Long> versions = Map.of(1L, 7L, 2L, 3L);
+        Map<Long, long[]> actual = Map.of(
+                1L, values(3, 12, 0, 0, 1, 1, 1, 1),
+                2L, values(1, 5, 0, 0, 0, 0, 1, 0));
+
+        ProductReviewStatsRebuildJob.Plan plan = ProductReviewStatsRebuildJob.plan(stored, versions, actual);
+
+        assertTrue(plan.inserts().isEmpty());
+        assertEquals(1, plan.updates().size());
+        // 값 8개 + WHERE product_id = ? AND version = ?
+        assertArrayEquals(new Object[]{3L, 12L, 0L, 0L, 1L, 1L, 1L, 1L, 1L, 7L}, plan.updates().get(0));
+    }
+
+    @Test
+    void plan_insertsMissingRowsAndZeroesProductsWithoutReviews() {
+        Map<Long, long[]> stored = Map.of(5L, values(2, 8, 0, 0, 0, 2, 0, 1));
+        Map<Long, Long> versions = Map.of(5L, 4L);
+        Map<Long, long[]> actual = Map.of(9L, values(1, 3, 0, 0, 1, 0, 0, 0));
+
+        ProductReviewStatsRebuildJob.Plan plan = ProductReviewStatsRebuildJob.plan(stored, versions, actual);
+
+        assertEquals(1, plan.inserts().size());
+        assertArrayEquals(new Object[]{9L, 1L, 3L, 0L, 0L, 1L, 0L, 0L, 0L}, plan.inserts().get(0));
+        // 리뷰가 모두 지워진 상품은 0으로 보정
+        assertEquals(1, plan.updates().size());
+        assertArrayEquals(new Object[]{0L, 0L, 0L, 0L, 0L, 0L, 0L, 0L, 5L, 4L}, plan.updates().get(0));
+    }
+
+    @Test
+    void plan_rowsAreInProductIdOrder() {
+        Map<Long, long[]> stored = new HashMap<>();
+        Map<Long, Long> versions = new HashMap<>();
+        Map<Long, long[]> actual = new HashMap<>();
+        for (long productId = 100; productId > 0; productId -= 3) {
+            stored.put(productId, values(0, 0, 0, 0, 0, 0, 0, 0));
+            versions.put(productId, 1L);
+            actual.put(productId, values(1, 5, 0, 0, 0, 0, 1, 0));
+        }
+
+        List<Object[]> updates = ProductReviewStatsRebuildJob.plan(stored, versions, actual).updates();
+
+        assertEquals(34, updates.size());
+        for (int i = 1; i < updates.size(); i++) {
+            assertTrue((Long) updates.get(i - 1)[8] < (Long) updates.get(i)[8]);
+        }
+    }
+
+    @Test
+    void plan_nothingToDoWhenInSync() {
+        Map<Long, long[]> stored = Map.of(1L, values(1, 4, 0, 0, 0, 1, 0, 0));
+        Map<Long, long[]> actual = Map.of(1L, values(1, 4, 0, 0, 0, 1, 0, 0));
+
+        ProductReviewStatsRebuildJob.Plan plan = ProductReviewStatsRebuildJob.plan(stored, Map.of(1L, 2L), actual);
+
+        assertTrue(plan.inserts().isEmpty());
+        assertTrue(plan.updates().isEmpty());
+    }
+
+    @Test
+    void countUpdated_skipsRowsWhoseVersionChanged() {
+        // version이 바뀐 행은 0행 갱신 → 다음 실행에서 다시 보정
+        assertEquals(2, ProductReviewStatsRebuildJob.countUpdated(new int[]{1, 0, Statement.SUCCESS_NO_INFO}));
+        assertEquals(0, ProductReviewStatsRebuildJob.countUpdated(new int[]{0, Statement.EXECUTE_FAILED}));
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.be17pickcook.domain.review.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductReviewStatsServiceTest {
+
+    // delta: [별점 합, 1점, 2점, 3점, 4점, 5점, 이미지 리뷰]
+
+    @Test
+    void updateDelta_movesOneReviewBetweenRatings() {
+        assertArrayEquals(new long[]{2, 0, 0, -1, 0, 1, 0},
+                ProductReviewStatsService.updateDelta(3, false, 5, false));
+        assertArrayEquals(new long[]{-4, 1, 0, 0, 0, -1, 0},
+                ProductReviewStatsService.updateDelta(5, true, 1, true));
+    }
+
+    @Test
+    void updateDelta_imageChangeOnly() {
+        assertArrayEquals(new long[]{0, 0, 0, 0, 0, 0, 1},
+                ProductReviewStatsService.updateDelta(4, false, 4, true));
+        assertArrayEquals(new long[]{0, 0, 0, 0, 0, 0, -1},
+                ProductReviewStatsService.updateDelta(4, true, 4, false));
+    }
+
+    @Test
+    void updateDelta_ratingAndImageTogether() {
+        assertArrayEquals(new long[]{-1, 0, 1, -1, 0, 0, 1},
+                ProductReviewStatsService.updateDelta(3, false, 2, true));
+    }
+
+    @Test
+    void updateDelta_missingPreviousRatingOnlyAddsTheNewOne() {
+        assertArrayEquals(new long[]{4, 0, 0, 0, 1, 0, 0},
+                ProductReviewStatsService.updateDelta(null, false, 4, false));
+    }
+
+    @Test
+    void updateDelta_outOfRangeRatingIsNotCountedInAnyBucket() {
+        // 0점은 별점 합에만 반영, 1~5점 칸은 건드리지 않음
+        assertArrayEquals(new long[]{3, 0, 0, 1, 0, 0, 0},
+                ProductReviewStatsService.updateDelta(0, false, 3, false));
+    }
+}